@@ -20,7 +20,7 @@ public class DefaultGetCastMemberByIdUseCase extends GetCastMemberByIdUseCase {
     public GetCastMemberByIdOutput execute(final GetCastMemberByIdCommand command) {
         final var id = CastMemberID.from(command.id());
 
-        return this.castMemberGateway.findById(id)
+        return this.castMemberGateway.findReadOnlyById(id)
             .map(GetCastMemberByIdOutput::from)
             .orElseThrow(castMemberNotFound(id));
     }
@@ -5,7 +5,9 @@ public record ListCastMembersCommand(
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    String count
 ) {
 
     public static ListCastMembersCommand with(
@@ -14,13 +16,38 @@ public record ListCastMembersCommand(
         final String terms,
         final String sort,
         final String direction
+    ) {
+        return with(page, perPage, terms, sort, direction, null);
+    }
+
+    public static ListCastMembersCommand with(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor
+    ) {
+        return with(page, perPage, terms, sort, direction, cursor, null);
+    }
+
+    public static ListCastMembersCommand with(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final String count
     ) {
         return new ListCastMembersCommand(
             page,
             perPage,
             terms,
             sort,
-            direction
+            direction,
+            cursor,
+            count
         );
     }
 
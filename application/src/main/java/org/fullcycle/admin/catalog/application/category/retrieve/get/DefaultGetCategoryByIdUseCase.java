@@ -20,7 +20,7 @@ public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
     public GetCategoryByIdOutput execute(final GetCategoryByIdCommand getCategoryByIdCommand) {
         final var id = CategoryID.from(getCategoryByIdCommand.id());
 
-        return this.categoryGateway.findById(id)
+        return this.categoryGateway.findReadOnlyById(id)
             .map(GetCategoryByIdOutput::from)
             .orElseThrow(categoryNotFound(id));
     }
@@ -1,6 +1,7 @@
 package org.fullcycle.admin.catalog.application.category.retrieve.list;
 
 import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
 import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 
@@ -21,8 +22,10 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
         final var terms = listCategoriesCommand.terms();
         final var sort = listCategoriesCommand.sort();
         final var direction = listCategoriesCommand.direction();
+        final var cursor = listCategoriesCommand.cursor();
+        final var countMode = CountMode.from(listCategoriesCommand.count());
 
-        final var query = new SearchQuery(page, perPage, terms, sort, direction);
+        final var query = new SearchQuery(page, perPage, terms, sort, direction, cursor, countMode);
 
         return this.categoryGateway.findAll(query)
             .map(ListCategoryOutput::from);
@@ -20,7 +20,7 @@ public class DefaultGetGenreByIdUseCase extends GetGenreByIdUseCase {
     public GetGenreByIdOutput execute(final GetGenreByIdCommand command) {
         final var genreId = GenreID.from(command.id());
 
-        return this.gateway.findById(genreId)
+        return this.gateway.findReadOnlyById(genreId)
             .map(GetGenreByIdOutput::from)
             .orElseThrow(genreNotFound(genreId));
     }
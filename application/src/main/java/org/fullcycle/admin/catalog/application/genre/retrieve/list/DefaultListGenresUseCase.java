@@ -1,6 +1,7 @@
 package org.fullcycle.admin.catalog.application.genre.retrieve.list;
 
 import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 
@@ -21,8 +22,10 @@ public class DefaultListGenresUseCase extends ListGenresUseCase {
         final var terms = command.terms();
         final var sort = command.sort();
         final var direction = command.direction();
+        final var cursor = command.cursor();
+        final var countMode = CountMode.from(command.count());
 
-        final var query = new SearchQuery(page, perPage, terms, sort, direction);
+        final var query = new SearchQuery(page, perPage, terms, sort, direction, cursor, countMode);
 
         return this.genreGateway.findAll(query)
             .map(ListGenresOutput::from);
@@ -0,0 +1,38 @@
+package org.fullcycle.admin.catalog.application.search.suggest;
+
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestUseCase extends SuggestUseCase {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final SuggestionGateway suggestionGateway;
+
+    public DefaultSuggestUseCase(final SuggestionGateway suggestionGateway) {
+        this.suggestionGateway = Objects.requireNonNull(suggestionGateway);
+    }
+
+    @Override
+    public List<SuggestOutput> execute(final SuggestCommand command) {
+        final var limit = command.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw DomainException.with(new Error("'limit' must be between 1 and %d".formatted(MAX_LIMIT)));
+        }
+
+        final var terms = command.terms();
+        if (Objects.isNull(terms) || terms.isBlank()) {
+            return List.of();
+        }
+
+        return this.suggestionGateway.suggest(terms.trim(), limit)
+            .stream()
+            .map(SuggestOutput::from)
+            .toList();
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.fullcycle.admin.catalog.application.search.suggest;
+
+public record SuggestCommand(
+    String terms,
+    int limit
+) {
+
+    public static SuggestCommand with(final String terms, final int limit) {
+        return new SuggestCommand(terms, limit);
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.fullcycle.admin.catalog.application.search.suggest;
+
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+
+public record SuggestOutput(
+    String id,
+    String name,
+    SuggestionType type
+) {
+
+    public static SuggestOutput from(final Suggestion suggestion) {
+        return new SuggestOutput(
+            suggestion.id(),
+            suggestion.name(),
+            suggestion.type()
+        );
+    }
+
+}
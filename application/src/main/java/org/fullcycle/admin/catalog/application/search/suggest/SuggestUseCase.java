@@ -0,0 +1,9 @@
+package org.fullcycle.admin.catalog.application.search.suggest;
+
+import org.fullcycle.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class SuggestUseCase extends UseCase<SuggestCommand, List<SuggestOutput>> {
+
+}
@@ -0,0 +1,66 @@
+package org.fullcycle.admin.catalog.application.video;
+
+import org.fullcycle.admin.catalog.domain.Identifier;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.validation.ValidationHandler;
+import org.fullcycle.admin.catalog.domain.validation.handler.NotificationHandler;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class AggregateReferences {
+
+    private AggregateReferences() {
+    }
+
+    public static <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        if (Objects.isNull(ids)) {
+            return Collections.emptySet();
+        }
+
+        return ids.stream()
+            .map(mapper)
+            .collect(Collectors.toSet());
+    }
+
+    public static <T extends Identifier> ValidationHandler validate(
+        final Set<T> ids,
+        final Function<Iterable<T>, List<T>> existsByIds,
+        final String aggregateName
+    ) {
+        if (Objects.isNull(ids) || ids.isEmpty()) {
+            return NotificationHandler.create();
+        }
+
+        return validate(ids, new HashSet<>(existsByIds.apply(ids)), aggregateName);
+    }
+
+    // checks against ids fetched up front, so a batch looks each aggregate up once
+    public static <T extends Identifier> ValidationHandler validate(
+        final Set<T> ids,
+        final Set<T> existingIds,
+        final String aggregateName
+    ) {
+        final var notification = NotificationHandler.create();
+        if (Objects.isNull(ids) || ids.isEmpty()) {
+            return notification;
+        }
+
+        final var missingIds = ids.stream()
+            .filter(it -> !existingIds.contains(it))
+            .map(Identifier::getValue)
+            .collect(Collectors.joining(", "));
+
+        if (!missingIds.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIds)));
+        }
+
+        return notification;
+    }
+
+}
@@ -1,6 +1,6 @@
 package org.fullcycle.admin.catalog.application.video.create;
 
-import org.fullcycle.admin.catalog.domain.Identifier;
+import org.fullcycle.admin.catalog.application.video.AggregateReferences;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
@@ -9,16 +9,19 @@ import org.fullcycle.admin.catalog.domain.exception.InternalErrorException;
 import org.fullcycle.admin.catalog.domain.exception.NotificationException;
 import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
-import org.fullcycle.admin.catalog.domain.validation.Error;
 import org.fullcycle.admin.catalog.domain.validation.ValidationHandler;
 import org.fullcycle.admin.catalog.domain.validation.handler.NotificationHandler;
 import org.fullcycle.admin.catalog.domain.video.*;
 
 import java.time.Year;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
+import static org.fullcycle.admin.catalog.application.video.AggregateReferences.toIdentifier;
 import static org.fullcycle.admin.catalog.domain.video.MediaType.*;
 
 public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
@@ -84,27 +87,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var videoId = video.getId();
 
         try {
-            final var videoMedia = command.video()
-                .map(resource -> this.mediaResourceGateway.storeAudioVideo(videoId, VideoResource.with(resource, VIDEO)));
-
-            final var trailerMedia = command.trailer()
-                .map(resource -> this.mediaResourceGateway.storeAudioVideo(videoId, VideoResource.with(resource, TRAILER)));
-
-            final var bannerMedia = command.banner()
-                .map(resource -> this.mediaResourceGateway.storeImage(videoId, VideoResource.with(resource, BANNER)));
-
-            final var thumbnailMedia = command.thumbnail()
-                .map(resource -> this.mediaResourceGateway.storeImage(videoId, VideoResource.with(resource, THUMBNAIL)));
-
-            final var thumbnailHalfMedia = command.thumbnailHalf()
-                .map(resource -> this.mediaResourceGateway.storeImage(videoId, VideoResource.with(resource, THUMBNAIL_HALF)));
-
-            videoMedia.ifPresent(video::updateVideoMedia);
-            trailerMedia.ifPresent(video::updateTrailerMedia);
-            bannerMedia.ifPresent(video::updateBannerMedia);
-            thumbnailMedia.ifPresent(video::updateThumbnailMedia);
-            thumbnailHalfMedia.ifPresent(video::updateThumbnailHalfMedia);
-
+            storeMedias(command, video);
             return this.videoGateway.create(video);
         } catch (final Throwable throwable) {
             this.mediaResourceGateway.clearResources(videoId);
@@ -115,18 +98,71 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         }
     }
 
-    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
-        if (Objects.isNull(ids)) {
-            return Collections.emptySet();
+    private void storeMedias(final CreateVideoCommand command, final Video video) throws InterruptedException {
+        final var videoId = video.getId();
+        final var uploads = new ArrayList<Callable<Consumer<Video>>>();
+
+        command.video().ifPresent(resource -> uploads.add(() -> {
+            final var media = this.mediaResourceGateway.storeAudioVideo(videoId, VideoResource.with(resource, VIDEO));
+            return it -> it.updateVideoMedia(media);
+        }));
+
+        command.trailer().ifPresent(resource -> uploads.add(() -> {
+            final var media = this.mediaResourceGateway.storeAudioVideo(videoId, VideoResource.with(resource, TRAILER));
+            return it -> it.updateTrailerMedia(media);
+        }));
+
+        command.banner().ifPresent(resource -> uploads.add(() -> {
+            final var media = this.mediaResourceGateway.storeImage(videoId, VideoResource.with(resource, BANNER));
+            return it -> it.updateBannerMedia(media);
+        }));
+
+        command.thumbnail().ifPresent(resource -> uploads.add(() -> {
+            final var media = this.mediaResourceGateway.storeImage(videoId, VideoResource.with(resource, THUMBNAIL));
+            return it -> it.updateThumbnailMedia(media);
+        }));
+
+        command.thumbnailHalf().ifPresent(resource -> uploads.add(() -> {
+            final var media = this.mediaResourceGateway.storeImage(videoId, VideoResource.with(resource, THUMBNAIL_HALF));
+            return it -> it.updateThumbnailHalfMedia(media);
+        }));
+
+        if (uploads.isEmpty()) {
+            return;
         }
 
-        return ids.stream()
-            .map(mapper)
-            .collect(Collectors.toSet());
+        // Closing the executor waits for cancelled uploads to stop, so clearResources never races with a write
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var completion = new ExecutorCompletionService<Consumer<Video>>(executor);
+            final var pending = uploads.stream()
+                .map(completion::submit)
+                .toList();
+
+            try {
+                for (int i = 0; i < pending.size(); i++) {
+                    completion.take().get().accept(video);
+                }
+            } catch (final ExecutionException exception) {
+                pending.forEach(it -> it.cancel(true));
+                // an upload fails the same way it would have on the caller's thread
+                switch (exception.getCause()) {
+                    case RuntimeException cause -> throw cause;
+                    case Error cause -> throw cause;
+                    case Throwable cause -> throw InternalErrorException.with(
+                        "An error has occurred on storing a media of video with ID: %s".formatted(videoId.getValue()),
+                        cause
+                    );
+                }
+            } catch (final InterruptedException exception) {
+                pending.forEach(it -> it.cancel(true));
+                Thread.currentThread().interrupt();
+                throw exception;
+            }
+        }
     }
 
     private ValidationHandler validateCategories(final Set<CategoryID> categoryIds) {
-        return validateExternalAggregateIds(
+        return AggregateReferences.validate(
             categoryIds,
             this.categoryGateway::existsByIds,
             "categories"
@@ -134,7 +170,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     }
 
     private ValidationHandler validateGenres(final Set<GenreID> genreIds) {
-        return validateExternalAggregateIds(
+        return AggregateReferences.validate(
             genreIds,
             this.genreGateway::existsByIds,
             "genres"
@@ -142,37 +178,11 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     }
 
     private ValidationHandler validateCastMembers(final Set<CastMemberID> castMemberIds) {
-        return validateExternalAggregateIds(
+        return AggregateReferences.validate(
             castMemberIds,
             this.castMemberGateway::existsByIds,
             "cast members"
         );
     }
 
-    private <T extends Identifier> ValidationHandler validateExternalAggregateIds(
-        final Set<T> ids,
-        final Function<Iterable<T>, List<T>> existsByIds,
-        final String aggregateName
-    ) {
-        final var notification = NotificationHandler.create();
-        if (Objects.isNull(ids) || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsToMessage = missingIds.stream()
-                .map(Identifier::getValue)
-                .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIdsToMessage)));
-        }
-
-        return notification;
-    }
-
 }
@@ -0,0 +1,145 @@
+package org.fullcycle.admin.catalog.application.video.ingest;
+
+import org.fullcycle.admin.catalog.application.video.AggregateReferences;
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import org.fullcycle.admin.catalog.domain.Identifier;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.validation.handler.NotificationHandler;
+import org.fullcycle.admin.catalog.domain.video.Rating;
+import org.fullcycle.admin.catalog.domain.video.Video;
+import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.fullcycle.admin.catalog.application.video.AggregateReferences.toIdentifier;
+
+// creates a chunk of medialess videos, every referenced aggregate is checked once for the whole chunk
+public class DefaultIngestVideosUseCase extends IngestVideosUseCase {
+
+    private static final Logger LOGGER = System.getLogger(DefaultIngestVideosUseCase.class.getName());
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultIngestVideosUseCase(
+        final CategoryGateway categoryGateway,
+        final GenreGateway genreGateway,
+        final CastMemberGateway castMemberGateway,
+        final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public List<IngestVideoOutput> execute(final List<CreateVideoCommand> commands) {
+        final var existingCategories = existing(commands, CreateVideoCommand::categories, CategoryID::from, this.categoryGateway::existsByIds);
+        final var existingGenres = existing(commands, CreateVideoCommand::genres, GenreID::from, this.genreGateway::existsByIds);
+        final var existingCastMembers = existing(commands, CreateVideoCommand::castMembers, CastMemberID::from, this.castMemberGateway::existsByIds);
+
+        final var outputs = new ArrayList<IngestVideoOutput>(commands.size());
+        final var videos = new ArrayList<Video>(commands.size());
+        final var positions = new ArrayList<Integer>(commands.size());
+
+        for (final var command : commands) {
+            final var categories = toIdentifier(command.categories(), CategoryID::from);
+            final var genres = toIdentifier(command.genres(), GenreID::from);
+            final var castMembers = toIdentifier(command.castMembers(), CastMemberID::from);
+
+            final var notification = NotificationHandler.create();
+            notification.append(AggregateReferences.validate(categories, existingCategories, "categories"));
+            notification.append(AggregateReferences.validate(genres, existingGenres, "genres"));
+            notification.append(AggregateReferences.validate(castMembers, existingCastMembers, "cast members"));
+            requireNonNull(notification, command.duration(), "duration");
+            requireNonNull(notification, command.opened(), "opened");
+            requireNonNull(notification, command.published(), "published");
+
+            if (notification.hasErrors()) {
+                outputs.add(IngestVideoOutput.rejected(notification.getErrors()));
+                continue;
+            }
+
+            final var video = Video.newVideo(
+                command.title(),
+                command.description(),
+                Objects.isNull(command.launchedAt()) ? null : Year.of(command.launchedAt()),
+                command.duration(),
+                Rating.of(command.rating()).orElse(null),
+                command.opened(),
+                command.published(),
+                categories,
+                genres,
+                castMembers
+            );
+
+            video.validate(notification);
+
+            if (notification.hasErrors()) {
+                outputs.add(IngestVideoOutput.rejected(notification.getErrors()));
+                continue;
+            }
+
+            positions.add(outputs.size());
+            outputs.add(null);
+            videos.add(video);
+        }
+
+        if (videos.isEmpty()) {
+            return outputs;
+        }
+
+        // the valid rows of a chunk share one transaction, so they are created or rejected together
+        try {
+            final var createdVideos = this.videoGateway.createAll(videos);
+            for (int i = 0; i < createdVideos.size(); i++) {
+                outputs.set(positions.get(i), IngestVideoOutput.created(createdVideos.get(i)));
+            }
+        } catch (final RuntimeException exception) {
+            // the cause may carry SQL or constraint names, so it is logged and the rows get a generic error
+            LOGGER.log(Level.ERROR, "Failed to create a chunk of %d videos".formatted(videos.size()), exception);
+            final var error = new Error("An error has occurred on creating the videos of this chunk");
+            positions.forEach(it -> outputs.set(it, IngestVideoOutput.rejected(List.of(error))));
+        }
+
+        return outputs;
+    }
+
+    private static <T extends Identifier> Set<T> existing(
+        final List<CreateVideoCommand> commands,
+        final Function<CreateVideoCommand, Set<String>> idsOf,
+        final Function<String, T> mapper,
+        final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var ids = new HashSet<T>();
+        for (final var command : commands) {
+            ids.addAll(toIdentifier(idsOf.apply(command), mapper));
+        }
+
+        return ids.isEmpty() ? Set.of() : new HashSet<>(existsByIds.apply(ids));
+    }
+
+    private static void requireNonNull(final NotificationHandler notification, final Object value, final String field) {
+        if (Objects.isNull(value)) {
+            notification.append(new Error("'%s' should not be null".formatted(field)));
+        }
+    }
+
+}
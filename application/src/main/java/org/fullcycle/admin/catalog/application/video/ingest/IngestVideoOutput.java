@@ -0,0 +1,26 @@
+package org.fullcycle.admin.catalog.application.video.ingest;
+
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.Video;
+
+import java.util.List;
+import java.util.Objects;
+
+public record IngestVideoOutput(
+    String id,
+    List<Error> errors
+) {
+
+    public static IngestVideoOutput created(final Video video) {
+        return new IngestVideoOutput(video.getId().getValue(), List.of());
+    }
+
+    public static IngestVideoOutput rejected(final List<Error> errors) {
+        return new IngestVideoOutput(null, List.copyOf(errors));
+    }
+
+    public boolean isCreated() {
+        return Objects.nonNull(this.id);
+    }
+
+}
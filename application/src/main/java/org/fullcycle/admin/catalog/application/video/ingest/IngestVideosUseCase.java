@@ -0,0 +1,10 @@
+package org.fullcycle.admin.catalog.application.video.ingest;
+
+import org.fullcycle.admin.catalog.application.UseCase;
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+
+import java.util.List;
+
+public abstract class IngestVideosUseCase extends UseCase<List<CreateVideoCommand>, List<IngestVideoOutput>> {
+
+}
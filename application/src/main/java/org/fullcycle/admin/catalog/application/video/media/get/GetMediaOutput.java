@@ -1,9 +1,11 @@
 package org.fullcycle.admin.catalog.application.video.media.get;
 
 import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
 
 public record GetMediaOutput(
-    byte[] content,
+    ResourceContent content,
+    long size,
     String contentType,
     String name
 ) {
@@ -13,6 +15,7 @@ public record GetMediaOutput(
     ) {
         return new GetMediaOutput(
             resource.content(),
+            resource.size(),
             resource.contentType(),
             resource.name()
         );
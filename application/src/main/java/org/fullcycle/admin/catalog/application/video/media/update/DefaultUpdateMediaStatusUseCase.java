@@ -1,15 +1,14 @@
 package org.fullcycle.admin.catalog.application.video.media.update;
 
 import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
-import org.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
-import org.fullcycle.admin.catalog.domain.video.MediaStatus;
-import org.fullcycle.admin.catalog.domain.video.MediaType;
 import org.fullcycle.admin.catalog.domain.video.Video;
 import org.fullcycle.admin.catalog.domain.video.VideoGateway;
 import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.fullcycle.admin.catalog.domain.video.VideoMedia;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
@@ -27,32 +26,27 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
         final var folder = command.folder();
         final var filename = command.filename();
 
-        final var video = this.videoGateway.findById(videoId)
-            .orElseThrow(() -> notFound(videoId));
+        final var media = this.videoGateway.findAudioVideoMedias(Set.of(videoId)).stream()
+            .filter(it -> it.media().id().equals(resourceId))
+            .findFirst();
 
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-
-        if (matches(resourceId, video.getVideo().orElse(null))) {
-            update(encodedPath, video, mediaStatus, MediaType.VIDEO);
+        // a miss tells an unknown video from a replaced media without loading the aggregate
+        if (media.isEmpty()) {
+            if (this.videoGateway.findPreviewById(videoId).isEmpty()) {
+                throw notFound(videoId);
+            }
+            return;
         }
 
-        if (matches(resourceId, video.getTrailer().orElse(null))) {
-            update(encodedPath, video, mediaStatus, MediaType.TRAILER);
-        }
-    }
+        final var encodedPath = "%s/%s".formatted(folder, filename);
 
-    private void update(final String encodedPath, final Video video, final MediaStatus mediaStatus, final MediaType mediaType) {
-        final Optional<Video> videoOptional = switch (mediaStatus) {
+        final Optional<VideoMedia> updated = switch (mediaStatus) {
             case PENDING -> Optional.empty();
-            case PROCESSING -> Optional.of(video.processing(mediaType));
-            case COMPLETED -> Optional.of(video.completed(mediaType, encodedPath));
+            case PROCESSING -> Optional.of(media.get().processing());
+            case COMPLETED -> Optional.of(media.get().completed(encodedPath));
         };
 
-        videoOptional.ifPresent(this.videoGateway::update);
-    }
-
-    private boolean matches(final String resourceId, final AudioVideoMedia audioVideoMedia) {
-        return audioVideoMedia != null && audioVideoMedia.id().equals(resourceId);
+        updated.ifPresent(this.videoGateway::updateAudioVideoMedia);
     }
 
     private NotFoundException notFound(final VideoID videoId) {
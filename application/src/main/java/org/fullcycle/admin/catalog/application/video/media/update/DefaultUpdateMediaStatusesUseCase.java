@@ -0,0 +1,71 @@
+package org.fullcycle.admin.catalog.application.video.media.update;
+
+import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.fullcycle.admin.catalog.domain.video.VideoMedia;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class DefaultUpdateMediaStatusesUseCase extends UpdateMediaStatusesUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultUpdateMediaStatusesUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UpdateMediaStatusesOutput execute(final List<UpdateMediaStatusCommand> commands) {
+        if (commands.isEmpty()) {
+            return UpdateMediaStatusesOutput.with(0, List.of());
+        }
+
+        final var videoIds = commands.stream()
+            .map(command -> VideoID.from(command.videoId()))
+            .collect(Collectors.toSet());
+
+        final var medias = new HashMap<String, VideoMedia>();
+        for (final var media : this.videoGateway.findAudioVideoMedias(videoIds)) {
+            medias.put(keyOf(media.videoId().getValue(), media.media().id()), media);
+        }
+
+        // commands are applied in the order given, a later result of the same media replaces an earlier one
+        final var changed = new LinkedHashMap<String, VideoMedia>();
+        final var unmatched = new ArrayList<UpdateMediaStatusCommand>();
+        for (final var command : commands) {
+            final var key = keyOf(command.videoId(), command.resourceId());
+            final var current = medias.get(key);
+            if (Objects.isNull(current)) {
+                unmatched.add(command);
+                continue;
+            }
+
+            final var updated = switch (command.mediaStatus()) {
+                case PENDING -> null;
+                case PROCESSING -> current.processing();
+                case COMPLETED -> current.completed("%s/%s".formatted(command.folder(), command.filename()));
+            };
+
+            if (Objects.nonNull(updated)) {
+                medias.put(key, updated);
+                changed.put(key, updated);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            this.videoGateway.updateAudioVideoMedias(List.copyOf(changed.values()));
+        }
+
+        return UpdateMediaStatusesOutput.with(changed.size(), unmatched);
+    }
+
+    private static String keyOf(final String videoId, final String resourceId) {
+        return videoId + ':' + resourceId;
+    }
+
+}
@@ -0,0 +1,14 @@
+package org.fullcycle.admin.catalog.application.video.media.update;
+
+import java.util.List;
+
+public record UpdateMediaStatusesOutput(
+    int updated,
+    List<UpdateMediaStatusCommand> unmatched
+) {
+
+    public static UpdateMediaStatusesOutput with(final int updated, final List<UpdateMediaStatusCommand> unmatched) {
+        return new UpdateMediaStatusesOutput(updated, List.copyOf(unmatched));
+    }
+
+}
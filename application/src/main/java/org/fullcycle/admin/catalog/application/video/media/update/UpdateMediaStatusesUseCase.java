@@ -0,0 +1,9 @@
+package org.fullcycle.admin.catalog.application.video.media.update;
+
+import org.fullcycle.admin.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class UpdateMediaStatusesUseCase extends UseCase<List<UpdateMediaStatusCommand>, UpdateMediaStatusesOutput> {
+
+}
@@ -3,9 +3,11 @@ package org.fullcycle.admin.catalog.application.video.retrieve.list;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.video.VideoGateway;
 import org.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import org.fullcycle.admin.catalog.domain.video.VideoSearchQueryCompiler;
 
 import java.util.Objects;
 
@@ -27,8 +29,10 @@ public class DefaultListVideosUseCase extends ListVideosUseCase {
         final var sort = command.sort();
         final var direction = command.direction();
         final var categories = mapTo(command.categories(), CategoryID::from);
-        final var genres = mapTo(command.categories(), GenreID::from);
-        final var castMembers = mapTo(command.categories(), CastMemberID::from);
+        final var genres = mapTo(command.genres(), GenreID::from);
+        final var castMembers = mapTo(command.castMembers(), CastMemberID::from);
+        final var cursor = command.cursor();
+        final var countMode = CountMode.from(command.count());
 
         final var query = new VideoSearchQuery(
             page,
@@ -38,10 +42,14 @@ public class DefaultListVideosUseCase extends ListVideosUseCase {
             direction,
             categories,
             genres,
-            castMembers
+            castMembers,
+            cursor,
+            countMode
         );
 
-        return this.videoGateway.findAll(query)
+        return VideoSearchQueryCompiler.compile(query)
+            .map(this.videoGateway::findAll)
+            .orElseGet(() -> Pagination.empty(page, perPage))
             .map(ListVideosOutput::from);
     }
 
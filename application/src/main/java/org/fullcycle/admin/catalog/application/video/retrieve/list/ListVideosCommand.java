@@ -10,7 +10,9 @@ public record ListVideosCommand(
     String direction,
     Set<String> categories,
     Set<String> genres,
-    Set<String> castMembers
+    Set<String> castMembers,
+    String cursor,
+    String count
 ) {
 
     public static ListVideosCommand with(
@@ -22,6 +24,35 @@ public record ListVideosCommand(
         final Set<String> categories,
         final Set<String> genres,
         final Set<String> castMembers
+    ) {
+        return with(page, perPage, terms, sort, direction, categories, genres, castMembers, null);
+    }
+
+    public static ListVideosCommand with(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final String cursor
+    ) {
+        return with(page, perPage, terms, sort, direction, categories, genres, castMembers, cursor, null);
+    }
+
+    public static ListVideosCommand with(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final String cursor,
+        final String count
     ) {
         return new ListVideosCommand(
             page,
@@ -31,7 +62,9 @@ public record ListVideosCommand(
             direction,
             categories,
             genres,
-            castMembers
+            castMembers,
+            cursor,
+            count
         );
     }
 
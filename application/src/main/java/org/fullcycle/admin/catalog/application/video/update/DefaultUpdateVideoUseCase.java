@@ -1,6 +1,6 @@
 package org.fullcycle.admin.catalog.application.video.update;
 
-import org.fullcycle.admin.catalog.domain.Identifier;
+import org.fullcycle.admin.catalog.application.video.AggregateReferences;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
@@ -11,17 +11,15 @@ import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
 import org.fullcycle.admin.catalog.domain.exception.NotificationException;
 import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
-import org.fullcycle.admin.catalog.domain.validation.Error;
 import org.fullcycle.admin.catalog.domain.validation.ValidationHandler;
 import org.fullcycle.admin.catalog.domain.validation.handler.NotificationHandler;
 import org.fullcycle.admin.catalog.domain.video.*;
 
 import java.time.Year;
 import java.util.*;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+import static org.fullcycle.admin.catalog.application.video.AggregateReferences.toIdentifier;
 import static org.fullcycle.admin.catalog.domain.video.MediaType.*;
 
 public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
@@ -125,18 +123,8 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         }
     }
 
-    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
-        if (Objects.isNull(ids)) {
-            return Collections.emptySet();
-        }
-
-        return ids.stream()
-            .map(mapper)
-            .collect(Collectors.toSet());
-    }
-
     private ValidationHandler validateCategories(final Set<CategoryID> categoryIds) {
-        return validateExternalAggregateIds(
+        return AggregateReferences.validate(
             categoryIds,
             this.categoryGateway::existsByIds,
             "categories"
@@ -144,7 +132,7 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     }
 
     private ValidationHandler validateGenres(final Set<GenreID> genreIds) {
-        return validateExternalAggregateIds(
+        return AggregateReferences.validate(
             genreIds,
             this.genreGateway::existsByIds,
             "genres"
@@ -152,37 +140,11 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     }
 
     private ValidationHandler validateCastMembers(final Set<CastMemberID> castMemberIds) {
-        return validateExternalAggregateIds(
+        return AggregateReferences.validate(
             castMemberIds,
             this.castMemberGateway::existsByIds,
             "cast members"
         );
     }
 
-    private <T extends Identifier> ValidationHandler validateExternalAggregateIds(
-        final Set<T> ids,
-        final Function<Iterable<T>, List<T>> existsByIds,
-        final String aggregateName
-    ) {
-        final var notification = NotificationHandler.create();
-        if (Objects.isNull(ids) || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsToMessage = missingIds.stream()
-                .map(Identifier::getValue)
-                .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIdsToMessage)));
-        }
-
-        return notification;
-    }
-
 }
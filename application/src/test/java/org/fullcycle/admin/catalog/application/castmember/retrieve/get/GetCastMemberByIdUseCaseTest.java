@@ -41,7 +41,7 @@ class GetCastMemberByIdUseCaseTest extends UseCaseTest {
         final var castMember = CastMember.newMember(expectedName, expectedType);
         final var expectedId = castMember.getId();
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findReadOnlyById(expectedId))
             .thenReturn(Optional.of(CastMember.with(castMember)));
 
         final var command = GetCastMemberByIdCommand.with(expectedId.getValue());
@@ -60,7 +60,7 @@ class GetCastMemberByIdUseCaseTest extends UseCaseTest {
         final var expectedId = CastMemberID.unique();
         final var expectedErrorMessage = "CastMember with ID %s was not found".formatted(expectedId.getValue());
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findReadOnlyById(expectedId))
             .thenReturn(Optional.empty());
 
         final var command = GetCastMemberByIdCommand.with(expectedId.getValue());
@@ -71,7 +71,7 @@ class GetCastMemberByIdUseCaseTest extends UseCaseTest {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(castMemberGateway, times(1)).findById(expectedId);
+        verify(castMemberGateway, times(1)).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -79,7 +79,7 @@ class GetCastMemberByIdUseCaseTest extends UseCaseTest {
         final var expectedId = CastMemberID.unique();
         final var expectedErrorMessage = "Gateway unexpected error";
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findReadOnlyById(expectedId))
             .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var command = GetCastMemberByIdCommand.with(expectedId.getValue());
@@ -90,7 +90,7 @@ class GetCastMemberByIdUseCaseTest extends UseCaseTest {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(castMemberGateway, times(1)).findById(expectedId);
+        verify(castMemberGateway, times(1)).findReadOnlyById(expectedId);
     }
 
 }
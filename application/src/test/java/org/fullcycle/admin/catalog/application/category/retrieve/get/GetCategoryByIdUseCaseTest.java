@@ -41,7 +41,7 @@ class GetCategoryByIdUseCaseTest extends UseCaseTest {
         final var category = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
         final var expectedId = category.getId();
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findReadOnlyById(expectedId))
             .thenReturn(Optional.of(Category.with(category)));
 
         final var command = GetCategoryByIdCommand.with(expectedId.getValue());
@@ -62,7 +62,7 @@ class GetCategoryByIdUseCaseTest extends UseCaseTest {
         final var expectedId = CategoryID.unique();
         final var expectedErrorMessage = "Category with ID %s was not found".formatted(expectedId.getValue());
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findReadOnlyById(expectedId))
             .thenReturn(Optional.empty());
 
         final var command = GetCategoryByIdCommand.with(expectedId.getValue());
@@ -73,7 +73,7 @@ class GetCategoryByIdUseCaseTest extends UseCaseTest {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -81,7 +81,7 @@ class GetCategoryByIdUseCaseTest extends UseCaseTest {
         final var expectedId = CategoryID.unique();
         final var expectedErrorMessage = "Gateway unexpected error";
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findReadOnlyById(expectedId))
             .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var command = GetCategoryByIdCommand.with(expectedId.getValue());
@@ -92,7 +92,7 @@ class GetCategoryByIdUseCaseTest extends UseCaseTest {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findReadOnlyById(expectedId);
     }
 
 }
@@ -46,7 +46,7 @@ class GetGenreByIdUseCaseTest extends UseCaseTest {
         );
         expected.addCategories(categories);
 
-        when(gateway.findById(expectedId)).thenReturn(Optional.of(expected));
+        when(gateway.findReadOnlyById(expectedId)).thenReturn(Optional.of(expected));
 
         final var command = GetGenreByIdCommand.with(expectedId.getValue());
         final var actual = useCase.execute(command);
@@ -59,7 +59,7 @@ class GetGenreByIdUseCaseTest extends UseCaseTest {
         assertEquals(expected.getUpdatedAt(), actual.updatedAt());
         assertEquals(expected.getDeletedAt(), actual.deletedAt());
 
-        verify(gateway, atMostOnce()).findById(expectedId);
+        verify(gateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -67,7 +67,7 @@ class GetGenreByIdUseCaseTest extends UseCaseTest {
         final var expectedId = GenreID.unique();
         final var expectedErrorMessage = "Genre with ID %s was not found".formatted(expectedId.getValue());
 
-        when(gateway.findById(expectedId)).thenReturn(Optional.empty());
+        when(gateway.findReadOnlyById(expectedId)).thenReturn(Optional.empty());
 
         final var command = GetGenreByIdCommand.with(expectedId.getValue());
         final var actual = assertThrows(
@@ -77,7 +77,7 @@ class GetGenreByIdUseCaseTest extends UseCaseTest {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(gateway, atMostOnce()).findById(expectedId);
+        verify(gateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -86,7 +86,7 @@ class GetGenreByIdUseCaseTest extends UseCaseTest {
         final var expectedId = expected.getId();
         final var expectedErrorMessage = "Gateway error";
 
-        doThrow(new IllegalStateException(expectedErrorMessage)).when(gateway).findById(any());
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(gateway).findReadOnlyById(any());
 
         final var command = GetGenreByIdCommand.with(expectedId.getValue());
         final var actual = assertThrows(
@@ -96,7 +96,7 @@ class GetGenreByIdUseCaseTest extends UseCaseTest {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(gateway, atMostOnce()).findById(expectedId);
+        verify(gateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
 }
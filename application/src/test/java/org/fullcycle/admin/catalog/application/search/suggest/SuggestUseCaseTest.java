@@ -0,0 +1,82 @@
+package org.fullcycle.admin.catalog.application.search.suggest;
+
+import org.fullcycle.admin.catalog.application.UseCaseTest;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SuggestUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private SuggestionGateway suggestionGateway;
+
+    @InjectMocks
+    private DefaultSuggestUseCase useCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(
+            suggestionGateway
+        );
+    }
+
+    @Test
+    void givenValidTerms_whenCallsSuggest_shouldReturnSuggestions() {
+        final var expectedTerms = "star";
+        final var expectedLimit = 10;
+        final var suggestions = List.of(
+            Suggestion.with("123", "Star Wars", SuggestionType.VIDEO),
+            Suggestion.with("456", "Stardust", SuggestionType.CAST_MEMBER)
+        );
+
+        when(suggestionGateway.suggest(expectedTerms, expectedLimit)).thenReturn(suggestions);
+
+        final var actualOutput = useCase.execute(SuggestCommand.with("  star ", expectedLimit));
+
+        assertEquals(2, actualOutput.size());
+        assertEquals("123", actualOutput.get(0).id());
+        assertEquals("Star Wars", actualOutput.get(0).name());
+        assertEquals(SuggestionType.VIDEO, actualOutput.get(0).type());
+        assertEquals(SuggestionType.CAST_MEMBER, actualOutput.get(1).type());
+
+        verify(suggestionGateway, times(1)).suggest(expectedTerms, expectedLimit);
+    }
+
+    @Test
+    void givenBlankTerms_whenCallsSuggest_shouldReturnEmptyWithoutSearching() {
+        final var actualOutput = useCase.execute(SuggestCommand.with("  ", 10));
+
+        assertTrue(actualOutput.isEmpty());
+        verify(suggestionGateway, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    void givenAnInvalidLimit_whenCallsSuggest_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'limit' must be between 1 and 50";
+
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> useCase.execute(SuggestCommand.with("star", 51))
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(suggestionGateway, never()).suggest(anyString(), anyInt());
+    }
+
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.Duration;
 import java.time.Year;
 import java.util.*;
 
@@ -1222,6 +1223,52 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway).clearResources(any());
     }
 
+    @Test
+    void givenAValidCommand_whenCallsCreateVideoAndOneUploadFails_shouldCancelTheOthersAndClearResources() {
+        final var expectedErrorMessage = "Storage unexpected error";
+        final var expectedCategories = Set.of(Fixtures.CategoryFixture.classes().getId());
+
+        final var command = CreateVideoCommand.with(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Fixtures.VideoFixture.year(),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Fixtures.VideoFixture.rating().label(),
+            listIdAsString(expectedCategories),
+            Set.of(),
+            Set.of(),
+            Fixtures.ResourceFixture.resource(MediaType.VIDEO),
+            Fixtures.ResourceFixture.resource(MediaType.TRAILER),
+            Fixtures.ResourceFixture.resource(MediaType.BANNER),
+            null,
+            null
+        );
+
+        when(categoryGateway.existsByIds(any()))
+            .thenReturn(new ArrayList<>(expectedCategories));
+        lenient().when(mediaResourceGateway.storeAudioVideo(any(), any()))
+            .thenAnswer(answer -> {
+                Thread.sleep(Long.MAX_VALUE);
+                return null;
+            });
+        when(mediaResourceGateway.storeImage(any(), any()))
+            .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var exception = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> assertThrows(InternalErrorException.class, () -> useCase.execute(command))
+        );
+
+        assertTrue(exception.getMessage().startsWith("An error has occurred on creating a video with ID: "));
+        assertEquals(expectedErrorMessage, exception.getCause().getMessage());
+
+        verify(mediaResourceGateway, times(1)).storeImage(any(), any());
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, never()).create(any());
+    }
+
     private void mockAudioVideoMedia() {
         when(mediaResourceGateway.storeAudioVideo(any(), any()))
             .thenAnswer(answer -> {
@@ -0,0 +1,156 @@
+package org.fullcycle.admin.catalog.application.video.ingest;
+
+import org.fullcycle.admin.catalog.application.UseCaseTest;
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngestVideosUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @InjectMocks
+    private DefaultIngestVideosUseCase useCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway, castMemberGateway, videoGateway);
+    }
+
+    @Test
+    void givenAChunkWithAMissingCategory_whenCallsExecute_shouldCheckEachAggregateOnceAndCreateTheOthers() {
+        final var classes = Fixtures.CategoryFixture.classes().getId();
+        final var lives = Fixtures.CategoryFixture.lives().getId();
+        final var missing = CategoryID.from("missing");
+        final var technology = Fixtures.GenreFixture.technology().getId();
+        final var wesley = Fixtures.CastMemberFixture.wesley().getId();
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(classes, lives));
+        when(genreGateway.existsByIds(any())).thenReturn(List.of(technology));
+        when(castMemberGateway.existsByIds(any())).thenReturn(List.of(wesley));
+        when(videoGateway.createAll(anyList())).thenAnswer(returnsFirstArg());
+
+        final var outputs = useCase.execute(List.of(
+            command(Set.of(classes.getValue()), Set.of(technology.getValue()), Set.of(wesley.getValue())),
+            command(Set.of(lives.getValue(), missing.getValue()), Set.of(), Set.of()),
+            command(Set.of(lives.getValue()), Set.of(technology.getValue()), Set.of())
+        ));
+
+        assertEquals(3, outputs.size());
+        assertTrue(outputs.get(0).isCreated());
+        assertFalse(outputs.get(1).isCreated());
+        assertEquals(List.of(new Error("Some categories could not be found: missing")), outputs.get(1).errors());
+        assertTrue(outputs.get(2).isCreated());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> Set.of(classes, lives, missing).equals(ids)));
+        verify(genreGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 2
+            && videos.get(0).getId().getValue().equals(outputs.get(0).id())
+            && videos.get(1).getId().getValue().equals(outputs.get(2).id())
+        ));
+    }
+
+    @Test
+    void givenAnInvalidRow_whenCallsExecute_shouldRejectItWithoutCreatingAnything() {
+        final var command = CreateVideoCommand.with(
+            null,
+            Fixtures.VideoFixture.description(),
+            Fixtures.VideoFixture.year(),
+            null,
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Fixtures.VideoFixture.rating().label(),
+            Set.of(),
+            Set.of(),
+            Set.of(),
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+
+        final var outputs = useCase.execute(List.of(command));
+
+        assertFalse(outputs.get(0).isCreated());
+        assertEquals(List.of(new Error("'duration' should not be null")), outputs.get(0).errors());
+
+        verify(categoryGateway, never()).existsByIds(any());
+        verify(videoGateway, never()).createAll(anyList());
+    }
+
+    @Test
+    void givenAFailingGateway_whenCallsExecute_shouldRejectEveryValidRowOfTheChunk() {
+        final var classes = Fixtures.CategoryFixture.classes().getId();
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of());
+        when(videoGateway.createAll(anyList())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var outputs = useCase.execute(List.of(
+            command(Set.of(), Set.of(), Set.of()),
+            command(Set.of(classes.getValue()), Set.of(), Set.of()),
+            command(Set.of(), Set.of(), Set.of())
+        ));
+
+        final var expectedError = new Error("An error has occurred on creating the videos of this chunk");
+        assertEquals(List.of(expectedError), outputs.get(0).errors());
+        assertEquals(List.of(new Error("Some categories could not be found: %s".formatted(classes.getValue()))), outputs.get(1).errors());
+        assertEquals(List.of(expectedError), outputs.get(2).errors());
+        assertTrue(outputs.stream().noneMatch(IngestVideoOutput::isCreated));
+    }
+
+    private static CreateVideoCommand command(final Set<String> categories, final Set<String> genres, final Set<String> castMembers) {
+        return CreateVideoCommand.with(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Fixtures.VideoFixture.year(),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Fixtures.VideoFixture.rating().label(),
+            categories,
+            genres,
+            castMembers,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+}
@@ -12,6 +12,7 @@ import org.mockito.Mock;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,7 +46,8 @@ class GetMediaUseCaseTest extends UseCaseTest {
         final var actual = this.useCase.execute(command);
 
         assertEquals(expectedResource.name(), actual.name());
-        assertEquals(expectedResource.content(), actual.content());
+        assertArrayEquals(expectedResource.content().readAllBytes(), actual.content().readAllBytes());
+        assertEquals(expectedResource.size(), actual.size());
         assertEquals(expectedResource.contentType(), actual.contentType());
 
         verify(this.mediaResourceGateway).getResource(expectedId, expectedType);
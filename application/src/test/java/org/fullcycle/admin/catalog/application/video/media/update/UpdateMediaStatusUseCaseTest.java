@@ -5,8 +5,9 @@ import org.fullcycle.admin.catalog.domain.Fixtures;
 import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
 import org.fullcycle.admin.catalog.domain.video.MediaStatus;
 import org.fullcycle.admin.catalog.domain.video.MediaType;
-import org.fullcycle.admin.catalog.domain.video.Video;
 import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.fullcycle.admin.catalog.domain.video.VideoMedia;
+import org.fullcycle.admin.catalog.domain.video.VideoPreview;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
@@ -14,11 +15,11 @@ import org.mockito.Mock;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -46,9 +47,10 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedAudioVideoMedia = Fixtures.AudioVideoMediaFixture.audioVideo(expectedMediaType);
         final var video = Fixtures.VideoFixture.video().updateVideoMedia(expectedAudioVideoMedia);
         final var expectedVideoId = video.getId();
+        final var expectedVersion = 3L;
 
-        when(this.videoGateway.findById(any())).thenReturn(Optional.of(video));
-        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(this.videoGateway.findAudioVideoMedias(any()))
+            .thenReturn(List.of(VideoMedia.with(expectedVideoId, expectedMediaType, expectedAudioVideoMedia, expectedVersion)));
 
         final var command = UpdateMediaStatusCommand.with(
             expectedMediaStatus,
@@ -59,16 +61,19 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         );
         this.subject.execute(command);
 
-        verify(this.videoGateway).findById(expectedVideoId);
+        verify(this.videoGateway).findAudioVideoMedias(Set.of(expectedVideoId));
+        verify(this.videoGateway, never()).findById(any());
+        verify(this.videoGateway, never()).update(any());
 
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(this.videoGateway).update(captor.capture());
+        final var captor = ArgumentCaptor.forClass(VideoMedia.class);
+        verify(this.videoGateway).updateAudioVideoMedia(captor.capture());
 
-        final var actualVideo = captor.getValue();
-        assertTrue(actualVideo.getTrailer().isEmpty());
-        assertTrue(actualVideo.getVideo().isPresent());
+        final var actualMedia = captor.getValue();
+        assertEquals(expectedVideoId, actualMedia.videoId());
+        assertEquals(expectedMediaType, actualMedia.type());
+        assertEquals(expectedVersion, actualMedia.version());
 
-        final var actualAudioVideoMedia = actualVideo.getVideo().get();
+        final var actualAudioVideoMedia = actualMedia.media();
 
         assertEquals(expectedAudioVideoMedia.id(), actualAudioVideoMedia.id());
         assertEquals(expectedMediaStatus, actualAudioVideoMedia.status());
@@ -87,8 +92,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var video = Fixtures.VideoFixture.video().updateVideoMedia(expectedAudioVideoMedia);
         final var expectedVideoId = video.getId();
 
-        when(this.videoGateway.findById(any())).thenReturn(Optional.of(video));
-        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(this.videoGateway.findAudioVideoMedias(any()))
+            .thenReturn(List.of(VideoMedia.with(expectedVideoId, expectedMediaType, expectedAudioVideoMedia, 0)));
 
         final var command = UpdateMediaStatusCommand.with(
             expectedMediaStatus,
@@ -99,16 +104,10 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         );
         this.subject.execute(command);
 
-        verify(this.videoGateway).findById(expectedVideoId);
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(this.videoGateway).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        assertTrue(actualVideo.getTrailer().isEmpty());
-        assertTrue(actualVideo.getVideo().isPresent());
+        final var captor = ArgumentCaptor.forClass(VideoMedia.class);
+        verify(this.videoGateway).updateAudioVideoMedia(captor.capture());
 
-        final var actualAudioVideoMedia = actualVideo.getVideo().get();
+        final var actualAudioVideoMedia = captor.getValue().media();
 
         assertEquals(expectedAudioVideoMedia.id(), actualAudioVideoMedia.id());
         assertEquals(expectedMediaStatus, actualAudioVideoMedia.status());
@@ -124,11 +123,14 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedFileName = "video.mp4";
         final var expectedMediaType = MediaType.TRAILER;
         final var expectedAudioVideoMedia = Fixtures.AudioVideoMediaFixture.audioVideo(expectedMediaType);
+        final var aVideoMedia = Fixtures.AudioVideoMediaFixture.audioVideo(MediaType.VIDEO);
         final var video = Fixtures.VideoFixture.video().updateTrailerMedia(expectedAudioVideoMedia);
         final var expectedVideoId = video.getId();
 
-        when(this.videoGateway.findById(any())).thenReturn(Optional.of(video));
-        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(this.videoGateway.findAudioVideoMedias(any())).thenReturn(List.of(
+            VideoMedia.with(expectedVideoId, MediaType.VIDEO, aVideoMedia, 0),
+            VideoMedia.with(expectedVideoId, expectedMediaType, expectedAudioVideoMedia, 0)
+        ));
 
         final var command = UpdateMediaStatusCommand.with(
             expectedMediaStatus,
@@ -139,16 +141,13 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         );
         this.subject.execute(command);
 
-        verify(this.videoGateway).findById(expectedVideoId);
+        final var captor = ArgumentCaptor.forClass(VideoMedia.class);
+        verify(this.videoGateway).updateAudioVideoMedia(captor.capture());
 
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(this.videoGateway).update(captor.capture());
+        final var actualMedia = captor.getValue();
+        assertEquals(expectedMediaType, actualMedia.type());
 
-        final var actualVideo = captor.getValue();
-        assertTrue(actualVideo.getTrailer().isPresent());
-        assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualAudioVideoMedia = actualVideo.getTrailer().get();
+        final var actualAudioVideoMedia = actualMedia.media();
 
         assertEquals(expectedAudioVideoMedia.id(), actualAudioVideoMedia.id());
         assertEquals(expectedMediaStatus, actualAudioVideoMedia.status());
@@ -167,8 +166,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var video = Fixtures.VideoFixture.video().updateTrailerMedia(expectedAudioVideoMedia);
         final var expectedVideoId = video.getId();
 
-        when(this.videoGateway.findById(any())).thenReturn(Optional.of(video));
-        when(this.videoGateway.update(any())).thenAnswer(returnsFirstArg());
+        when(this.videoGateway.findAudioVideoMedias(any()))
+            .thenReturn(List.of(VideoMedia.with(expectedVideoId, expectedMediaType, expectedAudioVideoMedia, 0)));
 
         final var command = UpdateMediaStatusCommand.with(
             expectedMediaStatus,
@@ -179,16 +178,13 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         );
         this.subject.execute(command);
 
-        verify(this.videoGateway).findById(expectedVideoId);
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(this.videoGateway).update(captor.capture());
+        final var captor = ArgumentCaptor.forClass(VideoMedia.class);
+        verify(this.videoGateway).updateAudioVideoMedia(captor.capture());
 
-        final var actualVideo = captor.getValue();
-        assertTrue(actualVideo.getTrailer().isPresent());
-        assertTrue(actualVideo.getVideo().isEmpty());
+        final var actualMedia = captor.getValue();
+        assertEquals(expectedMediaType, actualMedia.type());
 
-        final var actualAudioVideoMedia = actualVideo.getTrailer().get();
+        final var actualAudioVideoMedia = actualMedia.media();
 
         assertEquals(expectedAudioVideoMedia.id(), actualAudioVideoMedia.id());
         assertEquals(expectedMediaStatus, actualAudioVideoMedia.status());
@@ -197,6 +193,30 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         assertEquals(expectedAudioVideoMedia.rawLocation(), actualAudioVideoMedia.rawLocation());
     }
 
+    @Test
+    void givenACommandOfAReplacedMedia_whenCallsExecute_thenShouldBeDoNothing() {
+        final var expectedAudioVideoMedia = Fixtures.AudioVideoMediaFixture.audioVideo(MediaType.VIDEO);
+        final var video = Fixtures.VideoFixture.video().updateVideoMedia(expectedAudioVideoMedia);
+        final var expectedVideoId = video.getId();
+
+        when(this.videoGateway.findAudioVideoMedias(any()))
+            .thenReturn(List.of(VideoMedia.with(expectedVideoId, MediaType.VIDEO, expectedAudioVideoMedia, 0)));
+        when(this.videoGateway.findPreviewById(any())).thenReturn(Optional.of(VideoPreview.from(video)));
+
+        final var command = UpdateMediaStatusCommand.with(
+            MediaStatus.COMPLETED,
+            expectedVideoId.getValue(),
+            "replacedId",
+            "encoded_media",
+            "video.mp4"
+        );
+        this.subject.execute(command);
+
+        verify(this.videoGateway).findPreviewById(expectedVideoId);
+        verify(this.videoGateway, never()).updateAudioVideoMedia(any());
+        verify(this.videoGateway, never()).update(any());
+    }
+
     @Test
     void givenACommandForUpdateMediaStatusToCompleted_whenIsInvalid_thenShouldBeDoNothing() {
         final var expectedMediaStatus = MediaStatus.COMPLETED;
@@ -207,7 +227,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var video = Fixtures.VideoFixture.video().updateVideoMedia(expectedAudioVideoMedia);
         final var expectedVideoId = video.getId();
 
-        when(this.videoGateway.findById(any())).thenReturn(Optional.empty());
+        when(this.videoGateway.findAudioVideoMedias(any())).thenReturn(List.of());
+        when(this.videoGateway.findPreviewById(any())).thenReturn(Optional.empty());
 
         final var command = UpdateMediaStatusCommand.with(
             expectedMediaStatus,
@@ -223,8 +244,8 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             "Video with ID %s was not found".formatted(expectedVideoId.getValue())
         );
 
-        verify(this.videoGateway).findById(expectedVideoId);
-        verify(this.videoGateway, never()).update(any());
+        verify(this.videoGateway).findPreviewById(expectedVideoId);
+        verify(this.videoGateway, never()).updateAudioVideoMedia(any());
     }
 
 }
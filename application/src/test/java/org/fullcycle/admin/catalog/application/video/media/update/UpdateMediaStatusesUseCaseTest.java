@@ -0,0 +1,130 @@
+package org.fullcycle.admin.catalog.application.video.media.update;
+
+import org.fullcycle.admin.catalog.application.UseCaseTest;
+import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.video.MediaStatus;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
+import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.fullcycle.admin.catalog.domain.video.VideoMedia;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpdateMediaStatusesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @InjectMocks
+    private DefaultUpdateMediaStatusesUseCase subject;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(this.videoGateway);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenCommandsOfManyVideos_whenCallsExecute_shouldLoadOnceAndUpdateOnlyTheMedias() {
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+        final var aVideo = Fixtures.AudioVideoMediaFixture.audioVideo(MediaType.VIDEO);
+        final var anotherTrailer = Fixtures.AudioVideoMediaFixture.audioVideo(MediaType.TRAILER);
+
+        when(this.videoGateway.findAudioVideoMedias(any())).thenReturn(List.of(
+            VideoMedia.with(aVideoId, MediaType.VIDEO, aVideo, 0),
+            VideoMedia.with(anotherVideoId, MediaType.TRAILER, anotherTrailer, 0)
+        ));
+
+        final var output = this.subject.execute(List.of(
+            UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideoId.getValue(), aVideo.id(), "encoded", "video.mp4"),
+            UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, anotherVideoId.getValue(), anotherTrailer.id(), null, null)
+        ));
+
+        assertEquals(2, output.updated());
+        assertTrue(output.unmatched().isEmpty());
+
+        verify(this.videoGateway).findAudioVideoMedias(Set.of(aVideoId, anotherVideoId));
+        verify(this.videoGateway, never()).findById(any());
+        verify(this.videoGateway, never()).update(any());
+
+        final ArgumentCaptor<List<VideoMedia>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.videoGateway).updateAudioVideoMedias(captor.capture());
+
+        final var actualMedias = captor.getValue();
+        assertEquals(2, actualMedias.size());
+
+        final var actualVideo = actualMedias.get(0);
+        assertEquals(aVideoId, actualVideo.videoId());
+        assertEquals(MediaType.VIDEO, actualVideo.type());
+        assertEquals(aVideo.id(), actualVideo.media().id());
+        assertEquals(MediaStatus.COMPLETED, actualVideo.media().status());
+        assertEquals("encoded/video.mp4", actualVideo.media().encodedLocation());
+        assertEquals(aVideo.rawLocation(), actualVideo.media().rawLocation());
+
+        final var actualTrailer = actualMedias.get(1);
+        assertEquals(anotherVideoId, actualTrailer.videoId());
+        assertEquals(MediaType.TRAILER, actualTrailer.type());
+        assertEquals(MediaStatus.PROCESSING, actualTrailer.media().status());
+        assertTrue(actualTrailer.media().encodedLocation().isBlank());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void givenManyCommandsOfTheSameMedia_whenCallsExecute_shouldKeepTheLastOne() {
+        final var aVideoId = VideoID.unique();
+        final var aVideo = Fixtures.AudioVideoMediaFixture.audioVideo(MediaType.VIDEO);
+
+        when(this.videoGateway.findAudioVideoMedias(any())).thenReturn(List.of(
+            VideoMedia.with(aVideoId, MediaType.VIDEO, aVideo, 0)
+        ));
+
+        final var output = this.subject.execute(List.of(
+            UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, aVideoId.getValue(), aVideo.id(), null, null),
+            UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideoId.getValue(), aVideo.id(), "encoded", "video.mp4"),
+            UpdateMediaStatusCommand.with(MediaStatus.PENDING, aVideoId.getValue(), aVideo.id(), null, null)
+        ));
+
+        assertEquals(1, output.updated());
+
+        final ArgumentCaptor<List<VideoMedia>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.videoGateway, times(1)).updateAudioVideoMedias(captor.capture());
+
+        final var actualMedias = captor.getValue();
+        assertEquals(1, actualMedias.size());
+        assertEquals(MediaStatus.COMPLETED, actualMedias.get(0).media().status());
+        assertEquals("encoded/video.mp4", actualMedias.get(0).media().encodedLocation());
+    }
+
+    @Test
+    void givenCommandsOfUnknownMedias_whenCallsExecute_shouldReturnThemAsUnmatched() {
+        final var aVideoId = VideoID.unique();
+        final var aVideo = Fixtures.AudioVideoMediaFixture.audioVideo(MediaType.VIDEO);
+        final var unknownVideo = UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, VideoID.unique().getValue(), aVideo.id(), "encoded", "video.mp4");
+        final var unknownMedia = UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideoId.getValue(), "unknown", "encoded", "video.mp4");
+
+        when(this.videoGateway.findAudioVideoMedias(any())).thenReturn(List.of(
+            VideoMedia.with(aVideoId, MediaType.VIDEO, aVideo, 0)
+        ));
+
+        final var output = this.subject.execute(List.of(unknownVideo, unknownMedia));
+
+        assertEquals(0, output.updated());
+        assertEquals(List.of(unknownVideo, unknownMedia), output.unmatched());
+        verify(this.videoGateway, never()).updateAudioVideoMedias(any());
+    }
+
+}
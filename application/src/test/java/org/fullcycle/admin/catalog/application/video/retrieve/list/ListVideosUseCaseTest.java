@@ -2,6 +2,9 @@ package org.fullcycle.admin.catalog.application.video.retrieve.list;
 
 import org.fullcycle.admin.catalog.application.UseCaseTest;
 import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.video.VideoGateway;
 import org.fullcycle.admin.catalog.domain.video.VideoPreview;
@@ -16,7 +19,11 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -146,6 +153,64 @@ class ListVideosUseCaseTest extends UseCaseTest {
         verify(gateway, atLeastOnce()).findAll(searchQuery);
     }
 
+    @Test
+    void givenEachFacetFilter_whenCallsListVideos_thenQueryFiltersByEachOfThem() {
+        final var expectedCategory = CategoryID.unique();
+        final var expectedGenre = GenreID.unique();
+        final var expectedCastMember = CastMemberID.unique();
+
+        final var searchQuery = new VideoSearchQuery(
+            0,
+            10,
+            "",
+            "title",
+            "asc",
+            Set.of(expectedCategory),
+            Set.of(expectedGenre),
+            Set.of(expectedCastMember)
+        );
+
+        when(gateway.findAll(searchQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var listVideosCommand = ListVideosCommand.with(
+            0,
+            10,
+            "",
+            "title",
+            "asc",
+            Set.of(expectedCategory.getValue()),
+            Set.of(expectedGenre.getValue()),
+            Set.of(expectedCastMember.getValue())
+        );
+
+        this.useCase.execute(listVideosCommand);
+
+        verify(gateway, times(1)).findAll(searchQuery);
+    }
+
+    @Test
+    void givenAFilterWithAnIdThatCannotExist_whenCallsListVideos_thenReturnEmptyPageWithoutQuerying() {
+        final var listVideosCommand = ListVideosCommand.with(
+            2,
+            10,
+            "",
+            "title",
+            "asc",
+            Set.of(),
+            Set.of("123"),
+            Set.of()
+        );
+
+        final var actual = this.useCase.execute(listVideosCommand);
+
+        assertEquals(2, actual.currentPage());
+        assertEquals(10, actual.perPage());
+        assertEquals(0, actual.total());
+        assertTrue(actual.items().isEmpty());
+
+        verify(gateway, never()).findAll(any());
+    }
+
     @Test
     void givenAValidQuery_whenGatewayThrowsUnexpectedException_thenThrowsException() {
         final var expectedPage = 0;
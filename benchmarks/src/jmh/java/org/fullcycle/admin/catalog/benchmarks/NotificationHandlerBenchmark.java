@@ -0,0 +1,62 @@
+package org.fullcycle.admin.catalog.benchmarks;
+
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.validation.handler.NotificationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationHandlerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int errors;
+
+    private Error[] values;
+    private NotificationHandler filled;
+
+    @Setup
+    public void setup() {
+        this.values = new Error[this.errors];
+        this.filled = NotificationHandler.create();
+        for (int i = 0; i < this.errors; i++) {
+            this.values[i] = new Error("'field%d' should not be null".formatted(i));
+            this.filled.append(this.values[i]);
+        }
+    }
+
+    @Benchmark
+    public NotificationHandler appendErrors() {
+        final var notification = NotificationHandler.create();
+        for (final var error : this.values) {
+            notification.append(error);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public NotificationHandler appendHandler() {
+        return NotificationHandler.create().append(this.filled);
+    }
+
+    // the use cases collect aggregate failures through validate, which catches the thrown DomainException
+    @Benchmark
+    public NotificationHandler validateThrowing() {
+        final var notification = NotificationHandler.create();
+        notification.validate(() -> {
+            throw DomainException.with(this.filled.getErrors());
+        });
+        return notification;
+    }
+
+}
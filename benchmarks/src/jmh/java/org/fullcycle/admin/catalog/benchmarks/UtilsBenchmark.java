@@ -0,0 +1,102 @@
+package org.fullcycle.admin.catalog.benchmarks;
+
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.utils.CollectionUtils;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UtilsBenchmark {
+
+    private String uuid;
+    private String sanitized;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        this.uuid = UUID.randomUUID().toString().toUpperCase();
+        this.sanitized = IdentifierUtils.unique();
+        this.bytes = IdentifierUtils.toBytes(this.sanitized);
+    }
+
+    @Benchmark
+    public String uniqueIdentifier() {
+        return IdentifierUtils.unique();
+    }
+
+    // the regex based encoding IdentifierUtils used before, kept as the reference point
+    @Benchmark
+    public String uniqueIdentifierWithRegex() {
+        return UUID.randomUUID().toString().toLowerCase().replaceAll("-", "");
+    }
+
+    @Benchmark
+    public String identifierFromUuid() {
+        return IdentifierUtils.from(this.uuid);
+    }
+
+    @Benchmark
+    public String identifierFromUuidWithRegex() {
+        return this.uuid.toLowerCase().replaceAll("-", "");
+    }
+
+    // every id read from a database row or a request takes this path
+    @Benchmark
+    public String identifierFromSanitized() {
+        return IdentifierUtils.from(this.sanitized);
+    }
+
+    @Benchmark
+    public String identifierFromSanitizedWithRegex() {
+        return this.sanitized.toLowerCase().replaceAll("-", "");
+    }
+
+    @Benchmark
+    public byte[] identifierToBytes() {
+        return IdentifierUtils.toBytes(this.sanitized);
+    }
+
+    @Benchmark
+    public String identifierFromBytes() {
+        return IdentifierUtils.fromBytes(this.bytes);
+    }
+
+    @Benchmark
+    public Set<CategoryID> mapTo(final Ids ids) {
+        return CollectionUtils.mapTo(ids.values, CategoryID::from);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Ids {
+
+        @Param({"3", "50"})
+        private int size;
+
+        private List<String> values;
+
+        @Setup
+        public void setup() {
+            this.values = new ArrayList<>(this.size);
+            for (int i = 0; i < this.size; i++) {
+                this.values.add(IdentifierUtils.unique());
+            }
+        }
+
+    }
+
+}
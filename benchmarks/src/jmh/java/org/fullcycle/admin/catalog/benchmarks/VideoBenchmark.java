@@ -0,0 +1,89 @@
+package org.fullcycle.admin.catalog.benchmarks;
+
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.validation.handler.NotificationHandler;
+import org.fullcycle.admin.catalog.domain.video.Video;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoBenchmark {
+
+    private Set<CategoryID> categories;
+    private Set<GenreID> genres;
+    private Set<CastMemberID> castMembers;
+    private Video video;
+
+    @Setup
+    public void setup() {
+        this.categories = Videos.ids(3, CategoryID::unique);
+        this.genres = Videos.ids(3, GenreID::unique);
+        this.castMembers = Videos.ids(3, CastMemberID::unique);
+        this.video = Videos.withMedia();
+    }
+
+    @Benchmark
+    public Video newVideo() {
+        return Video.newVideo(
+            Videos.TITLE,
+            Videos.DESCRIPTION,
+            Videos.LAUNCHED_AT,
+            Videos.DURATION,
+            Videos.RATING,
+            false,
+            true,
+            this.categories,
+            this.genres,
+            this.castMembers
+        );
+    }
+
+    @Benchmark
+    public Video withVideo() {
+        return Video.with(this.video);
+    }
+
+    @Benchmark
+    public Video withFields() {
+        return Video.with(
+            this.video.getId(),
+            this.video.getTitle(),
+            this.video.getDescription(),
+            this.video.getLaunchedAt(),
+            this.video.getDuration(),
+            this.video.getRating(),
+            this.video.isOpened(),
+            this.video.isPublished(),
+            this.video.getCreatedAt(),
+            this.video.getUpdatedAt(),
+            this.video.getBanner().orElse(null),
+            this.video.getThumbnail().orElse(null),
+            this.video.getThumbnailHalf().orElse(null),
+            this.video.getTrailer().orElse(null),
+            this.video.getVideo().orElse(null),
+            this.video.getCategories(),
+            this.video.getGenres(),
+            this.video.getCastMembers()
+        );
+    }
+
+    @Benchmark
+    public NotificationHandler validate() {
+        final var notification = NotificationHandler.create();
+        this.video.validate(notification);
+        return notification;
+    }
+
+}
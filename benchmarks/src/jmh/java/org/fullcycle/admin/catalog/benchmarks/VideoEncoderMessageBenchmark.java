@@ -0,0 +1,65 @@
+package org.fullcycle.admin.catalog.benchmarks;
+
+import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderCompleted;
+import org.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderError;
+import org.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderResult;
+import org.fullcycle.admin.catalog.infrastructure.video.models.VideoMessage;
+import org.fullcycle.admin.catalog.infrastructure.video.models.VideoMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// the messages consumed from and published to the encoder queues
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoEncoderMessageBenchmark {
+
+    private VideoEncoderCompleted completed;
+    private VideoEncoderError error;
+    private String completedJson;
+    private String errorJson;
+
+    @Setup
+    public void setup() {
+        this.completed = new VideoEncoderCompleted(
+            "f9a7e6c1b2d34e5f8a9b0c1d2e3f4a5b",
+            "codeeducationtest",
+            new VideoMetadata("anyfolder", "d4c3b2a1e5f64a7b8c9d0e1f2a3b4c5d", "videos/d4c3b2a1/video.mp4")
+        );
+        this.error = new VideoEncoderError(
+            new VideoMessage("d4c3b2a1e5f64a7b8c9d0e1f2a3b4c5d", "videos/d4c3b2a1/video.mp4"),
+            "Resource not found"
+        );
+        this.completedJson = Json.writeValueAsString(this.completed);
+        this.errorJson = Json.writeValueAsString(this.error);
+    }
+
+    @Benchmark
+    public String writeCompleted() {
+        return Json.writeValueAsString(this.completed);
+    }
+
+    @Benchmark
+    public String writeError() {
+        return Json.writeValueAsString(this.error);
+    }
+
+    @Benchmark
+    public VideoEncoderResult readCompleted() {
+        return Json.readValue(this.completedJson, VideoEncoderResult.class);
+    }
+
+    @Benchmark
+    public VideoEncoderResult readError() {
+        return Json.readValue(this.errorJson, VideoEncoderResult.class);
+    }
+
+}
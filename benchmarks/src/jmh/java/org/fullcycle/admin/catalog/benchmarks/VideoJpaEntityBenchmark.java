@@ -0,0 +1,40 @@
+package org.fullcycle.admin.catalog.benchmarks;
+
+import org.fullcycle.admin.catalog.domain.video.Video;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// plain mapping cost, the entities are never attached to a persistence context here
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoJpaEntityBenchmark {
+
+    private Video video;
+    private VideoJpaEntity entity;
+
+    @Setup
+    public void setup() {
+        this.video = Videos.withMedia();
+        this.entity = VideoJpaEntity.from(this.video);
+    }
+
+    @Benchmark
+    public VideoJpaEntity from() {
+        return VideoJpaEntity.from(this.video);
+    }
+
+    @Benchmark
+    public Video toAggregate() {
+        return this.entity.toAggregate();
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.fullcycle.admin.catalog.benchmarks;
+
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
+import org.fullcycle.admin.catalog.domain.video.ImageMedia;
+import org.fullcycle.admin.catalog.domain.video.MediaStatus;
+import org.fullcycle.admin.catalog.domain.video.Rating;
+import org.fullcycle.admin.catalog.domain.video.Video;
+
+import java.time.Year;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// the test fixtures depend on datafaker, benchmarks build their data from fixed values to keep runs comparable
+final class Videos {
+
+    static final String TITLE = "System Design no Mercado Livre na prática";
+    static final String DESCRIPTION = """
+        Disclaimer: o estudo de caso apresentado tem fins educacionais e representa nossas opiniões pessoais.
+        Esse vídeo faz parte da Imersão Full Stack && Full Cycle.
+        """;
+    static final Year LAUNCHED_AT = Year.of(2022);
+    static final double DURATION = 120.10;
+    static final Rating RATING = Rating.L;
+
+    private Videos() { }
+
+    static <T> Set<T> ids(final int size, final Supplier<T> unique) {
+        final var ids = new HashSet<T>();
+        for (int i = 0; i < size; i++) {
+            ids.add(unique.get());
+        }
+        return ids;
+    }
+
+    static Video withMedia() {
+        return Video.newVideo(
+                TITLE,
+                DESCRIPTION,
+                LAUNCHED_AT,
+                DURATION,
+                RATING,
+                false,
+                true,
+                ids(3, CategoryID::unique),
+                ids(3, GenreID::unique),
+                ids(3, CastMemberID::unique)
+            )
+            .updateVideoMedia(audioVideo("video.mp4"))
+            .updateTrailerMedia(audioVideo("trailer.mp4"))
+            .updateBannerMedia(image("banner.png"))
+            .updateThumbnailMedia(image("thumbnail.png"))
+            .updateThumbnailHalfMedia(image("thumbnail-half.png"));
+    }
+
+    private static AudioVideoMedia audioVideo(final String name) {
+        return AudioVideoMedia.newAudioVideoMedia(name, "c8a1f0e6d2b34f7e", "/videos/raw/" + name, "/videos/encoded/" + name, MediaStatus.COMPLETED);
+    }
+
+    private static ImageMedia image(final String name) {
+        return ImageMedia.newImageMedia(name, "4b9d2e7a1c3f5e80", "/images/" + name);
+    }
+
+}
@@ -10,6 +10,8 @@ public interface CastMemberGateway {
 
     Pagination<CastMember> findAll(final SearchQuery searchQuery);
     Optional<CastMember> findById(final CastMemberID castMemberID);
+    // may lag behind a write from another instance, so it only serves reads and never an update
+    Optional<CastMember> findReadOnlyById(final CastMemberID castMemberID);
     CastMember create(final CastMember castMember);
     CastMember update(final CastMember castMember);
     void deleteById(final CastMemberID castMemberID);
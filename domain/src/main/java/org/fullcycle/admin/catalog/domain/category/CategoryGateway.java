@@ -10,6 +10,8 @@ public interface CategoryGateway {
 
     Pagination<Category> findAll(final SearchQuery searchQuery);
     Optional<Category> findById(final CategoryID categoryID);
+    // may lag behind a write from another instance, so it only serves reads and never an update
+    Optional<Category> findReadOnlyById(final CategoryID categoryID);
     Category create(final Category category);
     Category update(final Category category);
     void deleteById(final CategoryID categoryID);
@@ -10,7 +10,10 @@ public interface GenreGateway {
 
     Pagination<Genre> findAll(final SearchQuery searchQuery);
     Optional<Genre> findById(final GenreID genreID);
+    // may lag behind a write from another instance, so it only serves reads and never an update
+    Optional<Genre> findReadOnlyById(final GenreID genreID);
     Genre create(final Genre genre);
+    List<Genre> createAll(final List<Genre> genres);
     Genre update(final Genre genre);
     void deleteById(final GenreID genreID);
     List<GenreID> existsByIds(final Iterable<GenreID> genreIds);
@@ -0,0 +1,26 @@
+package org.fullcycle.admin.catalog.domain.pagination;
+
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public enum CountMode {
+
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountMode from(final String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return EXACT;
+        }
+
+        return Stream.of(values())
+            .filter(mode -> mode.name().equalsIgnoreCase(value.trim()))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(new Error("Invalid count mode '%s'".formatted(value))));
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.fullcycle.admin.catalog.domain.pagination;
+
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public record Cursor(
+    String value,
+    String id
+) {
+
+    private static final char SEPARATOR = ':';
+    private static final char NULL_MARKER = '~';
+    private static final char VALUE_MARKER = '=';
+
+    public Cursor {
+        Objects.requireNonNull(id, "'id' of a cursor cannot be null");
+    }
+
+    public static Cursor of(final String value, final String id) {
+        return new Cursor(value, id);
+    }
+
+    public static Cursor decode(final String token) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var separator = decoded.indexOf(SEPARATOR);
+            if (separator <= 0 || separator + 1 >= decoded.length()) {
+                throw invalid(token);
+            }
+
+            // the id is bound against a BINARY(16) key, a forged one must not reach the query
+            final var id = decoded.substring(0, separator);
+            if (!IdentifierUtils.isValid(id)) {
+                throw invalid(token);
+            }
+
+            final var marker = decoded.charAt(separator + 1);
+            if (marker == NULL_MARKER) {
+                return new Cursor(null, id);
+            }
+            if (marker != VALUE_MARKER) {
+                throw invalid(token);
+            }
+
+            return new Cursor(decoded.substring(separator + 2), id);
+        } catch (final IllegalArgumentException exception) {
+            throw invalid(token);
+        }
+    }
+
+    public String encode() {
+        final var raw = Objects.isNull(this.value)
+            ? this.id + SEPARATOR + NULL_MARKER
+            : this.id + SEPARATOR + VALUE_MARKER + this.value;
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid(final String token) {
+        return DomainException.with(new Error("Invalid pagination cursor '%s'".formatted(token)));
+    }
+
+}
@@ -7,16 +7,51 @@ public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
+    List<T> items,
+    boolean hasNext,
+    String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+        final int currentPage,
+        final int perPage,
+        final long total,
+        final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total, null);
+    }
+
+    public static <T> Pagination<T> empty(final int currentPage, final int perPage) {
+        return new Pagination<>(currentPage, perPage, 0, List.of(), false, null);
+    }
+
+    public static <T> Pagination<T> keyset(
+        final int perPage,
+        final List<T> items,
+        final String nextCursor
+    ) {
+        return new Pagination<>(0, perPage, UNKNOWN_TOTAL, items, nextCursor != null, nextCursor);
+    }
+
+    public static <T> Pagination<T> slice(
+        final int currentPage,
+        final int perPage,
+        final long total,
+        final List<T> items,
+        final boolean hasNext
+    ) {
+        return new Pagination<>(currentPage, perPage, total, items, hasNext, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> result = this.items()
             .stream()
             .map(mapper)
             .toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), result);
+        return new Pagination<>(currentPage(), perPage(), total(), result, hasNext(), nextCursor());
     }
 
 }
@@ -1,11 +1,51 @@
 package org.fullcycle.admin.catalog.domain.pagination;
 
+import java.util.Objects;
+import java.util.Optional;
+
 public record SearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    CountMode countMode
 ) {
 
+    public SearchQuery {
+        countMode = Objects.requireNonNullElse(countMode, CountMode.EXACT);
+    }
+
+    public SearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, CountMode.EXACT);
+    }
+
+    public SearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, CountMode.EXACT);
+    }
+
+    public boolean isKeyset() {
+        return Objects.nonNull(this.cursor);
+    }
+
+    public Optional<Cursor> after() {
+        return Optional.ofNullable(this.cursor)
+            .filter(it -> !it.isBlank())
+            .map(Cursor::decode);
+    }
+
 }
@@ -2,23 +2,28 @@ package org.fullcycle.admin.catalog.domain.resource;
 
 import org.fullcycle.admin.catalog.domain.ValueObject;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Objects;
+import java.util.zip.CRC32C;
 
 public class Resource extends ValueObject {
 
-    private final String checksum;
-    private final byte[] content;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private volatile String checksum;
+    private final ResourceContent content;
     private final String contentType;
     private final String name;
 
     private Resource(
         final String checksum,
-        final byte[] content,
+        final ResourceContent content,
         final String contentType,
         final String name
     ) {
-        this.checksum = Objects.requireNonNull(checksum);
+        this.checksum = checksum;
         this.content = Objects.requireNonNull(content);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
@@ -30,17 +35,45 @@ public class Resource extends ValueObject {
         final String contentType,
         final String name
     ) {
-        return new Resource(checksum, content, contentType, name);
+        return new Resource(Objects.requireNonNull(checksum), ResourceContent.of(content), contentType, name);
+    }
+
+    public static Resource with(
+        final String checksum,
+        final ResourceContent content,
+        final String contentType,
+        final String name
+    ) {
+        return new Resource(Objects.requireNonNull(checksum), content, contentType, name);
+    }
+
+    public static Resource with(
+        final ResourceContent content,
+        final String contentType,
+        final String name
+    ) {
+        return new Resource(null, content, contentType, name);
     }
 
     public String checksum() {
-        return checksum;
+        if (Objects.isNull(this.checksum)) {
+            transferTo(OutputStream.nullOutputStream());
+        }
+        return this.checksum;
     }
 
-    public byte[] content() {
+    public boolean hasChecksum() {
+        return Objects.nonNull(this.checksum);
+    }
+
+    public ResourceContent content() {
         return content;
     }
 
+    public long size() {
+        return content.size();
+    }
+
     public String contentType() {
         return contentType;
     }
@@ -49,22 +82,46 @@ public class Resource extends ValueObject {
         return name;
     }
 
+    public long transferTo(final OutputStream output) {
+        final var crc32c = new CRC32C();
+        final var buffer = new byte[BUFFER_SIZE];
+        long transferred = 0;
+
+        try (final var input = this.content.openStream()) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                crc32c.update(buffer, 0, read);
+                output.write(buffer, 0, read);
+                transferred += read;
+            }
+            output.flush();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        if (Objects.isNull(this.checksum)) {
+            this.checksum = "%08x".formatted(crc32c.getValue());
+        }
+        return transferred;
+    }
+
+    // equality never reads the content, checksums are only compared once both sides already know theirs
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final Resource resource = (Resource) o;
-        return Objects.equals(checksum, resource.checksum)
-            && Arrays.equals(content, resource.content)
+        if (hasChecksum() && resource.hasChecksum() && !Objects.equals(checksum, resource.checksum)) {
+            return false;
+        }
+        return size() == resource.size()
             && Objects.equals(contentType, resource.contentType)
             && Objects.equals(name, resource.name);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(checksum, contentType, name);
-        result = 31 * result + Arrays.hashCode(content);
-        return result;
+        return Objects.hash(size(), contentType, name);
     }
 
 }
@@ -0,0 +1,235 @@
+package org.fullcycle.admin.catalog.domain.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+public abstract class ResourceContent {
+
+    public static ResourceContent of(final byte[] bytes) {
+        return new BytesContent(bytes);
+    }
+
+    public static ResourceContent of(final StreamSupplier supplier, final long size) {
+        return new StreamContent(supplier, size);
+    }
+
+    public static ResourceContent ranged(final RangedStreamSupplier supplier, final long size) {
+        return new RangedStreamContent(supplier, size);
+    }
+
+    public abstract InputStream openStream();
+
+    public abstract long size();
+
+    public InputStream openStream(final long position, final long length) {
+        checkRange(position, length);
+
+        final var input = openStream();
+        try {
+            input.skipNBytes(position);
+        } catch (final IOException exception) {
+            closeQuietly(input);
+            throw new UncheckedIOException(exception);
+        }
+        return new LimitedInputStream(input, length);
+    }
+
+    public byte[] readAllBytes() {
+        try (final var input = openStream()) {
+            return input.readAllBytes();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    protected void checkRange(final long position, final long length) {
+        if (position < 0 || length < 0 || position + length > size()) {
+            throw new IndexOutOfBoundsException(
+                "Range [%d, %d) is out of bounds for content of size %d".formatted(position, position + length, size())
+            );
+        }
+    }
+
+    private static void closeQuietly(final InputStream input) {
+        try {
+            input.close();
+        } catch (final IOException ignored) {
+        }
+    }
+
+    @FunctionalInterface
+    public interface StreamSupplier {
+
+        InputStream get() throws IOException;
+
+    }
+
+    @FunctionalInterface
+    public interface RangedStreamSupplier {
+
+        InputStream get(long position, long length) throws IOException;
+
+    }
+
+    private static final class BytesContent extends ResourceContent {
+
+        private final byte[] bytes;
+
+        private BytesContent(final byte[] bytes) {
+            this.bytes = Objects.requireNonNull(bytes);
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(this.bytes);
+        }
+
+        @Override
+        public long size() {
+            return this.bytes.length;
+        }
+
+        @Override
+        public InputStream openStream(final long position, final long length) {
+            checkRange(position, length);
+            return new ByteArrayInputStream(this.bytes, (int) position, (int) length);
+        }
+
+        @Override
+        public byte[] readAllBytes() {
+            return this.bytes;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final BytesContent that = (BytesContent) o;
+            return Arrays.equals(bytes, that.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bytes);
+        }
+
+    }
+
+    private static final class StreamContent extends ResourceContent {
+
+        private final StreamSupplier supplier;
+        private final long size;
+
+        private StreamContent(final StreamSupplier supplier, final long size) {
+            this.supplier = Objects.requireNonNull(supplier);
+            this.size = size;
+        }
+
+        @Override
+        public InputStream openStream() {
+            try {
+                return this.supplier.get();
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        @Override
+        public long size() {
+            return this.size;
+        }
+
+    }
+
+    private static final class RangedStreamContent extends ResourceContent {
+
+        private final RangedStreamSupplier supplier;
+        private final long size;
+
+        private RangedStreamContent(final RangedStreamSupplier supplier, final long size) {
+            this.supplier = Objects.requireNonNull(supplier);
+            this.size = size;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return openStream(0, this.size);
+        }
+
+        @Override
+        public InputStream openStream(final long position, final long length) {
+            checkRange(position, length);
+            try {
+                return this.supplier.get(position, length);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        @Override
+        public long size() {
+            return this.size;
+        }
+
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(final InputStream input, final long limit) {
+            super(input);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+
+            final var read = super.read();
+            if (read != -1) {
+                this.remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+
+            final var read = super.read(buffer, offset, (int) Math.min(length, this.remaining));
+            if (read != -1) {
+                this.remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(Math.min(n, this.remaining));
+            this.remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), this.remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.fullcycle.admin.catalog.domain.search;
+
+import java.util.Objects;
+
+public record Suggestion(
+    String id,
+    String name,
+    SuggestionType type
+) {
+
+    public Suggestion {
+        Objects.requireNonNull(id, "'id' should not be null");
+        Objects.requireNonNull(name, "'name' should not be null");
+        Objects.requireNonNull(type, "'type' should not be null");
+    }
+
+    public static Suggestion with(final String id, final String name, final SuggestionType type) {
+        return new Suggestion(id, name, type);
+    }
+
+}
@@ -0,0 +1,11 @@
+package org.fullcycle.admin.catalog.domain.search;
+
+import java.util.List;
+
+public interface SuggestionGateway {
+
+    List<Suggestion> suggest(final String terms, final int limit);
+    void index(final Suggestion suggestion);
+    void remove(final SuggestionType type, final String id);
+
+}
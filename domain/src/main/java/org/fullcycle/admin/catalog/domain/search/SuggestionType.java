@@ -0,0 +1,10 @@
+package org.fullcycle.admin.catalog.domain.search;
+
+public enum SuggestionType {
+
+    VIDEO,
+    CATEGORY,
+    GENRE,
+    CAST_MEMBER;
+
+}
@@ -1,26 +1,130 @@
 package org.fullcycle.admin.catalog.domain.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.UUID;
 
 public final class IdentifierUtils {
 
+    private static final int LENGTH = 32;
+    private static final int UUID_LENGTH = 36;
+    private static final int BYTES = 16;
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
     private IdentifierUtils() { }
 
     public static String unique() {
-        return formatId(UUID.randomUUID());
+        final var uuid = UUID.randomUUID();
+        final var buffer = new byte[LENGTH];
+        encode(uuid.getMostSignificantBits(), buffer, 0);
+        encode(uuid.getLeastSignificantBits(), buffer, 16);
+        return latin1(buffer);
     }
 
+    // ids read back from the database and the api are already sanitized, those are returned as they are
     public static String from(final String uuid) {
-        return sanitize(uuid);
+        if (isValid(uuid)) {
+            return uuid;
+        }
+        if (isDashedUuid(uuid)) {
+            return fromDashedUuid(uuid);
+        }
+        return uuid.toLowerCase().replace("-", "");
+    }
+
+    public static boolean isValid(final String value) {
+        if (value == null || value.length() != LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < LENGTH; i++) {
+            final var c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the compact form of a sanitized id, as stored in BINARY(16) columns
+    public static byte[] toBytes(final String value) {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("'%s' is not a sanitized identifier".formatted(value));
+        }
+
+        final var bytes = new byte[BYTES];
+        for (int i = 0; i < BYTES; i++) {
+            bytes[i] = (byte) (nibble(value.charAt(i * 2)) << 4 | nibble(value.charAt(i * 2 + 1)));
+        }
+        return bytes;
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        Objects.requireNonNull(bytes);
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("An identifier has %d bytes but got %d".formatted(BYTES, bytes.length));
+        }
+
+        final var buffer = new byte[LENGTH];
+        for (int i = 0; i < BYTES; i++) {
+            buffer[i * 2] = DIGITS[(bytes[i] >> 4) & 0xF];
+            buffer[i * 2 + 1] = DIGITS[bytes[i] & 0xF];
+        }
+        return latin1(buffer);
+    }
+
+    private static boolean isDashedUuid(final String value) {
+        if (value.length() != UUID_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (nibble(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String fromDashedUuid(final String value) {
+        final var buffer = new byte[LENGTH];
+        var position = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var c = value.charAt(i);
+            if (c != '-') {
+                buffer[position++] = DIGITS[nibble(c)];
+            }
+        }
+        return latin1(buffer);
+    }
+
+    private static void encode(final long bits, final byte[] buffer, final int offset) {
+        for (int i = 15; i >= 0; i--) {
+            buffer[offset + 15 - i] = DIGITS[(int) (bits >>> (i << 2)) & 0xF];
+        }
     }
 
-    private static String formatId(final UUID uuid) {
-        return sanitize(uuid.toString());
+    private static int nibble(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
     }
 
-    private static String sanitize(final String uuid) {
-        return uuid.toLowerCase()
-            .replaceAll("-", "");
+    // latin1 bytes become the string's own compact representation with a single copy
+    private static String latin1(final byte[] buffer) {
+        return new String(buffer, StandardCharsets.ISO_8859_1);
     }
 
 }
@@ -2,14 +2,21 @@ package org.fullcycle.admin.catalog.domain.video;
 
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface VideoGateway {
 
     Video create(final Video video);
+    List<Video> createAll(final List<Video> videos);
     Video update(final Video video);
     void deleteById(final VideoID id);
     Optional<Video> findById(final VideoID id);
+    Optional<VideoPreview> findPreviewById(final VideoID id);
     Pagination<VideoPreview> findAll(final VideoSearchQuery query);
+    List<VideoMedia> findAudioVideoMedias(final Set<VideoID> ids);
+    void updateAudioVideoMedia(final VideoMedia media);
+    void updateAudioVideoMedias(final List<VideoMedia> medias);
 
 }
@@ -0,0 +1,36 @@
+package org.fullcycle.admin.catalog.domain.video;
+
+import java.util.Objects;
+
+public record VideoMedia(
+    VideoID videoId,
+    MediaType type,
+    AudioVideoMedia media,
+    long version
+) {
+
+    public VideoMedia {
+        Objects.requireNonNull(videoId);
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(media);
+    }
+
+    public static VideoMedia with(
+        final VideoID videoId,
+        final MediaType type,
+        final AudioVideoMedia media,
+        final long version
+    ) {
+        return new VideoMedia(videoId, type, media, version);
+    }
+
+    // the version read along with the media, a change is only written if nobody changed the media since
+    public VideoMedia processing() {
+        return with(videoId(), type(), media().processing(), version());
+    }
+
+    public VideoMedia completed(final String encodedPath) {
+        return with(videoId(), type(), media().completed(encodedPath), version());
+    }
+
+}
@@ -3,7 +3,11 @@ package org.fullcycle.admin.catalog.domain.video;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
 
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 public record VideoSearchQuery(
@@ -14,7 +18,50 @@ public record VideoSearchQuery(
     String direction,
     Set<CategoryID> categories,
     Set<GenreID> genres,
-    Set<CastMemberID> castMembers
+    Set<CastMemberID> castMembers,
+    String cursor,
+    CountMode countMode
 ) {
 
+    public VideoSearchQuery {
+        countMode = Objects.requireNonNullElse(countMode, CountMode.EXACT);
+    }
+
+    public VideoSearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> castMembers
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, null, CountMode.EXACT);
+    }
+
+    public VideoSearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> castMembers,
+        final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, categories, genres, castMembers, cursor, CountMode.EXACT);
+    }
+
+    public boolean isKeyset() {
+        return Objects.nonNull(this.cursor);
+    }
+
+    public Optional<Cursor> after() {
+        return Optional.ofNullable(this.cursor)
+            .filter(it -> !it.isBlank())
+            .map(Cursor::decode);
+    }
+
 }
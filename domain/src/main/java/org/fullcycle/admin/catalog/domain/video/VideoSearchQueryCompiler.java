@@ -0,0 +1,82 @@
+package org.fullcycle.admin.catalog.domain.video;
+
+import org.fullcycle.admin.catalog.domain.Identifier;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class VideoSearchQueryCompiler {
+
+    public static final int MAX_IDS_PER_FILTER = 100;
+
+    private VideoSearchQueryCompiler() { }
+
+    // an empty result means no video can match the query, so there is nothing to search for
+    public static Optional<VideoSearchQuery> compile(final VideoSearchQuery query) {
+        Objects.requireNonNull(query, "'query' cannot be null");
+
+        final var categories = normalize("categories", query.categories(), CategoryID::from);
+        final var genres = normalize("genres", query.genres(), GenreID::from);
+        final var castMembers = normalize("cast members", query.castMembers(), CastMemberID::from);
+
+        if (categories.isEmpty() || genres.isEmpty() || castMembers.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new VideoSearchQuery(
+            query.page(),
+            query.perPage(),
+            Objects.isNull(query.terms()) ? "" : query.terms().trim(),
+            query.sort(),
+            query.direction(),
+            categories.get(),
+            genres.get(),
+            castMembers.get(),
+            query.cursor(),
+            query.countMode()
+        ));
+    }
+
+    // an empty optional means the filter was requested but none of its IDs can exist
+    private static <ID extends Identifier> Optional<Set<ID>> normalize(
+        final String name,
+        final Set<ID> ids,
+        final Function<String, ID> factory
+    ) {
+        if (Objects.isNull(ids) || ids.isEmpty()) {
+            return Optional.of(Collections.emptySet());
+        }
+
+        final var normalized = new LinkedHashSet<ID>();
+        for (final var id : ids) {
+            if (Objects.isNull(id) || Objects.isNull(id.getValue())) {
+                continue;
+            }
+
+            // normalized the way the factories do, so dashed or upper case ids still match their rows
+            final var value = IdentifierUtils.from(id.getValue().trim());
+            if (IdentifierUtils.isValid(value)) {
+                normalized.add(factory.apply(value));
+            }
+        }
+
+        if (normalized.size() > MAX_IDS_PER_FILTER) {
+            throw DomainException.with(new Error(
+                "Filtering by more than %d %s is not allowed".formatted(MAX_IDS_PER_FILTER, name)
+            ));
+        }
+
+        return normalized.isEmpty() ? Optional.empty() : Optional.of(Collections.unmodifiableSet(normalized));
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.fullcycle.admin.catalog.domain.pagination;
+
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CountModeTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+            "exact,EXACT",
+            "ESTIMATED,ESTIMATED",
+            "None,NONE",
+            "'',EXACT",
+            ",EXACT"
+        }
+    )
+    void validateFrom(final String value, final CountMode expected) {
+        assertEquals(expected, CountMode.from(value));
+    }
+
+    @Test
+    void givenAnUnknownValue_whenCallsFrom_shouldThrowDomainException() {
+        final var actualException = assertThrows(DomainException.class, () -> CountMode.from("approximate"));
+
+        assertEquals("Invalid count mode 'approximate'", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenNoCountMode_whenCreatesSearchQuery_shouldDefaultToExact() {
+        assertEquals(CountMode.EXACT, new SearchQuery(0, 10, "", "name", "asc").countMode());
+        assertEquals(CountMode.EXACT, new SearchQuery(0, 10, "", "name", "asc", null, null).countMode());
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.fullcycle.admin.catalog.domain.resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ResourceTest {
+
+    @Test
+    void givenStreamedResources_whenComparesThem_shouldNotReadTheirContent() {
+        final var opened = new AtomicInteger();
+        final var content = ResourceContent.of(() -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(new byte[] { 1, 2, 3 });
+        }, 3);
+
+        final var aResource = Resource.with(content, "video/mp4", "video");
+        final var anotherResource = Resource.with(content, "video/mp4", "video");
+
+        assertEquals(aResource, anotherResource);
+        assertEquals(aResource.hashCode(), anotherResource.hashCode());
+        assertNotEquals(aResource, Resource.with(content, "video/mp4", "trailer"));
+        assertEquals(0, opened.get());
+        assertFalse(aResource.hasChecksum());
+    }
+
+    @Test
+    void givenResourcesWithKnownChecksums_whenComparesThem_shouldTellDifferentContentApart() {
+        final var aResource = Resource.with("abc", new byte[] { 1, 2, 3 }, "video/mp4", "video");
+        final var sameContent = Resource.with("abc", new byte[] { 1, 2, 3 }, "video/mp4", "video");
+        final var otherContent = Resource.with("def", new byte[] { 3, 2, 1 }, "video/mp4", "video");
+
+        assertEquals(aResource, sameContent);
+        assertNotEquals(aResource, otherContent);
+        assertEquals(aResource.hashCode(), otherContent.hashCode());
+    }
+
+}
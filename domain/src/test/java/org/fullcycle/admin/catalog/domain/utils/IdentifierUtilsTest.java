@@ -0,0 +1,72 @@
+package org.fullcycle.admin.catalog.domain.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdentifierUtilsTest {
+
+    @Test
+    void givenManyGeneratedIds_whenCallsUnique_shouldEncodeTheRandomUuidAsLowerHex() {
+        for (int i = 0; i < 1_000; i++) {
+            final var actualId = IdentifierUtils.unique();
+
+            assertTrue(IdentifierUtils.isValid(actualId));
+            assertEquals(4, UUID.fromString(dashed(actualId)).version());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        value = {
+            "0f8fad5b-d9cb-469f-a165-70867728950e,0f8fad5bd9cb469fa16570867728950e",
+            "0F8FAD5B-D9CB-469F-A165-70867728950E,0f8fad5bd9cb469fa16570867728950e",
+            "0F8FAD5BD9CB469FA16570867728950E,0f8fad5bd9cb469fa16570867728950e",
+            "Not-An-Id,notanid"
+        }
+    )
+    void validateFrom(final String value, final String expected) {
+        assertEquals(expected, IdentifierUtils.from(value));
+    }
+
+    @Test
+    void givenASanitizedId_whenCallsFrom_shouldReturnTheSameInstance() {
+        final var expectedId = IdentifierUtils.unique();
+
+        assertSame(expectedId, IdentifierUtils.from(expectedId));
+    }
+
+    @Test
+    void givenASanitizedId_whenConvertsToBytesAndBack_shouldKeepTheId() {
+        final var expectedId = "0f8fad5bd9cb469fa16570867728950e";
+        final var uuid = UUID.fromString(dashed(expectedId));
+
+        final var actualBytes = IdentifierUtils.toBytes(expectedId);
+
+        assertArrayEquals(
+            ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array(),
+            actualBytes
+        );
+        assertEquals(expectedId, IdentifierUtils.fromBytes(actualBytes));
+    }
+
+    @Test
+    void givenAnUnsanitizedId_whenCallsToBytes_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IdentifierUtils.toBytes("0F8FAD5B-D9CB-469F-A165-70867728950E"));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierUtils.fromBytes(new byte[15]));
+    }
+
+    private static String dashed(final String id) {
+        return "%s-%s-%s-%s-%s".formatted(id.substring(0, 8), id.substring(8, 12), id.substring(12, 16), id.substring(16, 20), id.substring(20));
+    }
+
+}
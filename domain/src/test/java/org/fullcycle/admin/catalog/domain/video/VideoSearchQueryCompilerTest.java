@@ -0,0 +1,104 @@
+package org.fullcycle.admin.catalog.domain.video;
+
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VideoSearchQueryCompilerTest {
+
+    @Test
+    void givenAQueryWithoutFilters_whenCallsCompile_shouldKeepIt() {
+        final var query = query(" terms ", Set.of(), Set.of(), Set.of());
+
+        final var actual = VideoSearchQueryCompiler.compile(query).orElseThrow();
+
+        assertEquals("terms", actual.terms());
+        assertTrue(actual.categories().isEmpty());
+        assertTrue(actual.genres().isEmpty());
+        assertTrue(actual.castMembers().isEmpty());
+        assertEquals(query.page(), actual.page());
+        assertEquals(query.perPage(), actual.perPage());
+        assertEquals(query.sort(), actual.sort());
+        assertEquals(query.direction(), actual.direction());
+        assertEquals(CountMode.NONE, actual.countMode());
+    }
+
+    @Test
+    void givenFiltersWithMalformedAndDuplicatedIds_whenCallsCompile_shouldKeepOnlyValidOnes() {
+        final var expectedCategory = CategoryID.unique();
+        final var expectedGenre = GenreID.unique();
+        final var expectedCastMember = CastMemberID.unique();
+
+        final var query = query(
+            "",
+            Set.of(expectedCategory, CategoryID.from(" " + expectedCategory.getValue().toUpperCase() + " "), CategoryID.from("123")),
+            Set.of(expectedGenre, GenreID.from("not-an-id")),
+            Set.of(expectedCastMember)
+        );
+
+        final var actual = VideoSearchQueryCompiler.compile(query).orElseThrow();
+
+        assertEquals(Set.of(expectedCategory), actual.categories());
+        assertEquals(Set.of(expectedGenre), actual.genres());
+        assertEquals(Set.of(expectedCastMember), actual.castMembers());
+    }
+
+    @Test
+    void givenFiltersWithUpperCaseAndDashedIds_whenCallsCompile_shouldNormalizeThem() {
+        final var expectedId = "0f8fad5bd9cb469fa16570867728950e";
+
+        final var query = query(
+            "",
+            Set.of(CategoryID.from(" 0F8FAD5B-D9CB-469F-A165-70867728950E ")),
+            Set.of(GenreID.from("0F8FAD5BD9CB469FA16570867728950E")),
+            Set.of(CastMemberID.from("0f8fad5b-d9cb-469f-a165-70867728950e"))
+        );
+
+        final var actual = VideoSearchQueryCompiler.compile(query).orElseThrow();
+
+        assertEquals(Set.of(CategoryID.from(expectedId)), actual.categories());
+        assertEquals(Set.of(GenreID.from(expectedId)), actual.genres());
+        assertEquals(Set.of(CastMemberID.from(expectedId)), actual.castMembers());
+    }
+
+    @Test
+    void givenAFilterWhoseIdsCannotExist_whenCallsCompile_shouldReturnEmpty() {
+        final var query = query("", Set.of(CategoryID.unique()), Set.of(GenreID.from("123")), Set.of());
+
+        assertTrue(VideoSearchQueryCompiler.compile(query).isEmpty());
+    }
+
+    @Test
+    void givenAFilterAboveTheCap_whenCallsCompile_shouldThrowDomainException() {
+        final var categories = IntStream.rangeClosed(0, VideoSearchQueryCompiler.MAX_IDS_PER_FILTER)
+            .mapToObj(it -> CategoryID.unique())
+            .collect(Collectors.toSet());
+
+        final var query = query("", categories, Set.of(), Set.of());
+
+        final var actualException = assertThrows(DomainException.class, () -> VideoSearchQueryCompiler.compile(query));
+
+        assertEquals("Filtering by more than 100 categories is not allowed", actualException.getMessage());
+    }
+
+    private static VideoSearchQuery query(
+        final String terms,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> castMembers
+    ) {
+        return new VideoSearchQuery(1, 20, terms, "title", "asc", categories, genres, castMembers, null, CountMode.NONE);
+    }
+
+}
@@ -0,0 +1,193 @@
+package org.fullcycle.admin.catalog.infrastructure.amqp;
+
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusesOutput;
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusesUseCase;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.ListenerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// collects media status updates for a short window and applies them together, batches are applied one at a time in arrival order
+public class MediaStatusBatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStatusBatcher.class);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final UpdateMediaStatusesUseCase updateMediaStatusesUseCase;
+    private final int batchSize;
+    private final Duration batchWindow;
+    private final ScheduledExecutorService flusher;
+    private final Queue<List<Entry>> sealed = new ConcurrentLinkedQueue<>();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final Object lock = new Object();
+
+    private List<Entry> buffer;
+
+    public MediaStatusBatcher(
+        final UpdateMediaStatusesUseCase updateMediaStatusesUseCase,
+        final ListenerProperties properties
+    ) {
+        this.updateMediaStatusesUseCase = Objects.requireNonNull(updateMediaStatusesUseCase);
+        this.batchSize = properties.getBatchSize();
+        this.batchWindow = Objects.requireNonNull(properties.getBatchWindow());
+
+        // unacked messages are bounded by the prefetch, a larger batch would only ever be flushed by the window
+        if (this.batchSize < 1 || this.batchSize > properties.getPrefetch()) {
+            throw new IllegalArgumentException("'batchSize' must be between 1 and 'prefetch'");
+        }
+
+        this.buffer = new ArrayList<>(this.batchSize);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("media-status-batcher").daemon().factory()
+        );
+    }
+
+    public void add(
+        final UpdateMediaStatusCommand command,
+        final Runnable onApplied,
+        final Runnable onFailed,
+        final Runnable onDeadLettered
+    ) {
+        final var entry = new Entry(
+            Objects.requireNonNull(command),
+            Objects.requireNonNull(onApplied),
+            Objects.requireNonNull(onFailed),
+            Objects.requireNonNull(onDeadLettered)
+        );
+
+        synchronized (this.lock) {
+            this.buffer.add(entry);
+            if (this.buffer.size() == 1) {
+                this.flusher.schedule(this::windowElapsed, this.batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (this.buffer.size() >= this.batchSize) {
+                seal();
+                this.flusher.execute(this::drain);
+            }
+        }
+    }
+
+    public long applied() {
+        return this.applied.sum();
+    }
+
+    public long failed() {
+        return this.failed.sum();
+    }
+
+    public long deadLettered() {
+        return this.deadLettered.sum();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.lock) {
+            seal();
+        }
+        this.flusher.execute(this::drain);
+        this.flusher.shutdown();
+
+        try {
+            this.flusher.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void windowElapsed() {
+        synchronized (this.lock) {
+            seal();
+        }
+        drain();
+    }
+
+    // batches are sealed in arrival order under the lock, whichever task drains them keeps that order
+    private void seal() {
+        if (!this.buffer.isEmpty()) {
+            this.sealed.add(this.buffer);
+            this.buffer = new ArrayList<>(this.batchSize);
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch;
+        while ((batch = this.sealed.poll()) != null) {
+            try {
+                apply(batch);
+            } catch (final RuntimeException ex) {
+                // a closed channel must not strand the batches sealed behind this one
+                log.error("[message: video.listener.income] [status: acknowledge failed] [batch: {}]", batch.size(), ex);
+            }
+        }
+    }
+
+    private void apply(final List<Entry> batch) {
+        final var commands = batch.stream().map(Entry::command).toList();
+
+        final UpdateMediaStatusesOutput output;
+        try {
+            output = this.updateMediaStatusesUseCase.execute(commands);
+        } catch (final RuntimeException ex) {
+            // one result that can never be applied must not send the whole batch back to the queue
+            log.warn("[message: video.listener.income] [status: batch failed, applying one by one] [batch: {}]", batch.size(), ex);
+            batch.forEach(this::applyAlone);
+            return;
+        }
+
+        logUnmatched(output);
+        this.applied.add(batch.size());
+        batch.forEach(entry -> entry.onApplied().run());
+    }
+
+    private void applyAlone(final Entry entry) {
+        final UpdateMediaStatusesOutput output;
+        try {
+            output = this.updateMediaStatusesUseCase.execute(List.of(entry.command()));
+        } catch (final DomainException | IllegalArgumentException ex) {
+            log.error("[message: video.listener.income] [status: dead-lettered] [command: {}]", entry.command(), ex);
+            this.deadLettered.increment();
+            entry.onDeadLettered().run();
+            return;
+        } catch (final RuntimeException ex) {
+            log.error("[message: video.listener.income] [status: failed] [command: {}]", entry.command(), ex);
+            this.failed.increment();
+            entry.onFailed().run();
+            return;
+        }
+
+        logUnmatched(output);
+        this.applied.increment();
+        entry.onApplied().run();
+    }
+
+    // a result of a video or media that no longer exists can never be applied, it is acked like the others
+    private static void logUnmatched(final UpdateMediaStatusesOutput output) {
+        for (final var unmatched : output.unmatched()) {
+            log.warn(
+                "[message: video.listener.income] [status: unmatched] [videoId: {}] [resourceId: {}]",
+                unmatched.videoId(),
+                unmatched.resourceId()
+            );
+        }
+    }
+
+    private record Entry(UpdateMediaStatusCommand command, Runnable onApplied, Runnable onFailed, Runnable onDeadLettered) {
+
+    }
+
+}
@@ -0,0 +1,183 @@
+package org.fullcycle.admin.catalog.infrastructure.amqp;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// tasks sharing a key run one at a time in submission order, tasks of different keys run in parallel
+public class PartitionedExecutor implements MeterBinder, AutoCloseable {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Partition[] partitions;
+
+    public PartitionedExecutor(final String name, final int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("'partitions' must be greater than zero");
+        }
+
+        this.name = Objects.requireNonNull(name);
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition(Executors.newSingleThreadExecutor(Thread.ofVirtual().name(name + "-" + i).factory()));
+        }
+    }
+
+    public void execute(final String key, final Runnable task) {
+        Objects.requireNonNull(task);
+
+        final var partition = partitionOf(key);
+        final var submittedAt = System.nanoTime();
+        partition.backlog.incrementAndGet();
+
+        partition.executor.execute(() -> {
+            final var startedAt = System.nanoTime();
+            partition.backlog.decrementAndGet();
+            partition.lagNanos.add(startedAt - submittedAt);
+            partition.maxLagNanos.accumulateAndGet(startedAt - submittedAt, Math::max);
+
+            try {
+                task.run();
+            } finally {
+                partition.processingNanos.add(System.nanoTime() - startedAt);
+                partition.completed.increment();
+            }
+        });
+    }
+
+    public Stats stats() {
+        return Arrays.stream(this.partitions)
+            .map(Partition::stats)
+            .reduce(Stats::merge)
+            .orElseThrow();
+    }
+
+    // a hot key shows up as one partition lagging behind the others
+    public List<Stats> partitionStats() {
+        return Arrays.stream(this.partitions).map(Partition::stats).toList();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (int i = 0; i < this.partitions.length; i++) {
+            final var partition = this.partitions[i];
+            final var tags = Tags.of("executor", this.name, "partition", String.valueOf(i));
+
+            Gauge.builder("partitioned.executor.backlog", partition, it -> it.backlog.get())
+                .description("Tasks submitted and not yet started")
+                .tags(tags)
+                .register(registry);
+            Gauge.builder("partitioned.executor.lag.max", partition, it -> it.maxLagNanos.get() / 1e9)
+                .description("Longest a task waited for its partition")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(registry);
+            FunctionTimer.builder(
+                    "partitioned.executor.lag",
+                    partition,
+                    it -> it.completed.sum(),
+                    it -> it.lagNanos.sum(),
+                    TimeUnit.NANOSECONDS
+                )
+                .description("Time tasks waited for their partition")
+                .tags(tags)
+                .register(registry);
+            FunctionTimer.builder(
+                    "partitioned.executor.processing",
+                    partition,
+                    it -> it.completed.sum(),
+                    it -> it.processingNanos.sum(),
+                    TimeUnit.NANOSECONDS
+                )
+                .description("Time tasks ran on their partition")
+                .tags(tags)
+                .register(registry);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (final var partition : this.partitions) {
+            partition.executor.shutdown();
+        }
+
+        try {
+            for (final var partition : this.partitions) {
+                partition.executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Partition partitionOf(final String key) {
+        return this.partitions[Math.floorMod(Objects.hashCode(key), this.partitions.length)];
+    }
+
+    public record Stats(
+        long completed,
+        int backlog,
+        Duration averageLag,
+        Duration maxLag,
+        Duration averageProcessingTime
+    ) {
+
+        private Stats merge(final Stats other) {
+            final var total = this.completed + other.completed;
+            return new Stats(
+                total,
+                this.backlog + other.backlog,
+                average(this.averageLag, this.completed, other.averageLag, other.completed),
+                this.maxLag.compareTo(other.maxLag) >= 0 ? this.maxLag : other.maxLag,
+                average(this.averageProcessingTime, this.completed, other.averageProcessingTime, other.completed)
+            );
+        }
+
+        private static Duration average(final Duration one, final long ones, final Duration other, final long others) {
+            final var total = ones + others;
+            return total == 0 ? Duration.ZERO : one.multipliedBy(ones).plus(other.multipliedBy(others)).dividedBy(total);
+        }
+
+    }
+
+    private static final class Partition {
+
+        private final ExecutorService executor;
+        private final AtomicInteger backlog = new AtomicInteger();
+        private final AtomicLong maxLagNanos = new AtomicLong();
+        private final LongAdder lagNanos = new LongAdder();
+        private final LongAdder processingNanos = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+
+        private Partition(final ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        private Stats stats() {
+            final var completed = this.completed.sum();
+            return new Stats(
+                completed,
+                this.backlog.get(),
+                Duration.ofNanos(completed == 0 ? 0 : this.lagNanos.sum() / completed),
+                Duration.ofNanos(this.maxLagNanos.get()),
+                Duration.ofNanos(completed == 0 ? 0 : this.processingNanos.sum() / completed)
+            );
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.fullcycle.admin.catalog.infrastructure.amqp;
 
+import com.rabbitmq.client.Channel;
 import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
 import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusUseCase;
 import org.fullcycle.admin.catalog.domain.video.MediaStatus;
@@ -10,9 +11,15 @@ import org.fullcycle.admin.catalog.infrastructure.video.models.VideoEncoderResul
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
 @Component
 public class VideoEncodedListener {
 
@@ -20,37 +27,107 @@ public class VideoEncodedListener {
     protected static final String VIDEO_ENCODED_LISTENER_ID = "video-encoded-listener";
 
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final PartitionedExecutor videoEncodedExecutor;
+    private final MediaStatusBatcher videoEncodedBatcher;
 
-    public VideoEncodedListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+    public VideoEncodedListener(
+        final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+        final PartitionedExecutor videoEncodedExecutor,
+        final Optional<MediaStatusBatcher> videoEncodedBatcher
+    ) {
         this.updateMediaStatusUseCase = updateMediaStatusUseCase;
+        this.videoEncodedExecutor = Objects.requireNonNull(videoEncodedExecutor);
+        this.videoEncodedBatcher = videoEncodedBatcher.orElse(null);
     }
 
-    @RabbitListener(id = VIDEO_ENCODED_LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-    public void onVideoEncodedMessage(@Payload final String message) {
-        final VideoEncoderResult videoEncoderResult = Json.readValue(message, VideoEncoderResult.class);
+    @RabbitListener(
+        id = VIDEO_ENCODED_LISTENER_ID,
+        queues = "${amqp.queues.video-encoded.queue}",
+        containerFactory = "videoEncodedListenerContainerFactory"
+    )
+    public void onVideoEncodedMessage(
+        @Payload final String message,
+        final Channel channel,
+        @Header(AmqpHeaders.DELIVERY_TAG) final long deliveryTag
+    ) {
+        final VideoEncoderResult videoEncoderResult;
+        try {
+            videoEncoderResult = Json.readValue(message, VideoEncoderResult.class);
+        } catch (final RuntimeException ex) {
+            log.error("[message: video.listener.income] [status: unreadable] [payload: {}]", message, ex);
+            reject(channel, deliveryTag, false);
+            return;
+        }
 
-        switch (videoEncoderResult) {
-            case VideoEncoderCompleted completed -> this.handleCompleted(completed, message);
-            case VideoEncoderError error -> this.handleError(error, message);
-            default -> log.error("[message: video.listener.income] [status: unknown] [payload: {}]", message);
+        // in batching mode completed results are acked once their batch is applied, a result that can never be applied
+        // is rejected without requeue so it goes to the dead letter exchange
+        if (videoEncoderResult instanceof VideoEncoderCompleted completed && Objects.nonNull(this.videoEncodedBatcher)) {
+            this.videoEncodedBatcher.add(
+                commandOf(completed),
+                () -> ack(channel, deliveryTag),
+                () -> reject(channel, deliveryTag, true),
+                () -> reject(channel, deliveryTag, false)
+            );
+            return;
         }
+
+        // results of the same video are applied in the order they were received, the message is acked once applied
+        this.videoEncodedExecutor.execute(keyOf(videoEncoderResult), () -> {
+            try {
+                switch (videoEncoderResult) {
+                    case VideoEncoderCompleted completed -> this.handleCompleted(completed, message);
+                    case VideoEncoderError error -> this.handleError(error, message);
+                    default -> log.error("[message: video.listener.income] [status: unknown] [payload: {}]", message);
+                }
+                ack(channel, deliveryTag);
+            } catch (final RuntimeException ex) {
+                log.error("[message: video.listener.income] [status: failed] [payload: {}]", message, ex);
+                reject(channel, deliveryTag, true);
+            }
+        });
     }
 
     private void handleCompleted(final VideoEncoderCompleted videoEncoderCompleted, final String message) {
-        final var command = UpdateMediaStatusCommand.with(
+        this.updateMediaStatusUseCase.execute(commandOf(videoEncoderCompleted));
+        log.info("[message: video.listener.income] [status: completed] [payload: {}]", message);
+    }
+
+    @SuppressWarnings("all")
+    private void handleError(final VideoEncoderError videoEncoderError, final String message) {
+        log.error("[message: video.listener.income] [status: error] [payload: {}]", message);
+    }
+
+    private static UpdateMediaStatusCommand commandOf(final VideoEncoderCompleted videoEncoderCompleted) {
+        return UpdateMediaStatusCommand.with(
             MediaStatus.COMPLETED,
             videoEncoderCompleted.id(),
             videoEncoderCompleted.videoMetadata().resourceId(),
             videoEncoderCompleted.videoMetadata().encodedVideoFolder(),
             videoEncoderCompleted.videoMetadata().filePath()
         );
-        this.updateMediaStatusUseCase.execute(command);
-        log.info("[message: video.listener.income] [status: completed] [payload: {}]", message);
     }
 
-    @SuppressWarnings("all")
-    private void handleError(final VideoEncoderError videoEncoderError, final String message) {
-        log.error("[message: video.listener.income] [status: error] [payload: {}]", message);
+    private static String keyOf(final VideoEncoderResult videoEncoderResult) {
+        return switch (videoEncoderResult) {
+            case VideoEncoderCompleted completed -> completed.id();
+            case VideoEncoderError error -> Objects.isNull(error.message()) ? null : error.message().resourceId();
+        };
+    }
+
+    private static void ack(final Channel channel, final long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (final IOException ex) {
+            log.error("[message: video.listener.income] [status: ack failed] [deliveryTag: {}]", deliveryTag, ex);
+        }
+    }
+
+    private static void reject(final Channel channel, final long deliveryTag, final boolean requeue) {
+        try {
+            channel.basicReject(deliveryTag, requeue);
+        } catch (final IOException ex) {
+            log.error("[message: video.listener.income] [status: reject failed] [deliveryTag: {}]", deliveryTag, ex);
+        }
     }
 
 }
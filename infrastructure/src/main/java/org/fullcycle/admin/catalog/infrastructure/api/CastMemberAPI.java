@@ -65,7 +65,9 @@ public interface CastMemberAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-        @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction
+        @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "count", required = false, defaultValue = "exact") final String count
     );
 
     @Operation(summary = "Get a cast member by it's identifier")
@@ -0,0 +1,61 @@
+package org.fullcycle.admin.catalog.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.fullcycle.admin.catalog.infrastructure.api.controllers.GlobalExceptionHandler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Exports")
+@RequestMapping("/exports")
+public interface ExportAPI {
+
+    @Operation(summary = "Stream every videos, categories, genres or cast-members record as NDJSON or CSV, ordered by id")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Streaming the export"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Aggregate was not found",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "An invalid format was received",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @GetMapping("/{aggregate}")
+    ResponseEntity<StreamingResponseBody> export(
+        @PathVariable(name = "aggregate") final String aggregate,
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format
+    );
+
+}
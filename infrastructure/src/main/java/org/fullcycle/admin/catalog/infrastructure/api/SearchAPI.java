@@ -0,0 +1,57 @@
+package org.fullcycle.admin.catalog.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.fullcycle.admin.catalog.infrastructure.api.controllers.GlobalExceptionHandler;
+import org.fullcycle.admin.catalog.infrastructure.search.models.SuggestionResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@Tag(name = "Search")
+@RequestMapping("/search")
+public interface SearchAPI {
+
+    @Operation(summary = "Suggest videos, categories, genres and cast members by name prefix")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggested successfully",
+            useReturnTypeSchema = true
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "An invalid parameter was received",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @GetMapping(
+        value = "/suggest",
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    List<SuggestionResponse> suggest(
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+}
@@ -0,0 +1,224 @@
+package org.fullcycle.admin.catalog.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.fullcycle.admin.catalog.infrastructure.api.controllers.GlobalExceptionHandler;
+import org.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.ListVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.UploadMediaResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.Set;
+
+@Tag(name = "Videos")
+@RequestMapping("/videos")
+public interface VideoAPI {
+
+    @Operation(summary = "List all videos paginated, by offset or by cursor")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Listed successfully",
+            useReturnTypeSchema = true
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "An invalid parameter was received",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @GetMapping(
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    Pagination<ListVideoResponse> listVideos(
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+        @RequestParam(name = "perPage", required = false, defaultValue = "25") final int perPage,
+        @RequestParam(name = "sort", required = false, defaultValue = "title") final String sort,
+        @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+        @RequestParam(name = "categories_ids", required = false) final Set<String> categories,
+        @RequestParam(name = "genres_ids", required = false) final Set<String> genres,
+        @RequestParam(name = "cast_members_ids", required = false) final Set<String> castMembers
+    );
+
+    @Operation(summary = "Create a new video with its medias")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "Created successfully",
+            useReturnTypeSchema = true
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "A validation error was thrown",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @PostMapping(
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<CreateVideoResponse> createVideo(
+        @RequestParam(name = "title", required = false) final String title,
+        @RequestParam(name = "description", required = false) final String description,
+        @RequestParam(name = "year_launched", required = false) final Integer launchedAt,
+        @RequestParam(name = "duration", required = false) final Double duration,
+        @RequestParam(name = "opened", required = false) final Boolean opened,
+        @RequestParam(name = "published", required = false) final Boolean published,
+        @RequestParam(name = "rating", required = false) final String rating,
+        @RequestParam(name = "categories_id", required = false) final Set<String> categories,
+        @RequestParam(name = "genres_id", required = false) final Set<String> genres,
+        @RequestParam(name = "cast_members_id", required = false) final Set<String> castMembers,
+        @RequestParam(name = "video_file", required = false) final MultipartFile videoFile,
+        @RequestParam(name = "trailer_file", required = false) final MultipartFile trailerFile,
+        @RequestParam(name = "banner_file", required = false) final MultipartFile bannerFile,
+        @RequestParam(name = "thumb_file", required = false) final MultipartFile thumbFile,
+        @RequestParam(name = "thumb_half_file", required = false) final MultipartFile thumbHalfFile
+    );
+
+    @Operation(summary = "Create videos in bulk from a NDJSON stream, one video per line, reporting each line as it is processed")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Streaming the result of every line"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @PostMapping(
+        value = "/bulk",
+        consumes = MediaType.APPLICATION_NDJSON_VALUE,
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    ResponseEntity<StreamingResponseBody> ingestVideos(final InputStream body);
+
+    @Operation(summary = "Download a media of a video by it's type, honoring byte ranges")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Media streamed successfully"
+        ),
+        @ApiResponse(
+            responseCode = "206",
+            description = "Requested range of the media streamed successfully"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Media was not found",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "416",
+            description = "Requested range is not satisfiable"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @GetMapping(value = "/{id}/medias/{type}")
+    ResponseEntity<Resource> getMediaByType(
+        @PathVariable(name = "id") final String id,
+        @PathVariable(name = "type") final String type,
+        @RequestHeader(name = HttpHeaders.RANGE, required = false) final String range
+    );
+
+    @Operation(summary = "Upload a media of a video by it's type")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "Media uploaded successfully",
+            useReturnTypeSchema = true
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Video or media type was not found",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "An unexpected internal server error",
+            content = @Content(
+                schema = @Schema(
+                    implementation = GlobalExceptionHandler.ApiError.class
+                )
+            )
+        )
+    })
+    @PostMapping(
+        value = "/{id}/medias/{type}",
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<UploadMediaResponse> uploadMediaByType(
+        @PathVariable(name = "id") final String id,
+        @PathVariable(name = "type") final String type,
+        @RequestParam(name = "media_file") final MultipartFile media
+    );
+
+}
@@ -55,14 +55,18 @@ public class CastMemberController implements CastMemberAPI {
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String cursor,
+        final String count
     ) {
         final var command = ListCastMembersCommand.with(
             page,
             perPage,
             search,
             sort,
-            direction
+            direction,
+            cursor,
+            count
         );
 
         return this.listCastMembersUseCase.execute(command)
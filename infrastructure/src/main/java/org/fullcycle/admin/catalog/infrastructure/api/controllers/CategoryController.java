@@ -52,14 +52,18 @@ public class CategoryController implements CategoryAPI {
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String cursor,
+        final String count
     ) {
         final var command = ListCategoriesCommand.with(
             page,
             perPage,
             search,
             sort,
-            direction
+            direction,
+            cursor,
+            count
         );
 
         return this.listCategoriesUseCase.execute(command)
@@ -0,0 +1,48 @@
+package org.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.infrastructure.api.ExportAPI;
+import org.fullcycle.admin.catalog.infrastructure.export.CatalogExport;
+import org.fullcycle.admin.catalog.infrastructure.export.CatalogExporter;
+import org.fullcycle.admin.catalog.infrastructure.export.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Objects;
+
+@RestController
+public class ExportController implements ExportAPI {
+
+    private final CatalogExporter catalogExporter;
+
+    public ExportController(final CatalogExporter catalogExporter) {
+        this.catalogExporter = Objects.requireNonNull(catalogExporter, "'CatalogExporter' cannot be null");
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String aggregate, final String format) {
+        final var export = CatalogExport.of(aggregate)
+            .orElseThrow(() -> NotFoundException.with(new Error("Export of %s doesn't exists".formatted(aggregate))));
+        final var exportFormat = ExportFormat.of(format)
+            .orElseThrow(() -> DomainException.with(new Error("Export format %s is not supported".formatted(format))));
+
+        // written straight to the response as the cursor advances, neither the rows nor the body are buffered
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                    .filename("%s.%s".formatted(export.exportName(), exportFormat.extension()))
+                    .build()
+                    .toString()
+            )
+            .body(output -> this.catalogExporter.export(export, exportFormat, output));
+    }
+
+}
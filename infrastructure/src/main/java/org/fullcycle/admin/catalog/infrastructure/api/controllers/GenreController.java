@@ -53,14 +53,18 @@ public class GenreController implements GenreAPI {
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String cursor,
+        final String count
     ) {
         final var command = ListGenresCommand.with(
             page,
             perPage,
             search,
             sort,
-            direction
+            direction,
+            cursor,
+            count
         );
 
         return this.listGenresUseCase.execute(command)
@@ -3,6 +3,8 @@ package org.fullcycle.admin.catalog.infrastructure.api.controllers;
 import org.fullcycle.admin.catalog.domain.exception.DomainException;
 import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
 import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.infrastructure.utils.SqlUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,6 +16,8 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String MISSING_REFERENCE_MESSAGE = "Some referenced categories, genres or cast members could not be found";
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleUncaughtException(final Exception exception) {
         return ResponseEntity.internalServerError()
@@ -26,6 +30,17 @@ public class GlobalExceptionHandler {
             .body(ApiError.from(exception));
     }
 
+    // a reference deleted through another instance can pass its cached existence check and only fail on the foreign key
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> handleDataIntegrityViolationException(final DataIntegrityViolationException exception) {
+        if (!SqlUtils.isMissingReference(exception)) {
+            return handleUncaughtException(exception);
+        }
+
+        return ResponseEntity.unprocessableEntity()
+            .body(ApiError.from(DomainException.with(new Error(MISSING_REFERENCE_MESSAGE))));
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ApiError> handleNotFoundException(final NotFoundException exception) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
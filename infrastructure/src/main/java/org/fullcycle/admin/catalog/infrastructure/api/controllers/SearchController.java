@@ -0,0 +1,30 @@
+package org.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import org.fullcycle.admin.catalog.application.search.suggest.SuggestCommand;
+import org.fullcycle.admin.catalog.application.search.suggest.SuggestUseCase;
+import org.fullcycle.admin.catalog.infrastructure.api.SearchAPI;
+import org.fullcycle.admin.catalog.infrastructure.search.models.SuggestionResponse;
+import org.fullcycle.admin.catalog.infrastructure.search.presenters.SearchApiPresenter;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class SearchController implements SearchAPI {
+
+    private final SuggestUseCase suggestUseCase;
+
+    public SearchController(final SuggestUseCase suggestUseCase) {
+        this.suggestUseCase = Objects.requireNonNull(suggestUseCase, "'SuggestUseCase' cannot be null");
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(final String search, final int limit) {
+        return this.suggestUseCase.execute(SuggestCommand.with(search, limit))
+            .stream()
+            .map(SearchApiPresenter::present)
+            .toList();
+    }
+
+}
@@ -0,0 +1,385 @@
+package org.fullcycle.admin.catalog.infrastructure.api.controllers;
+
+import org.apache.commons.lang3.StringUtils;
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import org.fullcycle.admin.catalog.application.video.ingest.IngestVideoOutput;
+import org.fullcycle.admin.catalog.application.video.ingest.IngestVideosUseCase;
+import org.fullcycle.admin.catalog.application.video.media.get.GetMediaCommand;
+import org.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import org.fullcycle.admin.catalog.application.video.media.upload.UploadMediaCommand;
+import org.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosCommand;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
+import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
+import org.fullcycle.admin.catalog.domain.video.VideoResource;
+import org.fullcycle.admin.catalog.infrastructure.api.VideoAPI;
+import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.fullcycle.admin.catalog.infrastructure.utils.UriUtils;
+import org.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.IngestVideoRequest;
+import org.fullcycle.admin.catalog.infrastructure.video.models.IngestVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.ListVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.UploadMediaResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+public class VideoController implements VideoAPI {
+
+    private static final String DEFAULT_CONTENT_TYPE = org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    private static final String BYTES_UNIT = "bytes";
+
+    // rows held at once by a bulk ingestion, each chunk is validated and created in one transaction
+    private static final int INGEST_CHUNK_SIZE = 500;
+
+    // a line past this is drained and rejected instead of being buffered whole
+    private static final int INGEST_MAX_LINE_LENGTH = 64 * 1024;
+
+    private final ListVideosUseCase listVideosUseCase;
+    private final CreateVideoUseCase createVideoUseCase;
+    private final IngestVideosUseCase ingestVideosUseCase;
+    private final GetMediaUseCase getMediaUseCase;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public VideoController(
+        final ListVideosUseCase listVideosUseCase,
+        final CreateVideoUseCase createVideoUseCase,
+        final IngestVideosUseCase ingestVideosUseCase,
+        final GetMediaUseCase getMediaUseCase,
+        final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase, "'ListVideosUseCase' cannot be null");
+        this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase, "'CreateVideoUseCase' cannot be null");
+        this.ingestVideosUseCase = Objects.requireNonNull(ingestVideosUseCase, "'IngestVideosUseCase' cannot be null");
+        this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase, "'GetMediaUseCase' cannot be null");
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase, "'UploadMediaUseCase' cannot be null");
+    }
+
+    @Override
+    public Pagination<ListVideoResponse> listVideos(
+        final String search,
+        final int page,
+        final int perPage,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final String count,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers
+    ) {
+        final var command = ListVideosCommand.with(
+            page,
+            perPage,
+            search,
+            sort,
+            direction,
+            categories,
+            genres,
+            castMembers,
+            cursor,
+            count
+        );
+
+        return this.listVideosUseCase.execute(command)
+            .map(VideoApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<CreateVideoResponse> createVideo(
+        final String title,
+        final String description,
+        final Integer launchedAt,
+        final Double duration,
+        final Boolean opened,
+        final Boolean published,
+        final String rating,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final MultipartFile videoFile,
+        final MultipartFile trailerFile,
+        final MultipartFile bannerFile,
+        final MultipartFile thumbFile,
+        final MultipartFile thumbHalfFile
+    ) {
+        final var command = CreateVideoCommand.with(
+            title,
+            description,
+            launchedAt,
+            duration,
+            opened,
+            published,
+            rating,
+            categories,
+            genres,
+            castMembers,
+            resourceOf(videoFile),
+            resourceOf(trailerFile),
+            resourceOf(bannerFile),
+            resourceOf(thumbFile),
+            resourceOf(thumbHalfFile)
+        );
+
+        final var output = this.createVideoUseCase.execute(command);
+        return ResponseEntity.created(UriUtils.buildAndExpandResourceId(output.id()))
+            .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> ingestVideos(final InputStream body) {
+        return ResponseEntity.ok()
+            .contentType(org.springframework.http.MediaType.APPLICATION_NDJSON)
+            .body(output -> ingest(body, output));
+    }
+
+    @Override
+    public ResponseEntity<org.springframework.core.io.Resource> getMediaByType(final String id, final String type, final String range) {
+        final var media = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+        final var size = media.size();
+
+        final var headers = new HttpHeaders();
+        headers.setContentType(org.springframework.http.MediaType.parseMediaType(media.contentType()));
+        headers.setContentDisposition(ContentDisposition.inline().filename(media.name()).build());
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+
+        if (StringUtils.isBlank(range)) {
+            headers.setContentLength(size);
+            return ResponseEntity.ok()
+                .headers(headers)
+                .body(new InputStreamResource(media.content().openStream()));
+        }
+
+        final long start;
+        final long end;
+        try {
+            final var requested = HttpRange.parseRanges(range);
+            if (requested.isEmpty()) {
+                throw new IllegalArgumentException("Empty range");
+            }
+            start = requested.get(0).getRangeStart(size);
+            end = requested.get(0).getRangeEnd(size);
+            // HttpRange does not check a first byte past the end of the media
+            if (start >= size || start > end) {
+                throw new IllegalArgumentException("Range starts past the end of the media");
+            }
+        } catch (final IllegalArgumentException exception) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "%s */%d".formatted(BYTES_UNIT, size))
+                .build();
+        }
+
+        final var length = end - start + 1;
+        headers.setContentLength(length);
+        headers.set(HttpHeaders.CONTENT_RANGE, "%s %d-%d/%d".formatted(BYTES_UNIT, start, end, size));
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .headers(headers)
+            .body(new InputStreamResource(media.content().openStream(start, length)));
+    }
+
+    @Override
+    public ResponseEntity<UploadMediaResponse> uploadMediaByType(final String id, final String type, final MultipartFile media) {
+        final var mediaType = MediaType.of(type)
+            .orElseThrow(() -> NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type))));
+
+        final var command = UploadMediaCommand.with(id, VideoResource.with(resourceOf(media), mediaType));
+
+        final var output = this.uploadMediaUseCase.execute(command);
+        return ResponseEntity.created(URI.create("/videos/%s/medias/%s".formatted(output.videoId(), output.mediaType().name())))
+            .body(VideoApiPresenter.present(output));
+    }
+
+    // reads, creates and reports one chunk at a time, so memory stays flat however long the stream is
+    private void ingest(final InputStream body, final OutputStream output) throws IOException {
+        final var reader = new LineReader(
+            new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)),
+            INGEST_MAX_LINE_LENGTH
+        );
+        final var writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        final var lines = new ArrayList<Integer>(INGEST_CHUNK_SIZE);
+        final var commands = new ArrayList<CreateVideoCommand>(INGEST_CHUNK_SIZE);
+        final var rejections = new ArrayList<String>(INGEST_CHUNK_SIZE);
+
+        var number = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (!reader.isOverlong() && StringUtils.isBlank(line)) {
+                continue;
+            }
+
+            final var command = reader.isOverlong() ? null : commandOf(line);
+            lines.add(number);
+            commands.add(command);
+            rejections.add(reader.isOverlong()
+                ? "Line exceeds %d characters".formatted(INGEST_MAX_LINE_LENGTH)
+                : "Malformed JSON line");
+
+            if (lines.size() == INGEST_CHUNK_SIZE) {
+                ingest(lines, commands, rejections, writer);
+            }
+        }
+
+        ingest(lines, commands, rejections, writer);
+    }
+
+    // rejected lines stay in the chunk as null commands, so the report keeps the input order
+    private void ingest(
+        final List<Integer> lines,
+        final List<CreateVideoCommand> commands,
+        final List<String> rejections,
+        final Writer writer
+    ) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        final var valid = commands.stream()
+            .filter(Objects::nonNull)
+            .toList();
+        final var outputs = valid.isEmpty()
+            ? List.<IngestVideoOutput>of().iterator()
+            : this.ingestVideosUseCase.execute(valid).iterator();
+
+        for (int i = 0; i < lines.size(); i++) {
+            final var response = Objects.isNull(commands.get(i))
+                ? IngestVideoResponse.rejected(lines.get(i), rejections.get(i))
+                : VideoApiPresenter.present(lines.get(i), outputs.next());
+
+            writer.write(Json.writeValueAsString(response));
+            writer.write('\n');
+        }
+
+        writer.flush();
+        lines.clear();
+        commands.clear();
+        rejections.clear();
+    }
+
+    private static CreateVideoCommand commandOf(final String line) {
+        final IngestVideoRequest request;
+        try {
+            request = Json.readValue(line, IngestVideoRequest.class);
+        } catch (final RuntimeException exception) {
+            return null;
+        }
+
+        if (Objects.isNull(request)) {
+            return null;
+        }
+
+        return CreateVideoCommand.with(
+            request.title(),
+            request.description(),
+            request.launchedAt(),
+            request.duration(),
+            request.opened(),
+            request.published(),
+            request.rating(),
+            request.categories(),
+            request.genres(),
+            request.castMembers(),
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
+    private Resource resourceOf(final MultipartFile file) {
+        if (Objects.isNull(file) || file.isEmpty()) {
+            return null;
+        }
+
+        return Resource.with(
+            ResourceContent.of(file::getInputStream, file.getSize()),
+            Optional.ofNullable(file.getContentType()).orElse(DEFAULT_CONTENT_TYPE),
+            Optional.ofNullable(file.getOriginalFilename()).orElse(file.getName())
+        );
+    }
+
+    // BufferedReader.readLine holds a whole line however long it is, this one stops keeping chars past the cap
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean overlong;
+        private boolean skipLineFeed;
+
+        private LineReader(final Reader reader, final int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        private String readLine() throws IOException {
+            this.line.setLength(0);
+            this.overlong = false;
+
+            var read = false;
+            int c;
+            while ((c = this.reader.read()) != -1) {
+                if (this.skipLineFeed) {
+                    this.skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+
+                if (c == '\n' || c == '\r') {
+                    this.skipLineFeed = c == '\r';
+                    return this.line.toString();
+                }
+
+                read = true;
+                if (this.line.length() < this.maxLength) {
+                    this.line.append((char) c);
+                } else {
+                    this.overlong = true;
+                }
+            }
+
+            return read ? this.line.toString() : null;
+        }
+
+        private boolean isOverlong() {
+            return this.overlong;
+        }
+
+    }
+
+}
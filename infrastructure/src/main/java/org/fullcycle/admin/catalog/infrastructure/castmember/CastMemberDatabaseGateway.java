@@ -4,16 +4,29 @@ import org.fullcycle.admin.catalog.domain.Identifier;
 import org.fullcycle.admin.catalog.domain.castmember.CastMember;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
 import org.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import org.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
+import org.fullcycle.admin.catalog.infrastructure.persistence.AggregateCache;
+import org.fullcycle.admin.catalog.infrastructure.persistence.ExistenceCache;
+import org.fullcycle.admin.catalog.infrastructure.persistence.SpecificationQueries;
+import org.fullcycle.admin.catalog.infrastructure.persistence.TableStatistics;
+import org.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.PaginationUtils;
 import org.fullcycle.admin.catalog.infrastructure.utils.StringUtils;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -25,56 +38,113 @@ import static org.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtil
 @Component
 public class CastMemberDatabaseGateway implements CastMemberGateway {
 
-    private final CastMemberRepository castMemberRepository;
+    private static final String CACHE_REGION = "cast-members";
+    private static final String EXISTENCE_REGION = "cast_members";
 
-    public CastMemberDatabaseGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberRepository castMemberRepository;
+    private final TableStatistics tableStatistics;
+    private final SpecificationQueries specificationQueries;
+    private final SuggestionGateway suggestionGateway;
+    private final ExistenceCache existenceCache;
+    private final VideoPreviewRepository videoPreviewRepository;
+    private final AggregateCache aggregateCache;
+
+    public CastMemberDatabaseGateway(
+        final CastMemberRepository castMemberRepository,
+        final TableStatistics tableStatistics,
+        final SpecificationQueries specificationQueries,
+        final SuggestionGateway suggestionGateway,
+        final ExistenceCache existenceCache,
+        final VideoPreviewRepository videoPreviewRepository,
+        final AggregateCache aggregateCache
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.specificationQueries = Objects.requireNonNull(specificationQueries);
+        this.suggestionGateway = Objects.requireNonNull(suggestionGateway);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.videoPreviewRepository = Objects.requireNonNull(videoPreviewRepository);
+        this.aggregateCache = Objects.requireNonNull(aggregateCache);
     }
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery query) {
+        if (query.isKeyset()) {
+            return KeysetUtils.findAll(
+                this.castMemberRepository,
+                termsOf(query),
+                query,
+                CastMemberJpaEntity::getId,
+                CastMemberJpaEntity::toAggregate
+            );
+        }
+
         final var page = PageRequest.of(
             query.page(),
             query.perPage(),
             Sort.by(Direction.fromString(query.direction()), query.sort())
         );
 
-        final var specifications = Optional.ofNullable(query.terms())
-            .filter(StringUtils::isNotBlank)
-            .map(CastMemberDatabaseGateway::applyTerms)
-            .orElse(null);
+        if (PaginationUtils.isCounted(query.countMode(), StringUtils.isNotBlank(query.terms()))) {
+            final var pageResult = this.castMemberRepository.findAll(Specification.where(termsOf(query)), page);
+            return PaginationUtils.from(pageResult, CastMemberJpaEntity::toAggregate);
+        }
 
-        final var pageResult = this.castMemberRepository.findAll(Specification.where(specifications), page);
+        final var slice = this.specificationQueries.findSlice(CastMemberJpaEntity.class, termsOf(query), page);
+        final var total = query.countMode() == CountMode.ESTIMATED
+            ? this.tableStatistics.estimateRows(CastMemberJpaEntity.class)
+            : Pagination.UNKNOWN_TOTAL;
 
-        return new Pagination<>(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.map(CastMemberJpaEntity::toAggregate).toList()
-        );
+        return PaginationUtils.from(slice, total, CastMemberJpaEntity::toAggregate);
     }
 
     @Override
     public Optional<CastMember> findById(final CastMemberID castMemberID) {
+        if (!IdentifierUtils.isValid(castMemberID.getValue())) {
+            return Optional.empty();
+        }
         return this.castMemberRepository.findById(castMemberID.getValue())
             .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<CastMember> findReadOnlyById(final CastMemberID castMemberID) {
+        if (!IdentifierUtils.isValid(castMemberID.getValue())) {
+            return Optional.empty();
+        }
+        return this.aggregateCache.find(
+            CACHE_REGION,
+            castMemberID.getValue(),
+            id -> this.castMemberRepository.findById(id).map(CastMemberJpaEntity::toAggregate),
+            CastMember::with
+        );
+    }
+
     @Override
     public CastMember create(final CastMember castMember) {
-        return save(castMember);
+        final var createdCastMember = save(castMember);
+        this.existenceCache.present(EXISTENCE_REGION, createdCastMember.getId().getValue());
+        return createdCastMember;
     }
 
     @Override
     public CastMember update(final CastMember castMember) {
-        return save(castMember);
+        final var updatedCastMember = save(castMember);
+        this.aggregateCache.evict(CACHE_REGION, updatedCastMember.getId().getValue());
+        return updatedCastMember;
     }
 
+    // the row, its preview links and the cache evictions go together, the evictions only run once it commits
+    @Transactional
     @Override
     public void deleteById(final CastMemberID castMemberID) {
         final var id = castMemberID.getValue();
-        if (this.castMemberRepository.existsById(id)) {
+        if (IdentifierUtils.isValid(id) && this.castMemberRepository.existsById(id)) {
             this.castMemberRepository.deleteById(id);
+            this.videoPreviewRepository.unlinkCastMember(id);
+            this.existenceCache.evict(EXISTENCE_REGION, id);
+            this.aggregateCache.evict(CACHE_REGION, id);
+            this.suggestionGateway.remove(SuggestionType.CAST_MEMBER, id);
         }
     }
 
@@ -82,22 +152,36 @@ public class CastMemberDatabaseGateway implements CastMemberGateway {
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIds) {
         final var ids = StreamSupport.stream(castMemberIds.spliterator(), false)
             .map(Identifier::getValue)
+            .filter(IdentifierUtils::isValid)
             .toList();
 
-        return this.castMemberRepository.existsByIds(ids)
+        return this.existenceCache.existsByIds(EXISTENCE_REGION, ids, this.castMemberRepository::existsByIds)
             .stream()
             .map(CastMemberID::from)
             .toList();
     }
 
+    private static Specification<CastMemberJpaEntity> termsOf(final SearchQuery query) {
+        return Optional.ofNullable(query.terms())
+            .filter(StringUtils::isNotBlank)
+            .map(CastMemberDatabaseGateway::applyTerms)
+            .orElse(null);
+    }
+
     private static Specification<CastMemberJpaEntity> applyTerms(final String term) {
         return like("name", term);
     }
 
     private CastMember save(final CastMember castMember) {
-        return this.castMemberRepository.save(
+        final var savedCastMember = this.castMemberRepository.save(
             CastMemberJpaEntity.from(castMember)
         ).toAggregate();
+
+        this.suggestionGateway.index(
+            Suggestion.with(savedCastMember.getId().getValue(), savedCastMember.getName(), SuggestionType.CAST_MEMBER)
+        );
+
+        return savedCastMember;
     }
 
 }
@@ -3,6 +3,8 @@ package org.fullcycle.admin.catalog.infrastructure.castmember.persistence;
 import org.fullcycle.admin.catalog.domain.castmember.CastMember;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberType;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
+import org.hibernate.annotations.Type;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,6 +19,7 @@ import java.time.Instant;
 public class CastMemberJpaEntity {
 
     @Id
+    @Type(BinaryIdentifierType.class)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -3,16 +3,31 @@ package org.fullcycle.admin.catalog.infrastructure.category;
 import org.fullcycle.admin.catalog.domain.category.Category;
 import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
 import org.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import org.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.fullcycle.admin.catalog.infrastructure.genre.GenreDatabaseGateway;
+import org.fullcycle.admin.catalog.infrastructure.persistence.AggregateCache;
+import org.fullcycle.admin.catalog.infrastructure.persistence.ExistenceCache;
+import org.fullcycle.admin.catalog.infrastructure.persistence.FullTextSearch;
+import org.fullcycle.admin.catalog.infrastructure.persistence.SpecificationQueries;
+import org.fullcycle.admin.catalog.infrastructure.persistence.TableStatistics;
+import org.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.PaginationUtils;
 import org.fullcycle.admin.catalog.infrastructure.utils.StringUtils;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,56 +39,129 @@ import static org.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtil
 @Component
 public class CategoryDatabaseGateway implements CategoryGateway {
 
-    private final CategoryRepository categoryRepository;
+    private static final String CACHE_REGION = "categories";
+    private static final String EXISTENCE_REGION = "categories";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
 
-    public CategoryDatabaseGateway(final CategoryRepository categoryRepository) {
+    private final CategoryRepository categoryRepository;
+    private final TableStatistics tableStatistics;
+    private final SpecificationQueries specificationQueries;
+    private final FullTextSearch fullTextSearch;
+    private final SuggestionGateway suggestionGateway;
+    private final ExistenceCache existenceCache;
+    private final VideoPreviewRepository videoPreviewRepository;
+    private final AggregateCache aggregateCache;
+
+    public CategoryDatabaseGateway(
+        final CategoryRepository categoryRepository,
+        final TableStatistics tableStatistics,
+        final SpecificationQueries specificationQueries,
+        final FullTextSearch fullTextSearch,
+        final SuggestionGateway suggestionGateway,
+        final ExistenceCache existenceCache,
+        final VideoPreviewRepository videoPreviewRepository,
+        final AggregateCache aggregateCache
+    ) {
         this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.specificationQueries = Objects.requireNonNull(specificationQueries);
+        this.fullTextSearch = Objects.requireNonNull(fullTextSearch);
+        this.suggestionGateway = Objects.requireNonNull(suggestionGateway);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.videoPreviewRepository = Objects.requireNonNull(videoPreviewRepository);
+        this.aggregateCache = Objects.requireNonNull(aggregateCache);
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery query) {
+        final var against = this.fullTextSearch.against(query.terms());
+
+        if (query.isKeyset()) {
+            return KeysetUtils.findAll(
+                this.categoryRepository,
+                termsOf(query.terms(), against),
+                query,
+                CategoryJpaEntity::getId,
+                CategoryJpaEntity::toAggregate
+            );
+        }
+
+        final var byRelevance = FullTextSearch.isRelevance(query.sort()) && against.isPresent();
         final var page = PageRequest.of(
             query.page(),
             query.perPage(),
-            Sort.by(Direction.fromString(query.direction()), query.sort())
+            byRelevance ? Sort.unsorted() : sortOf(query)
         );
 
-        final var specifications = Optional.ofNullable(query.terms())
-            .filter(StringUtils::isNotBlank)
-            .map(CategoryDatabaseGateway::applyTerms)
-            .orElse(null);
+        final var where = termsOf(query.terms(), against);
+        final var ordering = byRelevance
+            ? FullTextSearch.<CategoryJpaEntity>byRelevance(against.get(), NAME, DESCRIPTION)
+            : SpecificationQueries.Ordering.<CategoryJpaEntity>by(page.getSort());
 
-        final var pageResult = this.categoryRepository.findAll(Specification.where(specifications), page);
+        if (PaginationUtils.isCounted(query.countMode(), StringUtils.isNotBlank(query.terms()))) {
+            final var pageResult = this.specificationQueries.findAll(CategoryJpaEntity.class, where, ordering, page);
+            return PaginationUtils.from(pageResult, CategoryJpaEntity::toAggregate);
+        }
 
-        return new Pagination<>(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+        final var slice = this.specificationQueries.findSlice(CategoryJpaEntity.class, where, ordering, page);
+
+        final var total = query.countMode() == CountMode.ESTIMATED
+            ? this.tableStatistics.estimateRows(CategoryJpaEntity.class)
+            : Pagination.UNKNOWN_TOTAL;
+
+        return PaginationUtils.from(slice, total, CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public Optional<Category> findById(final CategoryID categoryID) {
+        if (!IdentifierUtils.isValid(categoryID.getValue())) {
+            return Optional.empty();
+        }
         return this.categoryRepository.findById(categoryID.getValue())
             .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Category> findReadOnlyById(final CategoryID categoryID) {
+        if (!IdentifierUtils.isValid(categoryID.getValue())) {
+            return Optional.empty();
+        }
+        return this.aggregateCache.find(
+            CACHE_REGION,
+            categoryID.getValue(),
+            id -> this.categoryRepository.findById(id).map(CategoryJpaEntity::toAggregate),
+            Category::with
+        );
+    }
+
     @Override
     public Category create(final Category category) {
-        return save(category);
+        final var createdCategory = save(category);
+        this.existenceCache.present(EXISTENCE_REGION, createdCategory.getId().getValue());
+        return createdCategory;
     }
 
     @Override
     public Category update(final Category category) {
-        return save(category);
+        final var updatedCategory = save(category);
+        this.aggregateCache.evict(CACHE_REGION, updatedCategory.getId().getValue());
+        return updatedCategory;
     }
 
+    // the row, its preview links and the cache evictions go together, the evictions only run once it commits
+    @Transactional
     @Override
     public void deleteById(final CategoryID categoryID) {
         final var id = categoryID.getValue();
-        if (this.categoryRepository.existsById(id)) {
+        if (IdentifierUtils.isValid(id) && this.categoryRepository.existsById(id)) {
             this.categoryRepository.deleteById(id);
+            this.videoPreviewRepository.unlinkCategory(id);
+            this.existenceCache.evict(EXISTENCE_REGION, id);
+            this.aggregateCache.evict(CACHE_REGION, id);
+            // the genres_categories rows cascade away, any cached genre may have listed it
+            this.aggregateCache.evictAll(GenreDatabaseGateway.CACHE_REGION);
+            this.suggestionGateway.remove(SuggestionType.CATEGORY, id);
         }
     }
 
@@ -81,22 +169,46 @@ public class CategoryDatabaseGateway implements CategoryGateway {
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIds) {
         final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
             .map(CategoryID::getValue)
+            .filter(IdentifierUtils::isValid)
             .toList();
 
-        return this.categoryRepository.existsByIds(ids)
+        return this.existenceCache.existsByIds(EXISTENCE_REGION, ids, this.categoryRepository::existsByIds)
             .stream()
             .map(CategoryID::from)
             .toList();
     }
 
+    // a relevance sort without full-text terms to rank has nothing to order by but the name
+    private static Sort sortOf(final SearchQuery query) {
+        final var sort = FullTextSearch.isRelevance(query.sort()) ? NAME : query.sort();
+        return Sort.by(Direction.fromString(query.direction()), sort);
+    }
+
+    private static Specification<CategoryJpaEntity> termsOf(final String terms, final Optional<String> against) {
+        if (against.isPresent()) {
+            return FullTextSearch.matches(against.get(), NAME, DESCRIPTION);
+        }
+
+        return Optional.ofNullable(terms)
+            .filter(StringUtils::isNotBlank)
+            .map(CategoryDatabaseGateway::applyTerms)
+            .orElse(null);
+    }
+
     private static Specification<CategoryJpaEntity> applyTerms(final String term) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", term);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", term);
+        final Specification<CategoryJpaEntity> nameLike = like(NAME, term);
+        final Specification<CategoryJpaEntity> descriptionLike = like(DESCRIPTION, term);
         return nameLike.or(descriptionLike);
     }
 
     private Category save(final Category category) {
-        return this.categoryRepository.save(CategoryJpaEntity.from(category)).toAggregate();
+        final var savedCategory = this.categoryRepository.save(CategoryJpaEntity.from(category)).toAggregate();
+
+        this.suggestionGateway.index(
+            Suggestion.with(savedCategory.getId().getValue(), savedCategory.getName(), SuggestionType.CATEGORY)
+        );
+
+        return savedCategory;
     }
 
 }
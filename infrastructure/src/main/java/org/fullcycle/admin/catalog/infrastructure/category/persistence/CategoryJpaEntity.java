@@ -2,6 +2,8 @@ package org.fullcycle.admin.catalog.infrastructure.category.persistence;
 
 import org.fullcycle.admin.catalog.domain.category.Category;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
+import org.hibernate.annotations.Type;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,6 +16,7 @@ import java.time.Instant;
 public class CategoryJpaEntity {
 
     @Id
+    @Type(BinaryIdentifierType.class)
     @Column(name = "id", nullable = false)
     private String id;
 
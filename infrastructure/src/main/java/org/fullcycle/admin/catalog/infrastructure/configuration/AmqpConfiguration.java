@@ -7,12 +7,21 @@ import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.Vide
 import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueue;
 import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEncodedQueueProperties;
 import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoEventsExchange;
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusesUseCase;
+import org.fullcycle.admin.catalog.infrastructure.amqp.MediaStatusBatcher;
+import org.fullcycle.admin.catalog.infrastructure.amqp.PartitionedExecutor;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.ListenerProperties;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
 import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Exchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +43,47 @@ public class AmqpConfiguration {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.publisher")
+    public PublisherProperties publisherProperties() {
+        return new PublisherProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    public ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+        final ConnectionFactory connectionFactory,
+        final ListenerProperties videoEncodedListenerProperties
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        // a single consumer keeps the arrival order, the partitioned executor provides the parallelism
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(videoEncodedListenerProperties.getPrefetch());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    public PartitionedExecutor videoEncodedExecutor(final ListenerProperties videoEncodedListenerProperties) {
+        return new PartitionedExecutor("video-encoded", videoEncodedListenerProperties.getConcurrency());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "amqp.listeners.video-encoded.mode", havingValue = "batching")
+    public MediaStatusBatcher videoEncodedBatcher(
+        final UpdateMediaStatusesUseCase updateMediaStatusesUseCase,
+        final ListenerProperties videoEncodedListenerProperties
+    ) {
+        return new MediaStatusBatcher(updateMediaStatusesUseCase, videoEncodedListenerProperties);
+    }
+
     @Configuration
     static class Admin {
 
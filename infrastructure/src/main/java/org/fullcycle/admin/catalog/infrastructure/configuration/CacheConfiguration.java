@@ -0,0 +1,24 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration;
+
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.AggregateCacheProperties;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfiguration {
+
+    @Bean
+    @ConfigurationProperties("cache.exists-by-ids")
+    public ExistenceCacheProperties existenceCacheProperties() {
+        return new ExistenceCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.aggregates")
+    public AggregateCacheProperties aggregateCacheProperties() {
+        return new AggregateCacheProperties();
+    }
+
+}
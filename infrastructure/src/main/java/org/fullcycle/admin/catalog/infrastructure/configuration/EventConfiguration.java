@@ -1,24 +1,83 @@
 package org.fullcycle.admin.catalog.infrastructure.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedEventService;
+import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedOutbox;
 import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedQueueProperties;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
 import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.QueueProperties;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.outbox.OutboxRelayProperties;
+import org.fullcycle.admin.catalog.infrastructure.outbox.OutboxEventService;
+import org.fullcycle.admin.catalog.infrastructure.outbox.OutboxRelay;
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.fullcycle.admin.catalog.infrastructure.services.impl.BatchingRabbitEventService;
 import org.fullcycle.admin.catalog.infrastructure.services.impl.RabbitEventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
 
 @Configuration
+@EnableScheduling
 public class EventConfiguration {
 
+    private static final String VIDEO_CREATED = "video-created";
+
     @Bean
     @VideoCreatedEventService
     public EventService videoCreatedEventService(
         @VideoCreatedQueueProperties final QueueProperties queueProperties,
-        final RabbitOperations rabbitOperations
+        final PublisherProperties publisherProperties,
+        final RabbitOperations rabbitOperations,
+        final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var exchange = queueProperties.getExchange();
+        final var routingKey = queueProperties.getRoutingKey();
+
+        return switch (publisherProperties.getMode()) {
+            case DIRECT -> new RabbitEventService(exchange, routingKey, rabbitOperations);
+            case BATCHING -> {
+                final var eventService = new BatchingRabbitEventService(exchange, routingKey, rabbitOperations, publisherProperties);
+                meterRegistry.ifAvailable(eventService::bindTo);
+                yield eventService;
+            }
+        };
+    }
+
+    @Bean
+    @VideoCreatedOutbox
+    public EventService videoCreatedOutbox(final OutboxEventRepository outboxEventRepository) {
+        return new OutboxEventService(VIDEO_CREATED, outboxEventRepository);
+    }
+
+    @Bean
+    @ConfigurationProperties("outbox.relay")
+    public OutboxRelayProperties outboxRelayProperties() {
+        return new OutboxRelayProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+        final OutboxRelayProperties outboxRelayProperties,
+        final OutboxEventRepository outboxEventRepository,
+        @VideoCreatedEventService final EventService videoCreatedEventService,
+        final PlatformTransactionManager transactionManager
     ) {
-        return new RabbitEventService(queueProperties.getExchange(), queueProperties.getRoutingKey(), rabbitOperations);
+        return new OutboxRelay(
+            outboxEventRepository,
+            Map.of(VIDEO_CREATED, videoCreatedEventService),
+            new TransactionTemplate(transactionManager),
+            outboxRelayProperties.getBatchSize()
+        );
     }
 
 }
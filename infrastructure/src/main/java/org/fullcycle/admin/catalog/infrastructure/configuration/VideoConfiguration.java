@@ -0,0 +1,17 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration;
+
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.video.VideoListingProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class VideoConfiguration {
+
+    @Bean
+    @ConfigurationProperties("video.listing")
+    public VideoListingProperties videoListingProperties() {
+        return new VideoListingProperties();
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ListenerProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+
+    public enum Mode {
+        DIRECT,
+        BATCHING
+    }
+
+    private Mode mode = Mode.DIRECT;
+    private int concurrency = 16;
+    private int prefetch = 250;
+    private int batchSize = 200;
+    private Duration batchWindow = Duration.ofMillis(100);
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(final Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(final int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
+    public void setBatchWindow(final Duration batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+            "mode=" + mode +
+            ", concurrency=" + concurrency +
+            ", prefetch=" + prefetch +
+            ", batchSize=" + batchSize +
+            ", batchWindow=" + batchWindow +
+            '}';
+    }
+
+}
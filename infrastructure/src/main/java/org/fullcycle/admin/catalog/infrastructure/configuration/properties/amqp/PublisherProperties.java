@@ -0,0 +1,90 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class PublisherProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PublisherProperties.class);
+
+    public enum Mode {
+        DIRECT,
+        BATCHING
+    }
+
+    private Mode mode = Mode.DIRECT;
+    private int batchSize = 100;
+    private Duration flushInterval = Duration.ofMillis(50);
+    private int maxInFlight = 1_000;
+    private int maxPending = 10_000;
+    private Duration sendTimeout = Duration.ofSeconds(5);
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(final Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(final Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(final int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    public Duration getSendTimeout() {
+        return sendTimeout;
+    }
+
+    public void setSendTimeout(final Duration sendTimeout) {
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherProperties{" +
+            "mode=" + mode +
+            ", batchSize=" + batchSize +
+            ", flushInterval=" + flushInterval +
+            ", maxInFlight=" + maxInFlight +
+            ", maxPending=" + maxPending +
+            ", sendTimeout=" + sendTimeout +
+            '}';
+    }
+
+}
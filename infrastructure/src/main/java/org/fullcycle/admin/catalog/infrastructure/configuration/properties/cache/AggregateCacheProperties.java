@@ -0,0 +1,92 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AggregateCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregateCacheProperties.class);
+
+    private Region defaults = new Region();
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(final Region defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(final Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    public Region regionOf(final String name) {
+        return this.regions.getOrDefault(name, this.defaults);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateCacheProperties{" +
+            "defaults=" + defaults +
+            ", regions=" + regions +
+            '}';
+    }
+
+    public static class Region {
+
+        private boolean enabled = true;
+        private long maximumSize = 1_000;
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(final long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(final Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        @Override
+        public String toString() {
+            return "Region{" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", ttl=" + ttl +
+                '}';
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ExistenceCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofSeconds(30);
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(final long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(final Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceCacheProperties{" +
+            "maximumSize=" + maximumSize +
+            ", ttl=" + ttl +
+            '}';
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.properties.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class OutboxRelayProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayProperties.class);
+
+    private boolean enabled = true;
+    private int batchSize = 100;
+    private long interval = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public void setInterval(final long interval) {
+        this.interval = interval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxRelayProperties{" +
+            "enabled=" + enabled +
+            ", batchSize=" + batchSize +
+            ", interval=" + interval +
+            '}';
+    }
+
+}
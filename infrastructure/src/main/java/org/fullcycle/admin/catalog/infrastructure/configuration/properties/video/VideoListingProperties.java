@@ -0,0 +1,38 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.properties.video;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class VideoListingProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoListingProperties.class);
+
+    public enum Mode {
+        TABLES,
+        PREVIEWS
+    }
+
+    private Mode mode = Mode.PREVIEWS;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(final Mode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "VideoListingProperties{" +
+            "mode=" + mode +
+            '}';
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.fullcycle.admin.catalog.infrastructure.configuration.usecases;
+
+import org.fullcycle.admin.catalog.application.search.suggest.DefaultSuggestUseCase;
+import org.fullcycle.admin.catalog.application.search.suggest.SuggestUseCase;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration
+public class SearchUseCaseConfiguration {
+
+    private final SuggestionGateway suggestionGateway;
+
+    public SearchUseCaseConfiguration(final SuggestionGateway suggestionGateway) {
+        this.suggestionGateway = Objects.requireNonNull(suggestionGateway);
+    }
+
+    @Bean
+    public SuggestUseCase suggestUseCase() {
+        return new DefaultSuggestUseCase(suggestionGateway);
+    }
+
+}
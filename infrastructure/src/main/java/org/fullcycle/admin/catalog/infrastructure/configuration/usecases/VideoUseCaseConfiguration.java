@@ -1,7 +1,23 @@
 package org.fullcycle.admin.catalog.infrastructure.configuration.usecases;
 
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import org.fullcycle.admin.catalog.application.video.create.DefaultCreateVideoUseCase;
+import org.fullcycle.admin.catalog.application.video.ingest.DefaultIngestVideosUseCase;
+import org.fullcycle.admin.catalog.application.video.ingest.IngestVideosUseCase;
+import org.fullcycle.admin.catalog.application.video.media.get.DefaultGetMediaUseCase;
+import org.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
 import org.fullcycle.admin.catalog.application.video.media.update.DefaultUpdateMediaStatusUseCase;
+import org.fullcycle.admin.catalog.application.video.media.update.DefaultUpdateMediaStatusesUseCase;
 import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusUseCase;
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusesUseCase;
+import org.fullcycle.admin.catalog.application.video.media.upload.DefaultUploadMediaUseCase;
+import org.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.DefaultListVideosUseCase;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.fullcycle.admin.catalog.domain.video.MediaResourceGateway;
 import org.fullcycle.admin.catalog.domain.video.VideoGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,15 +27,70 @@ import java.util.Objects;
 @Configuration
 public class VideoUseCaseConfiguration {
 
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
 
-    public VideoUseCaseConfiguration(final VideoGateway videoGateway) {
+    public VideoUseCaseConfiguration(
+        final CategoryGateway categoryGateway,
+        final GenreGateway genreGateway,
+        final CastMemberGateway castMemberGateway,
+        final MediaResourceGateway mediaResourceGateway,
+        final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
+    @Bean
+    public ListVideosUseCase listVideosUseCase() {
+        return new DefaultListVideosUseCase(this.videoGateway);
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase() {
+        return new DefaultCreateVideoUseCase(
+            this.categoryGateway,
+            this.genreGateway,
+            this.castMemberGateway,
+            this.mediaResourceGateway,
+            this.videoGateway
+        );
+    }
+
+    @Bean
+    public IngestVideosUseCase ingestVideosUseCase() {
+        return new DefaultIngestVideosUseCase(
+            this.categoryGateway,
+            this.genreGateway,
+            this.castMemberGateway,
+            this.videoGateway
+        );
+    }
+
+    @Bean
+    public GetMediaUseCase getMediaUseCase() {
+        return new DefaultGetMediaUseCase(this.mediaResourceGateway);
+    }
+
+    @Bean
+    public UploadMediaUseCase uploadMediaUseCase() {
+        return new DefaultUploadMediaUseCase(this.mediaResourceGateway, this.videoGateway);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(this.videoGateway);
     }
 
+    @Bean
+    public UpdateMediaStatusesUseCase updateMediaStatusesUseCase() {
+        return new DefaultUpdateMediaStatusesUseCase(this.videoGateway);
+    }
+
 }
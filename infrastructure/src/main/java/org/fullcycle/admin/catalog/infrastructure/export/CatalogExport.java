@@ -0,0 +1,156 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+// rows come ordered by id, aggregates with relations repeat their row once per related id after the scalar columns
+// ids are selected as their BINARY(16) value and written in the hex form the api uses
+public enum CatalogExport {
+
+    CATEGORIES(
+        "categories",
+        """
+            SELECT c.id, c.name, c.description, c.active, c.created_at, c.updated_at, c.deleted_at
+            FROM categories c
+            ORDER BY c.id
+            """,
+        List.of(
+            Column.id("id"),
+            Column.text("name"),
+            Column.text("description"),
+            Column.bool("is_active"),
+            Column.instant("created_at"),
+            Column.instant("updated_at"),
+            Column.instant("deleted_at")
+        ),
+        List.of()
+    ),
+
+    GENRES(
+        "genres",
+        """
+            SELECT g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, 'categories_id' AS relation, gc.category_id AS related_id
+            FROM genres g
+            LEFT JOIN genres_categories gc ON gc.genre_id = g.id
+            ORDER BY g.id
+            """,
+        List.of(
+            Column.id("id"),
+            Column.text("name"),
+            Column.bool("is_active"),
+            Column.instant("created_at"),
+            Column.instant("updated_at"),
+            Column.instant("deleted_at")
+        ),
+        List.of("categories_id")
+    ),
+
+    CAST_MEMBERS(
+        "cast-members",
+        """
+            SELECT m.id, m.name, m.type, m.created_at, m.updated_at
+            FROM cast_members m
+            ORDER BY m.id
+            """,
+        List.of(
+            Column.id("id"),
+            Column.text("name"),
+            Column.text("type"),
+            Column.instant("created_at"),
+            Column.instant("updated_at")
+        ),
+        List.of()
+    ),
+
+    VIDEOS(
+        "videos",
+        """
+            SELECT v.id, v.title, v.description, v.year_launched, v.duration, v.rating, v.opened, v.published,
+                v.created_at, v.updated_at, r.relation, r.related_id
+            FROM videos v
+            LEFT JOIN (
+                SELECT video_id, 'categories_id' AS relation, category_id AS related_id FROM videos_categories
+                UNION ALL
+                SELECT video_id, 'genres_id', genre_id FROM videos_genres
+                UNION ALL
+                SELECT video_id, 'cast_members_id', cast_member_id FROM videos_cast_members
+            ) r ON r.video_id = v.id
+            ORDER BY v.id
+            """,
+        List.of(
+            Column.id("id"),
+            Column.text("title"),
+            Column.text("description"),
+            Column.number("year_launched"),
+            Column.number("duration"),
+            Column.text("rating"),
+            Column.bool("opened"),
+            Column.bool("published"),
+            Column.instant("created_at"),
+            Column.instant("updated_at")
+        ),
+        List.of("categories_id", "genres_id", "cast_members_id")
+    );
+
+    private final String name;
+    private final String sql;
+    private final List<Column> columns;
+    private final List<String> relations;
+
+    CatalogExport(final String name, final String sql, final List<Column> columns, final List<String> relations) {
+        this.name = name;
+        this.sql = sql;
+        this.columns = columns;
+        this.relations = relations;
+    }
+
+    public static Optional<CatalogExport> of(final String name) {
+        return Arrays.stream(values())
+            .filter(it -> it.name.equalsIgnoreCase(name))
+            .findFirst();
+    }
+
+    public String exportName() {
+        return this.name;
+    }
+
+    String sql() {
+        return this.sql;
+    }
+
+    List<Column> columns() {
+        return this.columns;
+    }
+
+    List<String> relations() {
+        return this.relations;
+    }
+
+    record Column(String name, Type type) {
+
+        enum Type { ID, TEXT, BOOLEAN, NUMBER, INSTANT }
+
+        static Column id(final String name) {
+            return new Column(name, Type.ID);
+        }
+
+        static Column text(final String name) {
+            return new Column(name, Type.TEXT);
+        }
+
+        static Column bool(final String name) {
+            return new Column(name, Type.BOOLEAN);
+        }
+
+        static Column number(final String name) {
+            return new Column(name, Type.NUMBER);
+        }
+
+        static Column instant(final String name) {
+            return new Column(name, Type.INSTANT);
+        }
+
+    }
+
+}
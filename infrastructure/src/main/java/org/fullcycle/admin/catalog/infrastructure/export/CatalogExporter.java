@@ -0,0 +1,154 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+
+// walks a forward-only cursor and writes every record as soon as its last row is read, nothing is held but the current record
+@Component
+public class CatalogExporter {
+
+    private static final int FETCH_SIZE = 1_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogExporter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+    }
+
+    public long export(final CatalogExport export, final ExportFormat format, final OutputStream output) throws IOException {
+        final var columns = new ArrayList<String>();
+        export.columns().forEach(it -> columns.add(it.name()));
+        columns.addAll(export.relations());
+
+        final var writer = format.writer(columns, output);
+        final var handler = new RecordHandler(export, writer);
+
+        try {
+            this.jdbcTemplate.query(
+                connection -> prepare(connection, export.sql()),
+                handler
+            );
+            handler.finish();
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        writer.flush();
+        return handler.records;
+    }
+
+    private static PreparedStatement prepare(final Connection connection, final String sql) throws SQLException {
+        final var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        // MySQL Connector/J buffers the whole result unless the fetch size asks it to stream row by row
+        statement.setFetchSize(isMySQL(connection) ? Integer.MIN_VALUE : FETCH_SIZE);
+        return statement;
+    }
+
+    private static boolean isMySQL(final Connection connection) throws SQLException {
+        return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private static final class RecordHandler implements RowCallbackHandler {
+
+        // stored through Hibernate's Instant mapping, which writes DATETIME columns in UTC
+        private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+        private final CatalogExport export;
+        private final ExportWriter writer;
+        private final Calendar calendar = Calendar.getInstance(UTC);
+        private final List<Object> values = new ArrayList<>();
+        private final Map<String, List<String>> relations = new LinkedHashMap<>();
+
+        private byte[] currentId;
+        private long records;
+
+        RecordHandler(final CatalogExport export, final ExportWriter writer) {
+            this.export = export;
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(final ResultSet resultSet) throws SQLException {
+            final var id = resultSet.getBytes(1);
+            if (!Arrays.equals(id, this.currentId)) {
+                finish();
+                start(id, resultSet);
+            }
+
+            final var related = this.export.columns().size();
+            if (!this.export.relations().isEmpty()) {
+                final var relatedId = resultSet.getBytes(related + 2);
+                if (Objects.nonNull(relatedId)) {
+                    this.relations.get(resultSet.getString(related + 1)).add(IdentifierUtils.fromBytes(relatedId));
+                }
+            }
+        }
+
+        void finish() {
+            if (Objects.isNull(this.currentId)) {
+                return;
+            }
+
+            this.values.addAll(this.relations.values());
+            try {
+                this.writer.write(this.values);
+                if (++this.records % FLUSH_EVERY == 0) {
+                    this.writer.flush();
+                }
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            this.currentId = null;
+        }
+
+        private void start(final byte[] id, final ResultSet resultSet) throws SQLException {
+            this.currentId = id;
+            this.values.clear();
+            this.relations.clear();
+            this.export.relations().forEach(it -> this.relations.put(it, new ArrayList<>()));
+
+            final var columns = this.export.columns();
+            for (int i = 0; i < columns.size(); i++) {
+                this.values.add(read(resultSet, i + 1, columns.get(i).type()));
+            }
+        }
+
+        private Object read(final ResultSet resultSet, final int index, final CatalogExport.Column.Type type) throws SQLException {
+            final Object value = switch (type) {
+                case ID -> {
+                    final var bytes = resultSet.getBytes(index);
+                    yield Objects.isNull(bytes) ? null : IdentifierUtils.fromBytes(bytes);
+                }
+                case TEXT -> resultSet.getString(index);
+                case BOOLEAN -> resultSet.getBoolean(index);
+                case NUMBER -> resultSet.getBigDecimal(index);
+                case INSTANT -> {
+                    final var timestamp = resultSet.getTimestamp(index, this.calendar);
+                    yield Objects.isNull(timestamp) ? null : timestamp.toInstant();
+                }
+            };
+            return resultSet.wasNull() ? null : value;
+        }
+
+    }
+
+}
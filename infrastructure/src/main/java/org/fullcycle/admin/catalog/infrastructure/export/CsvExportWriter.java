@@ -0,0 +1,60 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// RFC 4180, relations are joined into one field with ';'
+final class CsvExportWriter implements ExportWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final String RELATION_SEPARATOR = ";";
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+
+    CsvExportWriter(final List<String> columns, final OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(output), StandardCharsets.UTF_8));
+        write(columns);
+    }
+
+    @Override
+    public void write(final List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                this.writer.write(SEPARATOR);
+            }
+            writeField(values.get(i));
+        }
+        this.writer.write(LINE_BREAK);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    private void writeField(final Object value) throws IOException {
+        final var field = switch (value) {
+            case null -> "";
+            case List<?> ids -> ids.stream().map(Object::toString).collect(Collectors.joining(RELATION_SEPARATOR));
+            default -> value.toString();
+        };
+
+        if (field.indexOf(SEPARATOR) < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            this.writer.write(field);
+            return;
+        }
+
+        this.writer.write('"');
+        this.writer.write(field.replace("\"", "\"\""));
+        this.writer.write('"');
+    }
+
+}
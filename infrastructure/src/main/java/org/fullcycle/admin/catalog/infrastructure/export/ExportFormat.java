@@ -0,0 +1,43 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public enum ExportFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(final String extension, final String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static Optional<ExportFormat> of(final String value) {
+        return Arrays.stream(values())
+            .filter(it -> it.extension.equalsIgnoreCase(value))
+            .findFirst();
+    }
+
+    public String extension() {
+        return this.extension;
+    }
+
+    public String contentType() {
+        return this.contentType;
+    }
+
+    ExportWriter writer(final List<String> columns, final OutputStream output) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonExportWriter(columns, output);
+            case CSV -> new CsvExportWriter(columns, output);
+        };
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import java.io.IOException;
+import java.util.List;
+
+// values come in column order, relations as lists of ids
+interface ExportWriter {
+
+    void write(final List<?> values) throws IOException;
+
+    void flush() throws IOException;
+
+}
@@ -0,0 +1,58 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+final class NdjsonExportWriter implements ExportWriter {
+
+    private final List<String> columns;
+    private final JsonGenerator generator;
+
+    NdjsonExportWriter(final List<String> columns, final OutputStream output) throws IOException {
+        this.columns = Objects.requireNonNull(columns);
+        this.generator = Json.mapper().getFactory().createGenerator(output, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // each object ends its own line, the default separator would prefix the next one with a space
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(final List<?> values) throws IOException {
+        this.generator.writeStartObject();
+        for (int i = 0; i < this.columns.size(); i++) {
+            this.generator.writeFieldName(this.columns.get(i));
+            writeValue(values.get(i));
+        }
+        this.generator.writeEndObject();
+        this.generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.generator.flush();
+    }
+
+    private void writeValue(final Object value) throws IOException {
+        switch (value) {
+            case null -> this.generator.writeNull();
+            case Boolean bool -> this.generator.writeBoolean(bool);
+            case BigDecimal number -> this.generator.writeNumber(number);
+            case List<?> ids -> {
+                this.generator.writeStartArray();
+                for (final var id : ids) {
+                    this.generator.writeString(id.toString());
+                }
+                this.generator.writeEndArray();
+            }
+            default -> this.generator.writeString(value.toString());
+        }
+    }
+
+}
@@ -4,15 +4,29 @@ import org.fullcycle.admin.catalog.domain.Identifier;
 import org.fullcycle.admin.catalog.domain.genre.Genre;
 import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
 import org.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreJpaEntity;
 import org.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.fullcycle.admin.catalog.infrastructure.persistence.AggregateCache;
+import org.fullcycle.admin.catalog.infrastructure.persistence.ExistenceCache;
+import org.fullcycle.admin.catalog.infrastructure.persistence.FullTextSearch;
+import org.fullcycle.admin.catalog.infrastructure.persistence.SpecificationQueries;
+import org.fullcycle.admin.catalog.infrastructure.persistence.TableStatistics;
+import org.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.PaginationUtils;
 import org.fullcycle.admin.catalog.infrastructure.utils.StringUtils;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,56 +38,152 @@ import static org.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtil
 @Component
 public class GenreDatabaseGateway implements GenreGateway {
 
-    private final GenreRepository genreRepository;
+    public static final String CACHE_REGION = "genres";
+    private static final String EXISTENCE_REGION = "genres";
+    private static final String NAME = "name";
 
-    public GenreDatabaseGateway(final GenreRepository genreRepository) {
+    private final GenreRepository genreRepository;
+    private final TableStatistics tableStatistics;
+    private final SpecificationQueries specificationQueries;
+    private final FullTextSearch fullTextSearch;
+    private final SuggestionGateway suggestionGateway;
+    private final ExistenceCache existenceCache;
+    private final VideoPreviewRepository videoPreviewRepository;
+    private final AggregateCache aggregateCache;
+
+    public GenreDatabaseGateway(
+        final GenreRepository genreRepository,
+        final TableStatistics tableStatistics,
+        final SpecificationQueries specificationQueries,
+        final FullTextSearch fullTextSearch,
+        final SuggestionGateway suggestionGateway,
+        final ExistenceCache existenceCache,
+        final VideoPreviewRepository videoPreviewRepository,
+        final AggregateCache aggregateCache
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.specificationQueries = Objects.requireNonNull(specificationQueries);
+        this.fullTextSearch = Objects.requireNonNull(fullTextSearch);
+        this.suggestionGateway = Objects.requireNonNull(suggestionGateway);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.videoPreviewRepository = Objects.requireNonNull(videoPreviewRepository);
+        this.aggregateCache = Objects.requireNonNull(aggregateCache);
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery searchQuery) {
+        final var against = this.fullTextSearch.against(searchQuery.terms());
+
+        if (searchQuery.isKeyset()) {
+            return KeysetUtils.findAll(
+                this.genreRepository,
+                termsOf(searchQuery.terms(), against),
+                searchQuery,
+                GenreJpaEntity::getId,
+                GenreJpaEntity::toAggregate
+            );
+        }
+
+        final var byRelevance = FullTextSearch.isRelevance(searchQuery.sort()) && against.isPresent();
         final var pageRequest = PageRequest.of(
             searchQuery.page(),
             searchQuery.perPage(),
-            Sort.by(Sort.Direction.fromString(searchQuery.direction()), searchQuery.sort())
+            byRelevance ? Sort.unsorted() : sortOf(searchQuery)
         );
 
-        final var specifications = Optional.ofNullable(searchQuery.terms())
-            .filter(StringUtils::isNotBlank)
-            .map(this::applyTerms)
-            .orElse(null);
+        final var where = termsOf(searchQuery.terms(), against);
+        final var ordering = byRelevance
+            ? FullTextSearch.<GenreJpaEntity>byRelevance(against.get(), NAME)
+            : SpecificationQueries.Ordering.<GenreJpaEntity>by(pageRequest.getSort());
 
-        final var page = this.genreRepository.findAll(Specification.where(specifications), pageRequest);
+        if (PaginationUtils.isCounted(searchQuery.countMode(), StringUtils.isNotBlank(searchQuery.terms()))) {
+            final var page = this.specificationQueries.findAll(GenreJpaEntity.class, where, ordering, pageRequest);
+            return PaginationUtils.from(page, GenreJpaEntity::toAggregate);
+        }
 
-        return new Pagination<>(
-            page.getNumber(),
-            page.getSize(),
-            page.getTotalElements(),
-            page.map(GenreJpaEntity::toAggregate).toList()
-        );
+        final var slice = this.specificationQueries.findSlice(GenreJpaEntity.class, where, ordering, pageRequest);
+
+        final var total = searchQuery.countMode() == CountMode.ESTIMATED
+            ? this.tableStatistics.estimateRows(GenreJpaEntity.class)
+            : Pagination.UNKNOWN_TOTAL;
+
+        return PaginationUtils.from(slice, total, GenreJpaEntity::toAggregate);
     }
 
     @Override
     public Optional<Genre> findById(final GenreID genreID) {
+        if (!IdentifierUtils.isValid(genreID.getValue())) {
+            return Optional.empty();
+        }
         return this.genreRepository.findById(genreID.getValue())
             .map(GenreJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Genre> findReadOnlyById(final GenreID genreID) {
+        if (!IdentifierUtils.isValid(genreID.getValue())) {
+            return Optional.empty();
+        }
+        return this.aggregateCache.find(
+            CACHE_REGION,
+            genreID.getValue(),
+            id -> this.genreRepository.findById(id).map(GenreJpaEntity::toAggregate),
+            Genre::with
+        );
+    }
+
     @Override
     public Genre create(final Genre genre) {
-        return save(genre);
+        final var createdGenre = save(GenreJpaEntity.from(genre).asNew());
+        this.existenceCache.present(EXISTENCE_REGION, createdGenre.getId().getValue());
+        return createdGenre;
+    }
+
+    // every row is persisted before the flush, so the category inserts go out as ordered JDBC batches
+    @Transactional
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        final var entities = genres.stream()
+            .map(it -> GenreJpaEntity.from(it).asNew())
+            .toList();
+
+        final var createdGenres = this.genreRepository.saveAll(entities).stream()
+            .map(GenreJpaEntity::toAggregate)
+            .toList();
+
+        createdGenres.forEach(it -> {
+            this.existenceCache.present(EXISTENCE_REGION, it.getId().getValue());
+            this.suggestionGateway.index(
+                Suggestion.with(it.getId().getValue(), it.getName(), SuggestionType.GENRE)
+            );
+        });
+
+        return createdGenres;
     }
 
     @Override
     public Genre update(final Genre genre) {
-        return save(genre);
+        final var updatedGenre = save(GenreJpaEntity.from(genre));
+        this.aggregateCache.evict(CACHE_REGION, updatedGenre.getId().getValue());
+        return updatedGenre;
     }
 
+    // the row, its preview links and the cache evictions go together, the evictions only run once it commits
+    @Transactional
     @Override
     public void deleteById(final GenreID genreID) {
         final var id = genreID.getValue();
-        if (this.genreRepository.existsById(id)) {
+        if (IdentifierUtils.isValid(id) && this.genreRepository.existsById(id)) {
             this.genreRepository.deleteById(id);
+            this.videoPreviewRepository.unlinkGenre(id);
+            this.existenceCache.evict(EXISTENCE_REGION, id);
+            this.aggregateCache.evict(CACHE_REGION, id);
+            this.suggestionGateway.remove(SuggestionType.GENRE, id);
         }
     }
 
@@ -81,22 +191,44 @@ public class GenreDatabaseGateway implements GenreGateway {
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIds) {
         final var ids = StreamSupport.stream(genreIds.spliterator(), false)
             .map(Identifier::getValue)
+            .filter(IdentifierUtils::isValid)
             .toList();
 
-        return this.genreRepository.existsByIds(ids)
+        return this.existenceCache.existsByIds(EXISTENCE_REGION, ids, this.genreRepository::existsByIds)
             .stream()
             .map(GenreID::from)
             .toList();
     }
 
-    private Genre save(final Genre genre) {
-        return this.genreRepository.save(
-            GenreJpaEntity.from(genre)
-        ).toAggregate();
+    private Genre save(final GenreJpaEntity entity) {
+        final var savedGenre = this.genreRepository.save(entity).toAggregate();
+
+        this.suggestionGateway.index(
+            Suggestion.with(savedGenre.getId().getValue(), savedGenre.getName(), SuggestionType.GENRE)
+        );
+
+        return savedGenre;
+    }
+
+    // a relevance sort without full-text terms to rank has nothing to order by but the name
+    private static Sort sortOf(final SearchQuery searchQuery) {
+        final var sort = FullTextSearch.isRelevance(searchQuery.sort()) ? NAME : searchQuery.sort();
+        return Sort.by(Sort.Direction.fromString(searchQuery.direction()), sort);
+    }
+
+    private Specification<GenreJpaEntity> termsOf(final String terms, final Optional<String> against) {
+        if (against.isPresent()) {
+            return FullTextSearch.matches(against.get(), NAME);
+        }
+
+        return Optional.ofNullable(terms)
+            .filter(StringUtils::isNotBlank)
+            .map(this::applyTerms)
+            .orElse(null);
     }
 
     private Specification<GenreJpaEntity> applyTerms(final String term) {
-        return like("name", term);
+        return like(NAME, term);
     }
 
 }
@@ -3,6 +3,8 @@ package org.fullcycle.admin.catalog.infrastructure.genre.persistence;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
 import org.fullcycle.admin.catalog.domain.genre.Genre;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
+import org.hibernate.annotations.Type;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -10,7 +12,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
@@ -18,9 +25,10 @@ import java.util.Set;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(BinaryIdentifierType.class)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -42,6 +50,10 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // a new genre is persisted, merging it would select every category row before inserting it
+    @Transient
+    private boolean created;
+
     public GenreJpaEntity() { }
 
     private GenreJpaEntity(
@@ -77,6 +89,22 @@ public class GenreJpaEntity {
         return entity;
     }
 
+    public GenreJpaEntity asNew() {
+        this.created = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.created;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.created = false;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
             GenreID.from(getId()),
@@ -0,0 +1,25 @@
+package org.fullcycle.admin.catalog.infrastructure.outbox;
+
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.fullcycle.admin.catalog.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+// stores the event in the caller's transaction, OutboxRelay publishes it once committed
+public class OutboxEventService implements EventService {
+
+    private final String destination;
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxEventService(final String destination, final OutboxEventRepository outboxEventRepository) {
+        this.destination = Objects.requireNonNull(destination);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+    }
+
+    @Override
+    public void send(final Object event) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.from(this.destination, Objects.requireNonNull(event)));
+    }
+
+}
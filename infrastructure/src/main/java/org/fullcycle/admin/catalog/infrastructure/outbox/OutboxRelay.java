@@ -0,0 +1,83 @@
+package org.fullcycle.admin.catalog.infrastructure.outbox;
+
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, EventService> destinations;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(
+        final OutboxEventRepository outboxEventRepository,
+        final Map<String, EventService> destinations,
+        final TransactionTemplate transactionTemplate,
+        final int batchSize
+    ) {
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.destinations = Map.copyOf(destinations);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == this.batchSize);
+        } catch (final RuntimeException ex) {
+            // the batch stays in the outbox and is retried on the next run
+            log.error("Failed to relay outbox events", ex);
+        }
+    }
+
+    // events are removed only once the broker confirmed them, a crash in between publishes them again
+    public int relayBatch() {
+        final var relayed = this.transactionTemplate.execute(status -> {
+            final var events = this.outboxEventRepository.findNextBatch(PageRequest.ofSize(this.batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            events.stream()
+                .collect(Collectors.groupingBy(
+                    OutboxEventJpaEntity::getDestination,
+                    LinkedHashMap::new,
+                    Collectors.mapping(OutboxEventJpaEntity::toEvent, Collectors.toList())
+                ))
+                .forEach(this::publish);
+
+            this.outboxEventRepository.deleteAllInBatch(events);
+            return events.size();
+        });
+
+        return Objects.requireNonNullElse(relayed, 0);
+    }
+
+    private void publish(final String destination, final List<Object> events) {
+        final var eventService = this.destinations.get(destination);
+        if (Objects.isNull(eventService)) {
+            throw new IllegalStateException("No event service for outbox destination '%s'".formatted(destination));
+        }
+        eventService.sendAll(events);
+    }
+
+}
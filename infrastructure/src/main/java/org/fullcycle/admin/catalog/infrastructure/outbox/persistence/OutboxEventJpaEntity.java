@@ -0,0 +1,105 @@
+package org.fullcycle.admin.catalog.infrastructure.outbox.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "destination", nullable = false)
+    private String destination;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public OutboxEventJpaEntity() { }
+
+    private OutboxEventJpaEntity(
+        final String destination,
+        final String eventType,
+        final String payload,
+        final Instant createdAt
+    ) {
+        this.destination = destination;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity from(final String destination, final Object event) {
+        return new OutboxEventJpaEntity(
+            destination,
+            event.getClass().getName(),
+            Json.writeValueAsString(event),
+            Instant.now()
+        );
+    }
+
+    public Object toEvent() {
+        try {
+            return Json.readValue(getPayload(), Class.forName(getEventType()));
+        } catch (final ClassNotFoundException ex) {
+            throw new IllegalStateException("Unknown outbox event type '%s'".formatted(getEventType()), ex);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(final String destination) {
+        this.destination = destination;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(final String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(final String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+}
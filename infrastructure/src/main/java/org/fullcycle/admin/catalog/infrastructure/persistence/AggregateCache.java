@@ -0,0 +1,89 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.AggregateCacheProperties;
+import org.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Component
+public class AggregateCache {
+
+    private final AggregateCacheProperties properties;
+    private final Map<String, CacheRegion<Object>> regions = new ConcurrentHashMap<>();
+
+    public AggregateCache(final AggregateCacheProperties properties) {
+        this.properties = Objects.requireNonNull(properties);
+    }
+
+    // serves the read-only lookups only, and aggregates are mutable, so every hit and every fill is a copy
+    public <T> Optional<T> find(
+        final String region,
+        final String id,
+        final Function<String, Optional<T>> loader,
+        final UnaryOperator<T> copy
+    ) {
+        if (!this.properties.regionOf(region).isEnabled()) {
+            return loader.apply(id);
+        }
+
+        final var cache = regionOf(region);
+
+        @SuppressWarnings("unchecked")
+        final var cached = (T) cache.entries().getIfPresent(id);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(copy.apply(cached));
+        }
+
+        final var generation = cache.generation();
+        final var loaded = loader.apply(id);
+        loaded.ifPresent(it -> {
+            final var value = copy.apply(it);
+            TransactionUtils.afterCommit(() -> cache.putIfCurrent(id, value, generation));
+        });
+
+        return loaded;
+    }
+
+    public void evict(final String region, final String id) {
+        final var cache = regionOf(region);
+        cache.invalidate(id);
+        TransactionUtils.afterCommit(() -> cache.invalidate(id));
+    }
+
+    public void evictAll(final String region) {
+        final var cache = regionOf(region);
+        cache.invalidateAll();
+        TransactionUtils.afterCommit(cache::invalidateAll);
+    }
+
+    public void clear() {
+        this.regions.values().forEach(CacheRegion::invalidateAll);
+    }
+
+    public Map<String, CacheStats> stats() {
+        return this.regions.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().entries().stats()));
+    }
+
+    private CacheRegion<Object> regionOf(final String region) {
+        return this.regions.computeIfAbsent(region, it -> {
+            final var settings = this.properties.regionOf(it);
+            return new CacheRegion<>(Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build());
+        });
+    }
+
+}
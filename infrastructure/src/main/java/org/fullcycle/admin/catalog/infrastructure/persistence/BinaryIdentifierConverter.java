@@ -0,0 +1,30 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Objects;
+
+// ids stay in their hex form everywhere above the entities, only the BINARY(16) columns hold the 16 bytes,
+// an id that is not one of ours never reaches a query, the gateways answer those without one
+@Converter
+public class BinaryIdentifierConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String id) {
+        if (Objects.isNull(id)) {
+            return null;
+        }
+        return IdentifierUtils.toBytes(id);
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        return IdentifierUtils.fromBytes(value);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+// JPA skips attribute converters on @Id attributes, the primary keys map through this type instead
+public class BinaryIdentifierType implements UserType<String> {
+
+    private static final BinaryIdentifierConverter CONVERTER = new BinaryIdentifierConverter();
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(final String x, final String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(final String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(
+        final ResultSet rs,
+        final int position,
+        final SharedSessionContractImplementor session,
+        final Object owner
+    ) throws SQLException {
+        return CONVERTER.convertToEntityAttribute(rs.getBytes(position));
+    }
+
+    @Override
+    public void nullSafeSet(
+        final PreparedStatement st,
+        final String value,
+        final int index,
+        final SharedSessionContractImplementor session
+    ) throws SQLException {
+        if (Objects.isNull(value)) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, CONVERTER.convertToDatabaseColumn(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(final String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(final String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(final Serializable cached, final Object owner) {
+        return (String) cached;
+    }
+
+}
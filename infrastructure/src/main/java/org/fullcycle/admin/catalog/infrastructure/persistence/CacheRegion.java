@@ -0,0 +1,42 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Objects;
+
+// fills wait for the commit and evictions repeat after it, and every invalidation bumps the generation
+// so a load that started before it can't fill the cache afterwards
+final class CacheRegion<V> {
+
+    private final Cache<String, V> entries;
+    private long generation;
+
+    CacheRegion(final Cache<String, V> entries) {
+        this.entries = Objects.requireNonNull(entries);
+    }
+
+    Cache<String, V> entries() {
+        return this.entries;
+    }
+
+    synchronized long generation() {
+        return this.generation;
+    }
+
+    synchronized void putIfCurrent(final String id, final V value, final long generation) {
+        if (this.generation == generation) {
+            this.entries.put(id, value);
+        }
+    }
+
+    synchronized void invalidate(final String id) {
+        this.generation++;
+        this.entries.invalidate(id);
+    }
+
+    synchronized void invalidateAll() {
+        this.generation++;
+        this.entries.invalidateAll();
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// GET /actuator/cachestats, the hit rates of the in-process caches per region
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatisticsEndpoint {
+
+    private final AggregateCache aggregateCache;
+    private final ExistenceCache existenceCache;
+
+    public CacheStatisticsEndpoint(final AggregateCache aggregateCache, final ExistenceCache existenceCache) {
+        this.aggregateCache = Objects.requireNonNull(aggregateCache);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+    }
+
+    @ReadOperation
+    public CacheStatistics statistics() {
+        return new CacheStatistics(
+            regionsOf(this.aggregateCache.stats()),
+            regionsOf(this.existenceCache.stats())
+        );
+    }
+
+    private static Map<String, RegionStatistics> regionsOf(final Map<String, CacheStats> stats) {
+        final var regions = new TreeMap<String, RegionStatistics>();
+        stats.forEach((region, it) -> regions.put(region, RegionStatistics.from(it)));
+        return regions;
+    }
+
+    public record CacheStatistics(
+        Map<String, RegionStatistics> aggregates,
+        Map<String, RegionStatistics> existence
+    ) { }
+
+    public record RegionStatistics(
+        long requestCount,
+        long hitCount,
+        double hitRate,
+        long missCount,
+        long evictionCount
+    ) {
+
+        public static RegionStatistics from(final CacheStats stats) {
+            return new RegionStatistics(
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.hitRate(),
+                stats.missCount(),
+                stats.evictionCount()
+            );
+        }
+
+    }
+
+}
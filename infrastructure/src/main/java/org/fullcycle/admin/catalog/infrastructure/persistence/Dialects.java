@@ -0,0 +1,35 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.SQLException;
+
+final class Dialects {
+
+    private static final String MYSQL = "MySQL";
+
+    private Dialects() { }
+
+    // the dialect is pinned to MySQL in every profile, H2 included, so the database itself is asked
+    static boolean isMySQL(final EntityManager entityManager) {
+        final var connections = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(ConnectionProvider.class);
+
+        try {
+            final var connection = connections.getConnection();
+            try {
+                return MYSQL.equals(connection.getMetaData().getDatabaseProductName());
+            } finally {
+                connections.closeConnection(connection);
+            }
+        } catch (final SQLException ex) {
+            throw new PersistenceException("Could not read the database product name", ex);
+        }
+    }
+
+}
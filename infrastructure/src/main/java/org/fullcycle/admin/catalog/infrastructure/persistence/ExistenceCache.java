@@ -0,0 +1,79 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ExistenceCache {
+
+    private final ExistenceCacheProperties properties;
+    private final Map<String, CacheRegion<Boolean>> regions = new ConcurrentHashMap<>();
+
+    public ExistenceCache(final ExistenceCacheProperties properties) {
+        this.properties = Objects.requireNonNull(properties);
+    }
+
+    public List<String> existsByIds(
+        final String region,
+        final List<String> ids,
+        final Function<List<String>, List<String>> loader
+    ) {
+        final var cache = regionOf(region);
+        final var existing = new ArrayList<String>(ids.size());
+        final var missing = new ArrayList<String>();
+
+        for (final var id : ids) {
+            if (Objects.nonNull(cache.entries().getIfPresent(id))) {
+                existing.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final var generation = cache.generation();
+            final var loaded = loader.apply(missing);
+            existing.addAll(loaded);
+            TransactionUtils.afterCommit(() -> loaded.forEach(id -> cache.putIfCurrent(id, Boolean.TRUE, generation)));
+        }
+
+        return existing;
+    }
+
+    public void present(final String region, final String id) {
+        final var cache = regionOf(region);
+        TransactionUtils.afterCommit(() -> cache.entries().put(id, Boolean.TRUE));
+    }
+
+    public void evict(final String region, final String id) {
+        final var cache = regionOf(region);
+        cache.invalidate(id);
+        TransactionUtils.afterCommit(() -> cache.invalidate(id));
+    }
+
+    public Map<String, CacheStats> stats() {
+        return this.regions.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().entries().stats()));
+    }
+
+    private CacheRegion<Boolean> regionOf(final String region) {
+        return this.regions.computeIfAbsent(region, it -> new CacheRegion<>(Caffeine.newBuilder()
+            .maximumSize(this.properties.getMaximumSize())
+            .expireAfterWrite(this.properties.getTtl())
+            .recordStats()
+            .build()));
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    static final String MATCH_AGAINST = "match_against";
+    static final String MATCH_AGAINST_2 = "match_against_2";
+
+    // MATCH ... AGAINST is not a function call on MySQL, so HQL and criteria queries render it from a pattern
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        final var registry = functionContributions.getFunctionRegistry();
+        final var score = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+
+        registry.registerPattern(MATCH_AGAINST, "match(?1) against(?2 in boolean mode)", score);
+        registry.registerPattern(MATCH_AGAINST_2, "match(?1, ?2) against(?3 in boolean mode)", score);
+    }
+
+}
@@ -0,0 +1,95 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Component
+public class FullTextSearch {
+
+    public static final String RELEVANCE = "relevance";
+
+    // InnoDB does not index words shorter than innodb_ft_min_token_size, a query with any of those keeps the LIKE scan
+    private static final int MIN_TOKEN_SIZE = 3;
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mysql;
+
+    public Optional<String> against(final String terms) {
+        if (Objects.isNull(terms) || terms.isBlank() || !isMySQL()) {
+            return Optional.empty();
+        }
+
+        final var sanitized = BOOLEAN_OPERATORS.matcher(terms).replaceAll(" ").trim();
+        if (sanitized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var words = WHITESPACES.split(sanitized);
+        if (Arrays.stream(words).anyMatch(word -> word.length() < MIN_TOKEN_SIZE)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Arrays.stream(words).map(word -> "+" + word + "*").collect(Collectors.joining(" ")));
+    }
+
+    public static boolean isRelevance(final String sort) {
+        return RELEVANCE.equals(sort);
+    }
+
+    public static <E> Specification<E> matches(final String against, final String... columns) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(score(root, criteriaBuilder, against, columns), 0.0);
+    }
+
+    public static <E> SpecificationQueries.Ordering<E> byRelevance(final String against, final String... columns) {
+        return (root, criteriaBuilder) -> List.of(
+            criteriaBuilder.desc(score(root, criteriaBuilder, against, columns)),
+            criteriaBuilder.asc(root.get("id"))
+        );
+    }
+
+    public static Expression<Double> score(
+        final Path<?> path,
+        final CriteriaBuilder criteriaBuilder,
+        final String against,
+        final String... columns
+    ) {
+        final var function = switch (columns.length) {
+            case 1 -> FullTextFunctionContributor.MATCH_AGAINST;
+            case 2 -> FullTextFunctionContributor.MATCH_AGAINST_2;
+            default -> throw new IllegalArgumentException("full-text match supports one or two columns");
+        };
+
+        final var arguments = new ArrayList<Expression<?>>();
+        for (final var column : columns) {
+            arguments.add(path.get(column));
+        }
+        arguments.add(criteriaBuilder.literal(against));
+
+        return criteriaBuilder.function(function, Double.class, arguments.toArray(Expression[]::new));
+    }
+
+    private boolean isMySQL() {
+        if (Objects.isNull(this.mysql)) {
+            this.mysql = Dialects.isMySQL(this.entityManager);
+        }
+        return this.mysql;
+    }
+
+}
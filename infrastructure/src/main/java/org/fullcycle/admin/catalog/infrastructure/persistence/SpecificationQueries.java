@@ -0,0 +1,111 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class SpecificationQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <E> Page<E> findAll(
+        final Class<E> entityType,
+        final Specification<E> where,
+        final Ordering<E> ordering,
+        final Pageable pageable
+    ) {
+        final var content = select(entityType, where, ordering, pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityType, where));
+    }
+
+    public <E> Slice<E> findSlice(final Class<E> entityType, final Specification<E> where, final Pageable pageable) {
+        return findSlice(entityType, where, Ordering.by(pageable.getSort()), pageable);
+    }
+
+    // fetches one row past the page instead of counting, the extra row only tells whether a next page exists
+    public <E> Slice<E> findSlice(
+        final Class<E> entityType,
+        final Specification<E> where,
+        final Ordering<E> ordering,
+        final Pageable pageable
+    ) {
+        final var fetched = select(entityType, where, ordering, pageable.getOffset(), pageable.getPageSize() + 1);
+
+        final var hasNext = fetched.size() > pageable.getPageSize();
+        final var content = hasNext ? fetched.subList(0, pageable.getPageSize()) : fetched;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private <E> List<E> select(
+        final Class<E> entityType,
+        final Specification<E> where,
+        final Ordering<E> ordering,
+        final long offset,
+        final int limit
+    ) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(entityType);
+        final var root = query.from(entityType);
+
+        query.select(root);
+
+        final var predicate = Specification.where(where).toPredicate(root, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        final var orders = ordering.toOrders(root, criteriaBuilder);
+        if (!orders.isEmpty()) {
+            query.orderBy(orders);
+        }
+
+        return this.entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private <E> long count(final Class<E> entityType, final Specification<E> where) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(Long.class);
+        final var root = query.from(entityType);
+
+        query.select(criteriaBuilder.count(root));
+
+        final var predicate = Specification.where(where).toPredicate(root, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    @FunctionalInterface
+    public interface Ordering<E> {
+
+        List<Order> toOrders(Root<E> root, CriteriaBuilder criteriaBuilder);
+
+        static <E> Ordering<E> by(final Sort sort) {
+            return (root, criteriaBuilder) -> QueryUtils.toOrders(sort, root, criteriaBuilder);
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class TableStatistics {
+
+    private static final String MYSQL_ROWS_ESTIMATE = """
+        select t.table_rows
+        from information_schema.tables t
+        where t.table_schema = database() and t.table_name = :table
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mysql;
+
+    public long estimateRows(final Class<?> entityType) {
+        final var table = Objects.requireNonNull(entityType.getAnnotation(Table.class), "entity must be mapped to a table").name();
+
+        // InnoDB keeps an approximate row count on the table statistics, other databases get an exact count
+        if (isMySQL()) {
+            final var rows = this.entityManager.createNativeQuery(MYSQL_ROWS_ESTIMATE)
+                .setParameter("table", table)
+                .getResultList();
+
+            return rows.isEmpty() || Objects.isNull(rows.get(0)) ? 0 : ((Number) rows.get(0)).longValue();
+        }
+
+        return ((Number) this.entityManager.createNativeQuery("select count(*) from " + table).getSingleResult()).longValue();
+    }
+
+    private boolean isMySQL() {
+        if (Objects.isNull(this.mysql)) {
+            this.mysql = Dialects.isMySQL(this.entityManager);
+        }
+        return this.mysql;
+    }
+
+}
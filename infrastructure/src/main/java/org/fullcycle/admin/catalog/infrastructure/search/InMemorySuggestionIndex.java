@@ -0,0 +1,345 @@
+package org.fullcycle.admin.catalog.infrastructure.search;
+
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.infrastructure.utils.TransactionUtils;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Component
+public class InMemorySuggestionIndex implements SuggestionGateway {
+
+    // every token is posted under each of its first six prefixes, longer terms are verified on the name
+    private static final int MAX_PREFIX_LENGTH = 6;
+    private static final int INITIAL_CAPACITY = 1024;
+    // postings are rebuilt once tombstones outnumber a quarter of the live documents
+    private static final int COMPACTION_RATIO = 4;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final SuggestionType[] TYPES = SuggestionType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<SuggestionType, Map<String, Integer>> documents = new EnumMap<>(SuggestionType.class);
+    private final BitSet live = new BitSet();
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int tombstones;
+    private Map<SuggestionType, Set<String>> removedWhileLoading;
+
+    @Override
+    public List<Suggestion> suggest(final String terms, final int limit) {
+        final var queryTokens = tokens(terms);
+        if (queryTokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final var lists = new ArrayList<Postings>(queryTokens.size());
+            for (final var token : queryTokens) {
+                final var list = this.postings.get(prefixOf(token));
+                if (Objects.isNull(list)) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+
+            // leapfrogs over the postings lists from the shortest one, doc ids are appended in increasing order
+            lists.sort(Comparator.comparingInt(Postings::size));
+            final var shortest = lists.get(0);
+            final var cursors = new int[lists.size()];
+            final var needsVerification = queryTokens.stream().anyMatch(token -> token.length() > MAX_PREFIX_LENGTH);
+            final var result = new ArrayList<Suggestion>(limit);
+
+            var index = 0;
+            candidates:
+            while (index < shortest.size() && result.size() < limit) {
+                final var doc = shortest.docs[index];
+
+                for (int i = 1; i < lists.size(); i++) {
+                    final var other = lists.get(i);
+                    cursors[i] = other.advance(cursors[i], doc);
+                    if (cursors[i] == other.size()) {
+                        break candidates;
+                    }
+                    if (other.docs[cursors[i]] != doc) {
+                        index = shortest.advance(index, other.docs[cursors[i]]);
+                        continue candidates;
+                    }
+                }
+
+                if (this.live.get(doc) && (!needsVerification || startsWithAll(normalize(this.names[doc]), queryTokens))) {
+                    result.add(Suggestion.with(this.ids[doc], this.names[doc], TYPES[this.types[doc]]));
+                }
+                index++;
+            }
+
+            return result;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(final Suggestion suggestion) {
+        Objects.requireNonNull(suggestion);
+        // a rolled back save must not leak into the index
+        TransactionUtils.afterCommit(() -> put(suggestion, true));
+    }
+
+    @Override
+    public void remove(final SuggestionType type, final String id) {
+        TransactionUtils.afterCommit(() -> {
+            this.lock.writeLock().lock();
+            try {
+                // the loader may have read the row before this delete committed
+                if (Objects.nonNull(this.removedWhileLoading)) {
+                    this.removedWhileLoading.computeIfAbsent(type, it -> new HashSet<>()).add(id);
+                }
+
+                final var doc = documentsOf(type).remove(id);
+                if (Objects.nonNull(doc)) {
+                    bury(doc);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void startLoading() {
+        this.lock.writeLock().lock();
+        try {
+            this.removedWhileLoading = new EnumMap<>(SuggestionType.class);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void finishLoading() {
+        this.lock.writeLock().lock();
+        try {
+            this.removedWhileLoading = null;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // startup loading must not overwrite what a concurrent save already indexed
+    public void load(final Suggestion suggestion) {
+        put(Objects.requireNonNull(suggestion), false);
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.values().stream().mapToInt(Map::size).sum();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    int tombstones() {
+        this.lock.readLock().lock();
+        try {
+            return this.tombstones;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void put(final Suggestion suggestion, final boolean replace) {
+        final var normalizedName = normalize(suggestion.name());
+
+        this.lock.writeLock().lock();
+        try {
+            if (!replace && wasRemovedWhileLoading(suggestion)) {
+                return;
+            }
+
+            final var documents = documentsOf(suggestion.type());
+            final var previous = documents.get(suggestion.id());
+            if (Objects.nonNull(previous)) {
+                if (!replace || this.names[previous].equals(suggestion.name())) {
+                    return;
+                }
+                bury(previous);
+            }
+
+            final var doc = append(suggestion);
+            documents.put(this.ids[doc], doc);
+            this.live.set(doc);
+            post(doc, normalizedName);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private boolean wasRemovedWhileLoading(final Suggestion suggestion) {
+        if (Objects.isNull(this.removedWhileLoading)) {
+            return false;
+        }
+
+        final var removed = this.removedWhileLoading.get(suggestion.type());
+        return Objects.nonNull(removed) && removed.contains(suggestion.id());
+    }
+
+    private void post(final int doc, final String normalizedName) {
+        for (final var token : SEPARATORS.split(normalizedName)) {
+            for (int length = 1; length <= Math.min(token.length(), MAX_PREFIX_LENGTH); length++) {
+                this.postings.computeIfAbsent(token.substring(0, length), it -> new Postings()).add(doc);
+            }
+        }
+    }
+
+    // the document stays in its postings as a tombstone until the next compaction
+    private void bury(final int doc) {
+        this.live.clear(doc);
+        this.tombstones++;
+
+        if (this.tombstones >= MIN_TOMBSTONES_TO_COMPACT && this.tombstones * COMPACTION_RATIO > this.size - this.tombstones) {
+            compact();
+        }
+    }
+
+    // renumbers the live documents in their current order, so postings stay sorted
+    private void compact() {
+        final var liveCount = this.size - this.tombstones;
+        final var capacity = Math.max(INITIAL_CAPACITY, liveCount + (liveCount >> 1));
+        final var compactedIds = new String[capacity];
+        final var compactedNames = new String[capacity];
+        final var compactedTypes = new byte[capacity];
+
+        this.postings.clear();
+        this.documents.values().forEach(Map::clear);
+
+        var doc = 0;
+        for (int previous = this.live.nextSetBit(0); previous >= 0; previous = this.live.nextSetBit(previous + 1)) {
+            compactedIds[doc] = this.ids[previous];
+            compactedNames[doc] = this.names[previous];
+            compactedTypes[doc] = this.types[previous];
+            documentsOf(TYPES[compactedTypes[doc]]).put(compactedIds[doc], doc);
+            doc++;
+        }
+
+        this.ids = compactedIds;
+        this.names = compactedNames;
+        this.types = compactedTypes;
+        this.size = doc;
+        this.tombstones = 0;
+        this.live.clear();
+        this.live.set(0, doc);
+
+        for (int i = 0; i < doc; i++) {
+            post(i, normalize(this.names[i]));
+        }
+    }
+
+    private int append(final Suggestion suggestion) {
+        if (this.size == this.ids.length) {
+            final var capacity = this.size + (this.size >> 1);
+            this.ids = Arrays.copyOf(this.ids, capacity);
+            this.names = Arrays.copyOf(this.names, capacity);
+            this.types = Arrays.copyOf(this.types, capacity);
+        }
+
+        final var doc = this.size++;
+        this.ids[doc] = suggestion.id();
+        this.names[doc] = suggestion.name();
+        this.types[doc] = (byte) suggestion.type().ordinal();
+        return doc;
+    }
+
+    private Map<String, Integer> documentsOf(final SuggestionType type) {
+        return this.documents.computeIfAbsent(type, it -> new HashMap<>());
+    }
+
+    private static boolean startsWithAll(final String normalizedName, final Set<String> queryTokens) {
+        final var nameTokens = SEPARATORS.split(normalizedName);
+        for (final var queryToken : queryTokens) {
+            if (Arrays.stream(nameTokens).noneMatch(token -> token.startsWith(queryToken))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> tokens(final String terms) {
+        final var tokens = new LinkedHashSet<String>();
+        if (Objects.isNull(terms)) {
+            return tokens;
+        }
+
+        for (final var token : SEPARATORS.split(normalize(terms))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(final String value) {
+        final var decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase().trim();
+    }
+
+    private static String prefixOf(final String token) {
+        return token.length() > MAX_PREFIX_LENGTH ? token.substring(0, MAX_PREFIX_LENGTH) : token;
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(final int doc) {
+            // a name repeating a prefix posts the same document twice in a row
+            if (this.size > 0 && this.docs[this.size - 1] == doc) {
+                return;
+            }
+            if (this.size == this.docs.length) {
+                this.docs = Arrays.copyOf(this.docs, this.size << 1);
+            }
+            this.docs[this.size++] = doc;
+        }
+
+        // position of the first doc not below the target, galloping from a previous position
+        int advance(final int from, final int target) {
+            var bound = 1;
+            while (from + bound < this.size && this.docs[from + bound] < target) {
+                bound <<= 1;
+            }
+
+            final var position = Arrays.binarySearch(this.docs, from + (bound >> 1), Math.min(from + bound, this.size), target);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+    }
+
+}
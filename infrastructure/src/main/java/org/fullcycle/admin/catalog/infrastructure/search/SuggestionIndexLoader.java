@@ -0,0 +1,94 @@
+package org.fullcycle.admin.catalog.infrastructure.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class SuggestionIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionIndexLoader.class);
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final Map<SuggestionType, Source> SOURCES = Map.of(
+        SuggestionType.VIDEO, new Source("select v.id, v.title from Video v", "v.id"),
+        SuggestionType.CATEGORY, new Source("select c.id, c.name from Category c", "c.id"),
+        SuggestionType.GENRE, new Source("select g.id, g.name from Genre g", "g.id"),
+        SuggestionType.CAST_MEMBER, new Source("select m.id, m.name from CastMember m", "m.id")
+    );
+
+    private final InMemorySuggestionIndex suggestionIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SuggestionIndexLoader(final InMemorySuggestionIndex suggestionIndex) {
+        this.suggestionIndex = Objects.requireNonNull(suggestionIndex);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final var startedAt = System.nanoTime();
+
+        // deletes committed while the tables are walked must not be brought back by a row read before them
+        this.suggestionIndex.startLoading();
+        try {
+            SOURCES.forEach(this::load);
+        } finally {
+            this.suggestionIndex.finishLoading();
+        }
+
+        log.info(
+            "Suggestion index loaded with {} entries in {} ms",
+            this.suggestionIndex.size(),
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    // walks each table by primary key in batches, so neither the heap nor a transaction holds the whole catalog
+    private void load(final SuggestionType type, final Source source) {
+        String after = null;
+        while (true) {
+            // the first page has no lower bound, the BINARY(16) keys only compare with another id
+            final var query = Objects.isNull(after)
+                ? this.entityManager.createQuery(source.firstPage(), Object[].class)
+                : this.entityManager.createQuery(source.nextPage(), Object[].class).setParameter("after", after);
+
+            final var rows = query
+                .setMaxResults(BATCH_SIZE)
+                .getResultList();
+
+            for (final var row : rows) {
+                this.suggestionIndex.load(Suggestion.with((String) row[0], (String) row[1], type));
+            }
+
+            if (rows.size() < BATCH_SIZE) {
+                return;
+            }
+            after = (String) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private record Source(String select, String key) {
+
+        String firstPage() {
+            return "%s order by %s".formatted(this.select, this.key);
+        }
+
+        String nextPage() {
+            return "%s where %s > :after order by %s".formatted(this.select, this.key, this.key);
+        }
+
+    }
+
+}
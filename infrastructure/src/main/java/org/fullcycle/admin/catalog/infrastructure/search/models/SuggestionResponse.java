@@ -0,0 +1,11 @@
+package org.fullcycle.admin.catalog.infrastructure.search.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record SuggestionResponse(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("type") String type
+) {
+
+}
@@ -0,0 +1,16 @@
+package org.fullcycle.admin.catalog.infrastructure.search.presenters;
+
+import org.fullcycle.admin.catalog.application.search.suggest.SuggestOutput;
+import org.fullcycle.admin.catalog.infrastructure.search.models.SuggestionResponse;
+
+public interface SearchApiPresenter {
+
+    static SuggestionResponse present(final SuggestOutput output) {
+        return new SuggestionResponse(
+            output.id(),
+            output.name(),
+            output.type().name()
+        );
+    }
+
+}
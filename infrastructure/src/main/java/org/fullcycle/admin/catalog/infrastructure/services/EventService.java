@@ -1,8 +1,14 @@
 package org.fullcycle.admin.catalog.infrastructure.services;
 
+import java.util.List;
+
 @FunctionalInterface
 public interface EventService {
 
     void send(Object event);
 
+    default void sendAll(final List<?> events) {
+        events.forEach(this::send);
+    }
+
 }
@@ -0,0 +1,226 @@
+package org.fullcycle.admin.catalog.infrastructure.services.impl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
+import org.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BatchingRabbitEventService implements EventService, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingRabbitEventService.class);
+
+    private final String exchange;
+    private final String routingKey;
+    private final RabbitOperations rabbitOperations;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final Duration sendTimeout;
+    private final BlockingQueue<Pending> pending;
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final LongAdder acked = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public BatchingRabbitEventService(
+        final String exchange,
+        final String routingKey,
+        final RabbitOperations rabbitOperations,
+        final PublisherProperties properties
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.rabbitOperations = Objects.requireNonNull(rabbitOperations);
+        this.batchSize = properties.getBatchSize();
+        this.maxInFlight = properties.getMaxInFlight();
+        this.sendTimeout = Objects.requireNonNull(properties.getSendTimeout());
+
+        if (this.batchSize < 1 || this.batchSize > this.maxInFlight) {
+            throw new IllegalArgumentException("'batchSize' must be between 1 and 'maxInFlight'");
+        }
+
+        this.pending = new ArrayBlockingQueue<>(properties.getMaxPending());
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("event-publisher-" + routingKey).daemon().factory()
+        );
+
+        final var interval = properties.getFlushInterval().toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // returns once the event is buffered, a rejected event is only counted and logged
+    @Override
+    public void send(final Object event) {
+        enqueue(event);
+    }
+
+    // shares the batches with send() and returns once the broker confirmed every event,
+    // so the outbox relay only deletes what was acked
+    @Override
+    public void sendAll(final List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final var confirms = events.stream().map(this::enqueue).toList();
+        requestFlush();
+
+        PublisherConfirms.awaitAll(confirms, this.sendTimeout);
+    }
+
+    public int pending() {
+        return this.pending.size();
+    }
+
+    public int inFlight() {
+        return this.maxInFlight - this.inFlight.availablePermits();
+    }
+
+    public long acked() {
+        return this.acked.sum();
+    }
+
+    public long rejected() {
+        return this.rejected.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("event.publisher.pending", this, BatchingRabbitEventService::pending)
+            .description("Events buffered for the next batch")
+            .tag("routing.key", this.routingKey)
+            .register(registry);
+        Gauge.builder("event.publisher.in.flight", this, BatchingRabbitEventService::inFlight)
+            .description("Events published and not yet confirmed by the broker")
+            .tag("routing.key", this.routingKey)
+            .register(registry);
+        FunctionCounter.builder("event.publisher.acked", this, BatchingRabbitEventService::acked)
+            .tag("routing.key", this.routingKey)
+            .register(registry);
+        FunctionCounter.builder("event.publisher.rejected", this, BatchingRabbitEventService::rejected)
+            .tag("routing.key", this.routingKey)
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        this.flusher.execute(this::flush);
+        this.flusher.shutdown();
+
+        try {
+            if (!this.flusher.awaitTermination(this.sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                this.flusher.shutdownNow();
+            }
+            if (!this.inFlight.tryAcquire(this.maxInFlight, this.sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Closed publisher to '{}' with {} events unpublished or unconfirmed", this.routingKey, pending() + inFlight());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // blocks the caller while the broker lags behind and gives up after the send timeout
+    private CompletableFuture<CorrelationData.Confirm> enqueue(final Object event) {
+        final var correlation = PublisherConfirms.correlation();
+        final var pending = new Pending(
+            Json.writeValueAsString(event),
+            correlation,
+            correlation.getFuture().whenComplete((confirm, error) -> {
+                this.inFlight.release();
+                if (Objects.isNull(error) && confirm.isAck()) {
+                    this.acked.increment();
+                } else {
+                    this.rejected.increment();
+                    log.error("Broker rejected event {} to '{}': {}", correlation.getId(), this.routingKey,
+                        Objects.isNull(error) ? confirm.getReason() : error.getMessage());
+                }
+            })
+        );
+
+        try {
+            if (!this.pending.offer(pending, this.sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new AmqpException(
+                    "Publisher to '%s' is saturated with %d pending events".formatted(this.routingKey, pending())
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting to publish", ex);
+        }
+
+        if (pending() >= this.batchSize) {
+            requestFlush();
+        }
+        return pending.confirm();
+    }
+
+    private void requestFlush() {
+        if (this.flushRequested.compareAndSet(false, true)) {
+            this.flusher.execute(this::flush);
+        }
+    }
+
+    // runs on the flusher thread only, on every interval and whenever a full batch is waiting
+    private void flush() {
+        this.flushRequested.set(false);
+
+        final var batch = new ArrayList<Pending>(this.batchSize);
+        try {
+            while (this.pending.drainTo(batch, this.batchSize) > 0) {
+                publish(batch);
+                batch.clear();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.pending.drainTo(batch);
+            log.error("Interrupted with {} events left to publish to '{}'", batch.size(), this.routingKey);
+            // never published, so these skip the confirm callback and its in-flight permit
+            this.rejected.add(batch.size());
+            batch.forEach(it -> it.confirm().completeExceptionally(ex));
+        } catch (final RuntimeException ex) {
+            log.error("Failed to publish {} events to '{}'", batch.size(), this.routingKey, ex);
+        }
+    }
+
+    private void publish(final List<Pending> batch) throws InterruptedException {
+        // the in-flight window fills up while confirms lag, which stalls the flusher and then the callers
+        this.inFlight.acquire(batch.size());
+
+        try {
+            this.rabbitOperations.invoke(operations -> {
+                batch.forEach(it -> operations.convertAndSend(this.exchange, this.routingKey, it.payload(), it.correlation()));
+                return null;
+            });
+        } catch (final RuntimeException ex) {
+            batch.forEach(it -> it.correlation().getFuture().completeExceptionally(ex));
+            throw ex;
+        }
+    }
+
+    private record Pending(String payload, CorrelationData correlation, CompletableFuture<CorrelationData.Confirm> confirm) {
+    }
+
+}
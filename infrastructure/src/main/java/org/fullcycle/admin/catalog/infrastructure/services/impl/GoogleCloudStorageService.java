@@ -1,13 +1,20 @@
 package org.fullcycle.admin.catalog.infrastructure.services.impl;
 
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import org.apache.commons.lang3.StringUtils;
 import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import org.fullcycle.admin.catalog.domain.utils.CollectionUtils;
 import org.fullcycle.admin.catalog.infrastructure.services.StorageService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +24,9 @@ import java.util.stream.StreamSupport;
 
 public class GoogleCloudStorageService implements StorageService {
 
+    private static final int UPLOAD_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int DOWNLOAD_CHUNK_SIZE = 2 * 1024 * 1024;
+
     private final String bucketName;
     private final Storage storage;
 
@@ -36,7 +46,7 @@ public class GoogleCloudStorageService implements StorageService {
         ).map(
             blob -> Resource.with(
                 blob.getCrc32cToHexString(),
-                blob.getContent(),
+                ResourceContent.ranged((position, length) -> openRange(blob, position, length), blob.getSize()),
                 blob.getContentType(),
                 blob.getName()
             )
@@ -66,11 +76,20 @@ public class GoogleCloudStorageService implements StorageService {
         Objects.requireNonNull(resource, "resource cannot be null");
 
         final var blobInfo = BlobInfo.newBuilder(this.bucketName, fileName)
-            .setContentType(resource.contentType())
-            .setCrc32cFromHexString(resource.checksum())
-            .build();
+            .setContentType(resource.contentType());
+
+        final var options = new ArrayList<Storage.BlobWriteOption>();
+        if (resource.hasChecksum()) {
+            blobInfo.setCrc32cFromHexString(resource.checksum());
+            options.add(Storage.BlobWriteOption.crc32cMatch());
+        }
 
-        this.storage.create(blobInfo, resource.content());
+        try (final var writer = this.storage.writer(blobInfo.build(), options.toArray(Storage.BlobWriteOption[]::new))) {
+            writer.setChunkSize(UPLOAD_CHUNK_SIZE);
+            resource.transferTo(Channels.newOutputStream(writer));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
     }
 
     @Override
@@ -84,4 +103,12 @@ public class GoogleCloudStorageService implements StorageService {
         }
     }
 
+    private static InputStream openRange(final Blob blob, final long position, final long length) throws IOException {
+        final var reader = blob.reader();
+        reader.setChunkSize(DOWNLOAD_CHUNK_SIZE);
+        reader.seek(position);
+        reader.limit(position + length);
+        return Channels.newInputStream(reader);
+    }
+
 }
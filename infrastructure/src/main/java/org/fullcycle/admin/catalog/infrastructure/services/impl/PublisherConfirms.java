@@ -0,0 +1,67 @@
+package org.fullcycle.admin.catalog.infrastructure.services.impl;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+final class PublisherConfirms {
+
+    private PublisherConfirms() { }
+
+    static CorrelationData publish(
+        final RabbitOperations operations,
+        final String exchange,
+        final String routingKey,
+        final String payload
+    ) {
+        final var correlationData = correlation();
+        operations.convertAndSend(exchange, routingKey, payload, correlationData);
+        return correlationData;
+    }
+
+    static CorrelationData correlation() {
+        return new CorrelationData(UUID.randomUUID().toString());
+    }
+
+    // confirms arrive asynchronously, so a whole batch costs a single round trip to wait for
+    static void await(final List<CorrelationData> correlations, final Duration timeout) {
+        awaitAll(correlations.stream().map(CorrelationData::getFuture).toList(), timeout);
+    }
+
+    static void awaitAll(final List<CompletableFuture<CorrelationData.Confirm>> confirms, final Duration timeout) {
+        try {
+            CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            throw new AmqpTimeoutException("Broker did not confirm %d events within %s".formatted(confirms.size(), timeout));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting for publisher confirms", ex);
+        } catch (final ExecutionException ex) {
+            throw new AmqpException("Failed to receive publisher confirms", ex.getCause());
+        }
+
+        final var rejected = confirms.stream()
+            .map(CompletableFuture::join)
+            .filter(confirm -> !confirm.isAck())
+            .toList();
+
+        if (!rejected.isEmpty()) {
+            throw new AmqpException("Broker rejected %d of %d events: %s".formatted(
+                rejected.size(),
+                confirms.size(),
+                Objects.toString(rejected.get(0).getReason(), "no reason given")
+            ));
+        }
+    }
+
+}
@@ -4,10 +4,14 @@ import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
 import org.fullcycle.admin.catalog.infrastructure.services.EventService;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 public class RabbitEventService implements EventService {
 
+    private static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(5);
+
     private final String exchange;
     private final String routingKey;
     private final RabbitOperations rabbitOperations;
@@ -23,4 +27,18 @@ public class RabbitEventService implements EventService {
         this.rabbitOperations.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
     }
 
+    // publishes the whole batch on one channel and returns once the broker confirmed all of it
+    @Override
+    public void sendAll(final List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final var correlations = this.rabbitOperations.invoke(operations -> events.stream()
+            .map(event -> PublisherConfirms.publish(operations, this.exchange, this.routingKey, Json.writeValueAsString(event)))
+            .toList());
+
+        PublisherConfirms.await(correlations, CONFIRM_TIMEOUT);
+    }
+
 }
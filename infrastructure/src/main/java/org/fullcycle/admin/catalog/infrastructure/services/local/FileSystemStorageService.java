@@ -0,0 +1,118 @@
+package org.fullcycle.admin.catalog.infrastructure.services.local;
+
+import org.apache.commons.lang3.StringUtils;
+import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import org.fullcycle.admin.catalog.domain.utils.CollectionUtils;
+import org.fullcycle.admin.catalog.infrastructure.services.StorageService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FileSystemStorageService implements StorageService {
+
+    private final Path root;
+    private final Map<String, Metadata> metadata;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root, "root cannot be null").toAbsolutePath().normalize();
+        this.metadata = new ConcurrentHashMap<>();
+    }
+
+    public Path root() {
+        return this.root;
+    }
+
+    @Override
+    public Optional<Resource> get(final String fileName) {
+        if (StringUtils.isBlank(fileName)) {
+            return Optional.empty();
+        }
+
+        final var path = resolve(fileName);
+        return Optional.ofNullable(this.metadata.get(fileName))
+            .filter(it -> Files.isRegularFile(path))
+            .map(it -> Resource.with(
+                it.checksum(),
+                ResourceContent.of(() -> Files.newInputStream(path), size(path)),
+                it.contentType(),
+                it.name()
+            ));
+    }
+
+    @Override
+    public List<String> findAll(final String prefixName) {
+        if (StringUtils.isBlank(prefixName)) {
+            return Collections.emptyList();
+        }
+
+        return this.metadata.keySet()
+            .stream()
+            .filter(it -> it.startsWith(prefixName))
+            .toList();
+    }
+
+    @Override
+    public void store(final String fileName, final Resource resource) {
+        Objects.requireNonNull(fileName, "fileName cannot be null");
+        Objects.requireNonNull(resource, "resource cannot be null");
+
+        final var path = resolve(fileName);
+
+        try {
+            Files.createDirectories(path.getParent());
+            try (final var output = Files.newOutputStream(path)) {
+                resource.transferTo(output);
+            }
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        this.metadata.put(fileName, new Metadata(resource.checksum(), resource.contentType(), resource.name()));
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> fileNames) {
+        if (CollectionUtils.isNonNullAndNonEmpty(fileNames)) {
+            fileNames.forEach(this::delete);
+        }
+    }
+
+    private void delete(final String fileName) {
+        this.metadata.remove(fileName);
+        try {
+            Files.deleteIfExists(resolve(fileName));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Path resolve(final String fileName) {
+        final var path = this.root.resolve(fileName).normalize();
+        if (!path.startsWith(this.root)) {
+            throw new IllegalArgumentException("fileName %s is outside of the storage root".formatted(fileName));
+        }
+        return path;
+    }
+
+    private static long size(final Path path) {
+        try {
+            return Files.size(path);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private record Metadata(String checksum, String contentType, String name) {
+    }
+
+}
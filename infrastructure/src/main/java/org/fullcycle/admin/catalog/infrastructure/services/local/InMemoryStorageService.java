@@ -5,6 +5,7 @@ import org.fullcycle.admin.catalog.domain.resource.Resource;
 import org.fullcycle.admin.catalog.domain.utils.CollectionUtils;
 import org.fullcycle.admin.catalog.infrastructure.services.StorageService;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -55,7 +56,13 @@ public class InMemoryStorageService implements StorageService {
         Objects.requireNonNull(fileName, "fileName cannot be null");
         Objects.requireNonNull(resource, "resource cannot be null");
 
-        this.storage.put(fileName, resource);
+        final var content = new ByteArrayOutputStream();
+        resource.transferTo(content);
+
+        this.storage.put(
+            fileName,
+            Resource.with(resource.checksum(), content.toByteArray(), resource.contentType(), resource.name())
+        );
     }
 
     @Override
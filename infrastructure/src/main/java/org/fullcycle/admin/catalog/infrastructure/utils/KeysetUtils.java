@@ -0,0 +1,142 @@
+package org.fullcycle.admin.catalog.infrastructure.utils;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.infrastructure.persistence.FullTextSearch;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class KeysetUtils {
+
+    private static final String ID = "id";
+
+    private KeysetUtils() { }
+
+    public static <E, T> Pagination<T> findAll(
+        final JpaSpecificationExecutor<E> repository,
+        final Specification<E> whereClause,
+        final SearchQuery query,
+        final Function<E, String> idOf,
+        final Function<E, T> mapper
+    ) {
+        if (FullTextSearch.isRelevance(query.sort())) {
+            throw DomainException.with(new Error("Cursor pagination is not supported for sort '%s'".formatted(query.sort())));
+        }
+
+        final var direction = Sort.Direction.fromString(query.direction());
+        final var afterCursor = query.after()
+            .map(cursor -> KeysetUtils.<E>after(query.sort(), direction, cursor))
+            .orElse(null);
+
+        final List<E> fetched = repository.findBy(
+            Specification.where(whereClause).and(afterCursor),
+            fluentQuery -> fluentQuery
+                .sortBy(sort(query.sort(), direction))
+                .limit(query.perPage() + 1)
+                .all()
+        );
+
+        return page(fetched, query.perPage(), it -> cursorOf(it, query.sort(), idOf), mapper);
+    }
+
+    public static <E, T> Pagination<T> page(
+        final List<E> fetched,
+        final int perPage,
+        final Function<E, Cursor> cursorOf,
+        final Function<E, T> mapper
+    ) {
+        final var hasNext = perPage > 0 && fetched.size() > perPage;
+        final var items = hasNext ? fetched.subList(0, perPage) : fetched;
+        final var nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+
+        return Pagination.keyset(perPage, items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public static Sort sort(final String property, final Sort.Direction direction) {
+        final var sort = Sort.by(direction, property);
+        return ID.equals(property) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    public static <E> Cursor cursorOf(final E entity, final String property, final Function<E, String> idOf) {
+        final var value = PropertyAccessorFactory.forBeanPropertyAccess(entity).getPropertyValue(property);
+        return Cursor.of(Objects.isNull(value) ? null : value.toString(), idOf.apply(entity));
+    }
+
+    public static <E> Specification<E> after(final String property, final Sort.Direction direction, final Cursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            final Expression<?> sortPath = root.get(property);
+            final Expression<String> idPath = root.get(ID);
+            final var ascending = direction.isAscending();
+            final var idBeyond = beyond(criteriaBuilder, idPath, cursor.id(), ascending);
+
+            // NULLs come first on ascending and last on descending orders, as MySQL sorts them
+            if (Objects.isNull(cursor.value())) {
+                return ascending
+                    ? criteriaBuilder.or(criteriaBuilder.isNotNull(sortPath), criteriaBuilder.and(criteriaBuilder.isNull(sortPath), idBeyond))
+                    : criteriaBuilder.and(criteriaBuilder.isNull(sortPath), idBeyond);
+            }
+
+            final var value = valueOf(cursor.value(), sortPath.getJavaType());
+            final var sortBeyond = criteriaBuilder.or(
+                beyond(criteriaBuilder, sortPath, value, ascending),
+                criteriaBuilder.and(criteriaBuilder.equal(sortPath, value), idBeyond)
+            );
+
+            return ascending ? sortBeyond : criteriaBuilder.or(sortBeyond, criteriaBuilder.isNull(sortPath));
+        };
+    }
+
+    public static Comparable<?> valueOf(final String value, final Class<?> type) {
+        try {
+            if (String.class.equals(type)) {
+                return value;
+            }
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            if (Integer.class.equals(type) || int.class.equals(type)) {
+                return Integer.valueOf(value);
+            }
+            if (Long.class.equals(type) || long.class.equals(type)) {
+                return Long.valueOf(value);
+            }
+            if (Double.class.equals(type) || double.class.equals(type)) {
+                return Double.valueOf(value);
+            }
+            if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+                return Boolean.valueOf(value);
+            }
+        } catch (final NumberFormatException | DateTimeParseException exception) {
+            throw DomainException.with(new Error("Invalid pagination cursor value '%s'".formatted(value)));
+        }
+
+        throw DomainException.with(new Error("Cursor pagination is not supported for %s sort".formatted(type.getSimpleName())));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate beyond(
+        final CriteriaBuilder criteriaBuilder,
+        final Expression expression,
+        final Comparable value,
+        final boolean ascending
+    ) {
+        return ascending
+            ? criteriaBuilder.greaterThan(expression, value)
+            : criteriaBuilder.lessThan(expression, value);
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.fullcycle.admin.catalog.infrastructure.utils;
+
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.Function;
+
+public final class PaginationUtils {
+
+    private PaginationUtils() { }
+
+    // table statistics cannot estimate a filtered listing, so it falls back to an exact count
+    public static boolean isCounted(final CountMode countMode, final boolean filtered) {
+        return countMode == CountMode.EXACT || (countMode == CountMode.ESTIMATED && filtered);
+    }
+
+    public static <E, T> Pagination<T> from(final Page<E> page, final Function<E, T> mapper) {
+        return Pagination.slice(
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.map(mapper).toList(),
+            page.hasNext()
+        );
+    }
+
+    public static <E, T> Pagination<T> from(final Slice<E> slice, final long total, final Function<E, T> mapper) {
+        return Pagination.slice(
+            slice.getNumber(),
+            slice.getSize(),
+            total,
+            slice.map(mapper).toList(),
+            slice.hasNext()
+        );
+    }
+
+}
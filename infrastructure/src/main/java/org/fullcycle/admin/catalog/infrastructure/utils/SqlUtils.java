@@ -1,9 +1,14 @@
 package org.fullcycle.admin.catalog.infrastructure.utils;
 
+import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Set;
 
 public final class SqlUtils {
 
+    // MySQL reports a child row whose parent is gone as 1452, H2 as 23506
+    private static final Set<Integer> MISSING_REFERENCE_ERROR_CODES = Set.of(1452, 23506);
+
     private SqlUtils() { }
 
     public static String like(final String term) {
@@ -14,4 +19,13 @@ public final class SqlUtils {
         return "%".concat(term.toUpperCase()).concat("%");
     }
 
+    public static boolean isMissingReference(final Throwable throwable) {
+        for (var cause = throwable; Objects.nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof SQLException exception && MISSING_REFERENCE_ERROR_CODES.contains(exception.getErrorCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
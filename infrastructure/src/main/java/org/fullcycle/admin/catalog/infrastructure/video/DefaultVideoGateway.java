@@ -3,24 +3,50 @@ package org.fullcycle.admin.catalog.infrastructure.video;
 import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
 import org.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionGateway;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
 import org.fullcycle.admin.catalog.domain.video.Video;
 import org.fullcycle.admin.catalog.domain.video.VideoGateway;
 import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.fullcycle.admin.catalog.domain.video.VideoMedia;
 import org.fullcycle.admin.catalog.domain.video.VideoPreview;
 import org.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
-import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedEventService;
+import org.fullcycle.admin.catalog.infrastructure.configuration.annotations.VideoCreatedOutbox;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.video.VideoListingProperties;
+import org.fullcycle.admin.catalog.infrastructure.persistence.FullTextSearch;
+import org.fullcycle.admin.catalog.infrastructure.persistence.TableStatistics;
 import org.fullcycle.admin.catalog.infrastructure.services.EventService;
-import org.fullcycle.admin.catalog.infrastructure.utils.SqlUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.PaginationUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.StringUtils;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.AudioVideoMediaJpaEntity;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.AudioVideoMediaRepository;
 import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoJpaEntity;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewJpaEntity;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewRepository;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewSearchRepository;
 import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoSearchRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.fullcycle.admin.catalog.domain.utils.CollectionUtils.mapTo;
 import static org.fullcycle.admin.catalog.domain.utils.CollectionUtils.nullIfEmpty;
@@ -29,49 +55,112 @@ import static org.fullcycle.admin.catalog.domain.utils.CollectionUtils.nullIfEmp
 public class DefaultVideoGateway implements VideoGateway {
 
     private final VideoRepository videoRepository;
+    private final VideoPreviewRepository videoPreviewRepository;
+    private final AudioVideoMediaRepository audioVideoMediaRepository;
     private final EventService eventService;
+    private final TableStatistics tableStatistics;
+    private final FullTextSearch fullTextSearch;
+    private final SuggestionGateway suggestionGateway;
+    private final VideoListingProperties listingProperties;
 
-    public DefaultVideoGateway(final VideoRepository videoRepository, @VideoCreatedEventService final EventService eventService) {
+    public DefaultVideoGateway(
+        final VideoRepository videoRepository,
+        final VideoPreviewRepository videoPreviewRepository,
+        final AudioVideoMediaRepository audioVideoMediaRepository,
+        @VideoCreatedOutbox final EventService eventService,
+        final TableStatistics tableStatistics,
+        final FullTextSearch fullTextSearch,
+        final SuggestionGateway suggestionGateway,
+        final VideoListingProperties listingProperties
+    ) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.videoPreviewRepository = Objects.requireNonNull(videoPreviewRepository);
+        this.audioVideoMediaRepository = Objects.requireNonNull(audioVideoMediaRepository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.tableStatistics = Objects.requireNonNull(tableStatistics);
+        this.fullTextSearch = Objects.requireNonNull(fullTextSearch);
+        this.suggestionGateway = Objects.requireNonNull(suggestionGateway);
+        this.listingProperties = Objects.requireNonNull(listingProperties);
     }
 
     @Transactional
     @Override
     public Video create(final Video video) {
-        return save(video);
+        return save(video, VideoJpaEntity.from(video).asNew(), true);
     }
 
+    // every row is persisted before the flush, so the association inserts go out as ordered JDBC batches
+    @Transactional
+    @Override
+    public List<Video> createAll(final List<Video> videos) {
+        if (videos.isEmpty()) {
+            return List.of();
+        }
+
+        final var entities = videos.stream()
+            .map(it -> VideoJpaEntity.from(it).asNew())
+            .toList();
+
+        final var savedVideos = this.videoRepository.saveAll(entities).stream()
+            .map(VideoJpaEntity::toAggregate)
+            .toList();
+
+        this.videoPreviewRepository.saveAll(savedVideos.stream()
+            .map(it -> VideoPreviewJpaEntity.from(it).asNew())
+            .toList());
+
+        videos.forEach(it -> it.publishDomainEvents(this.eventService::send));
+        savedVideos.forEach(it -> this.suggestionGateway.index(
+            Suggestion.with(it.getId().getValue(), it.getTitle(), SuggestionType.VIDEO)
+        ));
+
+        return savedVideos;
+    }
+
+    // patches the managed entity instead of merging a rebuilt one, which would rewrite every association row
     @Transactional
     @Override
     public Video update(final Video video) {
-        return save(video);
+        final var entity = this.videoRepository.findById(video.getId().getValue())
+            .map(it -> it.update(video))
+            .orElseGet(() -> VideoJpaEntity.from(video));
+
+        return save(video, entity, false);
     }
 
+    @Transactional
     @Override
     public void deleteById(final VideoID videoId) {
         final var id = videoId.getValue();
-        if (this.videoRepository.existsById(id)) {
+        if (IdentifierUtils.isValid(id) && this.videoRepository.existsById(id)) {
             this.videoRepository.deleteById(id);
+            this.videoPreviewRepository.remove(id);
+            this.suggestionGateway.remove(SuggestionType.VIDEO, id);
         }
     }
 
     @Transactional(readOnly = true)
     @Override
     public Optional<Video> findById(final VideoID videoId) {
+        if (!IdentifierUtils.isValid(videoId.getValue())) {
+            return Optional.empty();
+        }
         return this.videoRepository.findById(videoId.getValue())
             .map(VideoJpaEntity::toAggregate);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
-        final var page = PageRequest.of(
-            query.page(),
-            query.perPage(),
-            Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
+    public Optional<VideoPreview> findPreviewById(final VideoID videoId) {
+        if (!IdentifierUtils.isValid(videoId.getValue())) {
+            return Optional.empty();
+        }
+        return this.videoRepository.findPreviewById(videoId.getValue());
+    }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Pagination<VideoPreview> findAll(final VideoSearchQuery query) {
         final var categories = nullIfEmpty(
             mapTo(query.categories(), CategoryID::getValue)
         );
@@ -81,30 +170,166 @@ public class DefaultVideoGateway implements VideoGateway {
         final var castMembers = nullIfEmpty(
             mapTo(query.castMembers(), CastMemberID::getValue)
         );
+        final var against = this.fullTextSearch.against(query.terms()).orElse(null);
+
+        // the read model answers the plain listing from a single table. A ranked search, a relation filter (a LIKE on
+        // unindexed TEXT) or a sort on a column the previews lack still goes to the videos table and its indexes
+        final var fromPreviews = this.listingProperties.getMode() == VideoListingProperties.Mode.PREVIEWS
+            && Objects.isNull(against)
+            && Objects.isNull(categories)
+            && Objects.isNull(genres)
+            && Objects.isNull(castMembers)
+            && (VideoPreviewSearchRepository.SORTABLE_COLUMNS.contains(query.sort()) || FullTextSearch.isRelevance(query.sort()));
+        final VideoSearchRepository repository = fromPreviews ? this.videoPreviewRepository : this.videoRepository;
+
+        if (query.isKeyset()) {
+            final var fetched = repository.findAllAfter(
+                query.terms(),
+                against,
+                categories,
+                genres,
+                castMembers,
+                query.sort(),
+                Sort.Direction.fromString(query.direction()),
+                query.after().orElse(null),
+                query.perPage() + 1
+            );
+
+            return KeysetUtils.page(fetched, query.perPage(), it -> cursorOf(it, query.sort()), Function.identity());
+        }
+
+        // a relevance sort without full-text terms to rank has nothing to order by but the title
+        final var sort = FullTextSearch.isRelevance(query.sort()) && Objects.isNull(against)
+            ? "title"
+            : query.sort();
+        final var page = PageRequest.of(
+            query.page(),
+            query.perPage(),
+            Sort.by(Sort.Direction.fromString(query.direction()), sort)
+        );
+
+        final var filtered = StringUtils.isNotBlank(query.terms())
+            || Objects.nonNull(categories)
+            || Objects.nonNull(genres)
+            || Objects.nonNull(castMembers);
 
-        final var pageResult = this.videoRepository.findAll(
-            SqlUtils.like(query.terms()),
+        if (PaginationUtils.isCounted(query.countMode(), filtered)) {
+            final var pageResult = repository.findAll(
+                query.terms(),
+                against,
+                categories,
+                genres,
+                castMembers,
+                page
+            );
+
+            return PaginationUtils.from(pageResult, Function.identity());
+        }
+
+        final var slice = repository.findSlice(
+            query.terms(),
+            against,
             categories,
             genres,
             castMembers,
             page
         );
 
-        return new Pagination<>(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.toList()
+        final var total = query.countMode() == CountMode.ESTIMATED
+            ? this.tableStatistics.estimateRows(fromPreviews ? VideoPreviewJpaEntity.class : VideoJpaEntity.class)
+            : Pagination.UNKNOWN_TOTAL;
+
+        return PaginationUtils.from(slice, total, Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<VideoMedia> findAudioVideoMedias(final Set<VideoID> videoIds) {
+        final var ids = videoIds.stream()
+            .map(VideoID::getValue)
+            .filter(IdentifierUtils::isValid)
+            .collect(Collectors.toSet());
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var medias = new ArrayList<VideoMedia>();
+        for (final var row : this.videoRepository.findAudioVideoMedias(ids)) {
+            final var videoId = VideoID.from((String) row[0]);
+            if (row[1] instanceof AudioVideoMediaJpaEntity video) {
+                medias.add(VideoMedia.with(videoId, MediaType.VIDEO, video.toDomain(), video.getVersion()));
+            }
+            if (row[2] instanceof AudioVideoMediaJpaEntity trailer) {
+                medias.add(VideoMedia.with(videoId, MediaType.TRAILER, trailer.toDomain(), trailer.getVersion()));
+            }
+        }
+        return medias;
+    }
+
+    // touches the media row and the video's timestamp only, the aggregate is neither loaded nor rewritten
+    @Transactional
+    @Override
+    public void updateAudioVideoMedia(final VideoMedia media) {
+        updateMediaRow(media);
+        touch(Set.of(media.videoId().getValue()));
+    }
+
+    @Transactional
+    @Override
+    public void updateAudioVideoMedias(final List<VideoMedia> medias) {
+        if (medias.isEmpty()) {
+            return;
+        }
+
+        medias.forEach(this::updateMediaRow);
+        touch(mapTo(medias, it -> it.videoId().getValue()));
+    }
+
+    private void updateMediaRow(final VideoMedia media) {
+        final var updated = this.audioVideoMediaRepository.updateStatus(
+            media.media().id(),
+            media.media().status(),
+            media.media().encodedLocation(),
+            media.version()
         );
+
+        // the media changed or disappeared since it was read
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(AudioVideoMediaJpaEntity.class, media.media().id());
+        }
+    }
+
+    private void touch(final Set<String> videoIds) {
+        final var updatedAt = Instant.now();
+        this.videoRepository.touch(videoIds, updatedAt);
+        this.videoPreviewRepository.touch(videoIds, updatedAt);
+    }
+
+    private static Cursor cursorOf(final VideoPreview preview, final String sort) {
+        final var value = switch (sort) {
+            case "title" -> preview.title();
+            case "createdAt" -> Objects.toString(preview.createdAt(), null);
+            case "updatedAt" -> Objects.toString(preview.updatedAt(), null);
+            default -> preview.id();
+        };
+        return Cursor.of(value, preview.id());
     }
 
-    private Video save(final Video video) {
-        final var savedVideo = this.videoRepository.save(
-            VideoJpaEntity.from(video)
-        ).toAggregate();
+    // the preview is written in the same transaction, the listing never sees a video without it
+    private Video save(final Video video, final VideoJpaEntity entity, final boolean created) {
+        final var savedVideo = this.videoRepository.save(entity).toAggregate();
+
+        final var preview = VideoPreviewJpaEntity.from(savedVideo);
+        this.videoPreviewRepository.save(created ? preview.asNew() : preview);
 
+        // written to the outbox in this transaction, the broker is only reached by the relay
         video.publishDomainEvents(this.eventService::send);
 
+        this.suggestionGateway.index(
+            Suggestion.with(savedVideo.getId().getValue(), savedVideo.getTitle(), SuggestionType.VIDEO)
+        );
+
         return savedVideo;
     }
 
@@ -0,0 +1,9 @@
+package org.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateVideoResponse(
+    @JsonProperty("id") String id
+) {
+
+}
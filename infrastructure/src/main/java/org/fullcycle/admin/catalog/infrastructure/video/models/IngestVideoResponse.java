@@ -0,0 +1,21 @@
+package org.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record IngestVideoResponse(
+    @JsonProperty("line") int line,
+    @JsonProperty("status") String status,
+    @JsonProperty("id") String id,
+    @JsonProperty("errors") List<String> errors
+) {
+
+    public static final String CREATED = "created";
+    public static final String REJECTED = "rejected";
+
+    public static IngestVideoResponse rejected(final int line, final String error) {
+        return new IngestVideoResponse(line, REJECTED, null, List.of(error));
+    }
+
+}
@@ -0,0 +1,14 @@
+package org.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record ListVideoResponse(
+    @JsonProperty("id") String id,
+    @JsonProperty("title") String title,
+    @JsonProperty("description") String description,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("updated_at") Instant updatedAt
+) {
+}
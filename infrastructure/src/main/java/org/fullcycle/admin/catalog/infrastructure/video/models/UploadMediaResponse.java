@@ -0,0 +1,11 @@
+package org.fullcycle.admin.catalog.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
+
+public record UploadMediaResponse(
+    @JsonProperty("video_id") String videoId,
+    @JsonProperty("media_type") MediaType mediaType
+) {
+
+}
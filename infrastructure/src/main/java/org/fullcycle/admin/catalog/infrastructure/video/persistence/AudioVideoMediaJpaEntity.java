@@ -2,6 +2,8 @@ package org.fullcycle.admin.catalog.infrastructure.video.persistence;
 
 import org.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
 import org.fullcycle.admin.catalog.domain.video.MediaStatus;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
+import org.hibernate.annotations.Type;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +17,7 @@ import jakarta.persistence.Table;
 public class AudioVideoMediaJpaEntity {
 
     @Id
+    @Type(BinaryIdentifierType.class)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -34,6 +37,10 @@ public class AudioVideoMediaJpaEntity {
     @Enumerated(EnumType.STRING)
     private MediaStatus status;
 
+    // checked by the partial status updates, a whole aggregate save rebuilds this entity and leaves the column alone
+    @Column(name = "version", nullable = false, updatable = false)
+    private long version;
+
     public AudioVideoMediaJpaEntity() { }
 
     private AudioVideoMediaJpaEntity(
@@ -63,6 +70,14 @@ public class AudioVideoMediaJpaEntity {
         );
     }
 
+    // status and encoded path belong to the versioned status updates, an aggregate read before one must not undo it
+    public AudioVideoMediaJpaEntity update(final AudioVideoMedia audioVideoMedia) {
+        setName(audioVideoMedia.name());
+        setChecksum(audioVideoMedia.checksum());
+        setFilePath(audioVideoMedia.rawLocation());
+        return this;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
             getId(),
@@ -122,4 +137,12 @@ public class AudioVideoMediaJpaEntity {
         this.status = status;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
 }
@@ -0,0 +1,28 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.fullcycle.admin.catalog.domain.video.MediaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AudioVideoMediaRepository extends JpaRepository<AudioVideoMediaJpaEntity, String> {
+
+    @Modifying
+    @Query(
+        """
+        update AudioVideoMedia m
+        set m.status = :status, m.encodedPath = :encodedPath, m.version = m.version + 1
+        where m.id = :id and m.version = :version
+        """
+    )
+    int updateStatus(
+        @Param("id") final String id,
+        @Param("status") final MediaStatus status,
+        @Param("encodedPath") final String encodedPath,
+        @Param("version") final long version
+    );
+
+}
@@ -1,6 +1,8 @@
 package org.fullcycle.admin.catalog.infrastructure.video.persistence;
 
 import org.fullcycle.admin.catalog.domain.video.ImageMedia;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
+import org.hibernate.annotations.Type;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,6 +14,7 @@ import jakarta.persistence.Table;
 public class ImageMediaJpaEntity {
 
     @Id
+    @Type(BinaryIdentifierType.class)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -47,6 +50,13 @@ public class ImageMediaJpaEntity {
         );
     }
 
+    public ImageMediaJpaEntity update(final ImageMedia imageMedia) {
+        setName(imageMedia.name());
+        setChecksum(imageMedia.checksum());
+        setFilePath(imageMedia.location());
+        return this;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
             getId(),
@@ -1,6 +1,9 @@
 package org.fullcycle.admin.catalog.infrastructure.video.persistence;
 
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierConverter;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import java.io.Serializable;
 import java.util.Objects;
@@ -8,9 +11,11 @@ import java.util.Objects;
 @Embeddable
 public class VideoCastMemberID implements Serializable {
 
+    @Convert(converter = BinaryIdentifierConverter.class)
     @Column(name = "video_id", nullable = false)
     private String videoId;
 
+    @Convert(converter = BinaryIdentifierConverter.class)
     @Column(name = "cast_member_id", nullable = false)
     private String castMemberId;
 
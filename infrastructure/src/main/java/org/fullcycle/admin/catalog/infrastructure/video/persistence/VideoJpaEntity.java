@@ -4,9 +4,12 @@ import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
 import org.fullcycle.admin.catalog.domain.utils.CollectionUtils;
+import org.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
+import org.fullcycle.admin.catalog.domain.video.ImageMedia;
 import org.fullcycle.admin.catalog.domain.video.Rating;
 import org.fullcycle.admin.catalog.domain.video.Video;
 import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -16,19 +19,30 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
 import java.time.Instant;
 import java.time.Year;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@DynamicUpdate
 @Table(name = "videos")
 @Entity(name = "Video")
-public class VideoJpaEntity {
+public class VideoJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(BinaryIdentifierType.class)
     @Column(name = "id", nullable = false)
     private String id;
 
@@ -59,23 +73,24 @@ public class VideoJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    // every read picks its own graph, see VideoRepository
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaJpaEntity video;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "trailer_id")
     private AudioVideoMediaJpaEntity trailer;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "banner_id")
     private ImageMediaJpaEntity banner;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_id")
     private ImageMediaJpaEntity thumbnail;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaJpaEntity thumbnailHalf;
 
@@ -88,6 +103,10 @@ public class VideoJpaEntity {
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCastMemberJpaEntity> castMembers;
 
+    // a new video is persisted, merging it would select every association row before inserting it
+    @Transient
+    private boolean created;
+
     public VideoJpaEntity() { }
 
     private VideoJpaEntity(
@@ -166,6 +185,60 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    public VideoJpaEntity asNew() {
+        this.created = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.created;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.created = false;
+    }
+
+    // applies the aggregate onto this managed entity, dirty checking then flushes only what actually changed
+    public VideoJpaEntity update(final Video video) {
+        setTitle(video.getTitle());
+        setDescription(video.getDescription());
+        setYearLaunched(video.getLaunchedAt().getValue());
+        setOpened(video.isOpened());
+        setPublished(video.isPublished());
+        setRating(video.getRating());
+        setDuration(video.getDuration());
+        setUpdatedAt(video.getUpdatedAt());
+        setVideo(merge(getVideo(), video.getVideo().orElse(null)));
+        setTrailer(merge(getTrailer(), video.getTrailer().orElse(null)));
+        setBanner(merge(getBanner(), video.getBanner().orElse(null)));
+        setThumbnail(merge(getThumbnail(), video.getThumbnail().orElse(null)));
+        setThumbnailHalf(merge(getThumbnailHalf(), video.getThumbnailHalf().orElse(null)));
+
+        sync(
+            this.categories,
+            CollectionUtils.mapTo(video.getCategories(), CategoryID::getValue),
+            it -> it.getId().getCategoryId(),
+            it -> VideoCategoryJpaEntity.from(this, CategoryID.from(it))
+        );
+        sync(
+            this.genres,
+            CollectionUtils.mapTo(video.getGenres(), GenreID::getValue),
+            it -> it.getId().getGenreId(),
+            it -> VideoGenreJpaEntity.from(this, GenreID.from(it))
+        );
+        sync(
+            this.castMembers,
+            CollectionUtils.mapTo(video.getCastMembers(), CastMemberID::getValue),
+            it -> it.getId().getCastMemberId(),
+            it -> VideoCastMemberJpaEntity.from(this, CastMemberID.from(it))
+        );
+
+        return this;
+    }
+
     public Video toAggregate() {
         return Video.with(
             VideoID.from(getId()),
@@ -370,6 +443,44 @@ public class VideoJpaEntity {
         this.castMembers = castMembers;
     }
 
+    // a media keeping its id is updated in place, a replaced one is inserted and the old row removed as an orphan
+    private static AudioVideoMediaJpaEntity merge(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (Objects.isNull(media)) {
+            return null;
+        }
+        if (Objects.nonNull(current) && current.getId().equals(media.id())) {
+            return current.update(media);
+        }
+        return AudioVideoMediaJpaEntity.from(media);
+    }
+
+    private static ImageMediaJpaEntity merge(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (Objects.isNull(media)) {
+            return null;
+        }
+        if (Objects.nonNull(current) && current.getId().equals(media.id())) {
+            return current.update(media);
+        }
+        return ImageMediaJpaEntity.from(media);
+    }
+
+    // removes the rows no longer referenced and adds the missing ones, the rows kept are not touched
+    private static <E> void sync(
+        final Set<E> current,
+        final Set<String> ids,
+        final Function<E, String> idOf,
+        final Function<String, E> factory
+    ) {
+        current.removeIf(it -> !ids.contains(idOf.apply(it)));
+
+        final var existing = current.stream().map(idOf).collect(Collectors.toSet());
+        for (final var id : ids) {
+            if (!existing.contains(id)) {
+                current.add(factory.apply(id));
+            }
+        }
+    }
+
     private void addCategory(final CategoryID categoryID) {
         this.categories.add(VideoCategoryJpaEntity.from(this, categoryID));
     }
@@ -0,0 +1,193 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.fullcycle.admin.catalog.domain.Identifier;
+import org.fullcycle.admin.catalog.domain.video.Video;
+import org.fullcycle.admin.catalog.domain.video.VideoPreview;
+import org.fullcycle.admin.catalog.infrastructure.persistence.BinaryIdentifierType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+// the denormalized row of a video in the listing, see DefaultVideoGateway for how it is kept in step
+@DynamicUpdate
+@Table(name = "video_previews")
+@Entity(name = "VideoPreview")
+public class VideoPreviewJpaEntity implements Persistable<String> {
+
+    static final String SEPARATOR = ",";
+
+    @Id
+    @Type(BinaryIdentifierType.class)
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "categories_id", nullable = false, columnDefinition = "TEXT")
+    private String categories;
+
+    @Column(name = "genres_id", nullable = false, columnDefinition = "TEXT")
+    private String genres;
+
+    @Column(name = "cast_members_id", nullable = false, columnDefinition = "TEXT")
+    private String castMembers;
+
+    @Transient
+    private boolean created;
+
+    public VideoPreviewJpaEntity() { }
+
+    private VideoPreviewJpaEntity(
+        final String id,
+        final String title,
+        final String description,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final String categories,
+        final String genres,
+        final String castMembers
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.categories = categories;
+        this.genres = genres;
+        this.castMembers = castMembers;
+    }
+
+    public static VideoPreviewJpaEntity from(final Video video) {
+        return new VideoPreviewJpaEntity(
+            video.getId().getValue(),
+            video.getTitle(),
+            video.getDescription(),
+            video.getCreatedAt(),
+            video.getUpdatedAt(),
+            pack(video.getCategories()),
+            pack(video.getGenres()),
+            pack(video.getCastMembers())
+        );
+    }
+
+    // sorted, so an unchanged relation set packs to the same value and is never rewritten
+    static String pack(final Collection<? extends Identifier> ids) {
+        return ids.stream()
+            .map(Identifier::getValue)
+            .sorted()
+            .collect(Collectors.joining(SEPARATOR, SEPARATOR, ids.isEmpty() ? "" : SEPARATOR));
+    }
+
+    // the LIKE pattern of a packed column holding the id
+    static String packed(final String id) {
+        return "%" + SEPARATOR + id + SEPARATOR + "%";
+    }
+
+    public VideoPreviewJpaEntity asNew() {
+        this.created = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.created;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.created = false;
+    }
+
+    public VideoPreview toPreview() {
+        return new VideoPreview(getId(), getTitle(), getDescription(), getCreatedAt(), getUpdatedAt());
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(final String description) {
+        this.description = description;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(final Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getCategories() {
+        return categories;
+    }
+
+    public void setCategories(final String categories) {
+        this.categories = categories;
+    }
+
+    public String getGenres() {
+        return genres;
+    }
+
+    public void setGenres(final String genres) {
+        this.genres = genres;
+    }
+
+    public String getCastMembers() {
+        return castMembers;
+    }
+
+    public void setCastMembers(final String castMembers) {
+        this.castMembers = castMembers;
+    }
+
+}
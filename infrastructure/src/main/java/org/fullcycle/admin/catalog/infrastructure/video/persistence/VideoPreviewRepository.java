@@ -0,0 +1,41 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+
+@Repository
+public interface VideoPreviewRepository extends JpaRepository<VideoPreviewJpaEntity, String>, VideoPreviewSearchRepository {
+
+    @Modifying
+    @Query("update VideoPreview p set p.updatedAt = :updatedAt where p.id in :ids")
+    int touch(@Param("ids") final Collection<String> ids, @Param("updatedAt") final Instant updatedAt);
+
+    // a single delete statement, deleteById would select the row first
+    @Modifying
+    @Query("delete from VideoPreview p where p.id = :id")
+    int remove(@Param("id") final String id);
+
+    // the relation rows of a deleted category, genre or cast member cascade away, its packed ids are cut out here
+    @Transactional
+    @Modifying
+    @Query("update VideoPreview p set p.categories = replace(p.categories, concat(',', :id, ','), ',') where p.categories like concat('%,', :id, ',%')")
+    int unlinkCategory(@Param("id") final String id);
+
+    @Transactional
+    @Modifying
+    @Query("update VideoPreview p set p.genres = replace(p.genres, concat(',', :id, ','), ',') where p.genres like concat('%,', :id, ',%')")
+    int unlinkGenre(@Param("id") final String id);
+
+    @Transactional
+    @Modifying
+    @Query("update VideoPreview p set p.castMembers = replace(p.castMembers, concat(',', :id, ','), ',') where p.castMembers like concat('%,', :id, ',%')")
+    int unlinkCastMember(@Param("id") final String id);
+
+}
@@ -0,0 +1,10 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import java.util.Set;
+
+// the listing of VideoSearchRepository served by the video_previews read model, which only holds the listing columns
+public interface VideoPreviewSearchRepository extends VideoSearchRepository {
+
+    Set<String> SORTABLE_COLUMNS = Set.of("id", "title", "createdAt", "updatedAt");
+
+}
@@ -0,0 +1,142 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.VideoPreview;
+import org.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// the read model has no FULLTEXT index, its terms always match with LIKE and the gateway sends ranked searches to the videos table
+public class VideoPreviewSearchRepositoryImpl implements VideoPreviewSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<VideoPreview> findAll(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final Pageable pageable
+    ) {
+        final var where = VideoPreviewSpecifications.filter(terms, categories, genres, castMembers);
+        final var content = select(where, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(where));
+    }
+
+    @Override
+    public Slice<VideoPreview> findSlice(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final Pageable pageable
+    ) {
+        final var where = VideoPreviewSpecifications.filter(terms, categories, genres, castMembers);
+        final var fetched = select(where, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+
+        final var hasNext = fetched.size() > pageable.getPageSize();
+        final var content = hasNext ? fetched.subList(0, pageable.getPageSize()) : fetched;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<VideoPreview> findAllAfter(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final String sort,
+        final Sort.Direction direction,
+        final Cursor after,
+        final int limit
+    ) {
+        if (!SORTABLE_COLUMNS.contains(sort)) {
+            throw DomainException.with(new Error("Cursor pagination is not supported for sort '%s'".formatted(sort)));
+        }
+
+        var where = VideoPreviewSpecifications.filter(terms, categories, genres, castMembers);
+        if (Objects.nonNull(after)) {
+            where = where.and(KeysetUtils.after(sort, direction, after));
+        }
+
+        return select(where, KeysetUtils.sort(sort, direction), 0, limit);
+    }
+
+    private List<VideoPreview> select(
+        final Specification<VideoPreviewJpaEntity> where,
+        final Sort sort,
+        final long offset,
+        final int limit
+    ) {
+        // the gateway only sends the sorts the read model has columns for, anything else would surface as a 500
+        sort.stream()
+            .map(Sort.Order::getProperty)
+            .filter(it -> !SORTABLE_COLUMNS.contains(it))
+            .findFirst()
+            .ifPresent(it -> {
+                throw DomainException.with(new Error("Sorting the video previews by '%s' is not supported".formatted(it)));
+            });
+
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(VideoPreview.class);
+        final var preview = query.from(VideoPreviewJpaEntity.class);
+
+        query.select(criteriaBuilder.construct(
+            VideoPreview.class,
+            preview.get("id"),
+            preview.get("title"),
+            preview.get("description"),
+            preview.get("createdAt"),
+            preview.get("updatedAt")
+        ));
+
+        final var predicate = where.toPredicate(preview, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        query.orderBy(QueryUtils.toOrders(sort, preview, criteriaBuilder));
+
+        return this.entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private long count(final Specification<VideoPreviewJpaEntity> where) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(Long.class);
+        final var preview = query.from(VideoPreviewJpaEntity.class);
+
+        query.select(criteriaBuilder.count(preview));
+
+        final var predicate = where.toPredicate(preview, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.criteria.Predicate;
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Objects;
+import java.util.Set;
+
+public final class VideoPreviewSpecifications {
+
+    private VideoPreviewSpecifications() { }
+
+    // each relation filter matches the packed ids of the same row, no other table is read
+    public static Specification<VideoPreviewJpaEntity> filter(
+        final String terms,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers
+    ) {
+        Specification<VideoPreviewJpaEntity> where = Specification.where(null);
+
+        if (Objects.nonNull(terms) && !terms.isBlank()) {
+            where = where.and(SpecificationUtils.like("title", terms));
+        }
+        if (Objects.nonNull(castMembers) && !castMembers.isEmpty()) {
+            where = where.and(packs("castMembers", castMembers));
+        }
+        if (Objects.nonNull(genres) && !genres.isEmpty()) {
+            where = where.and(packs("genres", genres));
+        }
+        if (Objects.nonNull(categories) && !categories.isEmpty()) {
+            where = where.and(packs("categories", categories));
+        }
+
+        return where;
+    }
+
+    // any of the ids, an id that is not one of ours is never packed and can't match
+    private static Specification<VideoPreviewJpaEntity> packs(final String attribute, final Set<String> ids) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+            ids.stream()
+                .map(IdentifierUtils::from)
+                .filter(IdentifierUtils::isValid)
+                .map(it -> criteriaBuilder.like(root.get(attribute), VideoPreviewJpaEntity.packed(it)))
+                .toArray(Predicate[]::new)
+        );
+    }
+
+}
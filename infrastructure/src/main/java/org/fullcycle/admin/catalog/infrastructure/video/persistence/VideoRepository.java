@@ -1,47 +1,48 @@
 package org.fullcycle.admin.catalog.infrastructure.video.persistence;
 
 import org.fullcycle.admin.catalog.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, VideoSearchRepository {
+
+    // the full graph for aggregate reads and updates, the media are joined and each relation set is one more select
+    @Override
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf"})
+    Optional<VideoJpaEntity> findById(final String id);
 
     @Query(
         """
-        select distinct new org.fullcycle.admin.catalog.domain.video.VideoPreview(
-            v.id as id,
-            v.title as title,
-            v.description as description,
-            v.createdAt as createdAt,
-            v.updatedAt as updatedAt
-        )
+        select new org.fullcycle.admin.catalog.domain.video.VideoPreview(v.id, v.title, v.description, v.createdAt, v.updatedAt)
         from Video v
-            left join v.categories categories
-            left join v.genres genres
-            left join v.castMembers castMembers
-        where
-            ( :terms is null or UPPER(v.title) like :terms )
-        and
-            ( :categories is null or categories.id.categoryId in :categories )
-        and
-            ( :genres is null or genres.id.genreId in :genres )
-        and
-            ( :castMembers is null or castMembers.id.castMemberId in :castMembers )
+        where v.id = :id
         """
     )
-    Page<VideoPreview> findAll(
-        @Param("terms") final String terms,
-        @Param("categories") final Set<String> categories,
-        @Param("genres") final Set<String> genres,
-        @Param("castMembers") final Set<String> castMembers,
-        final Pageable pageable
-    );
+    Optional<VideoPreview> findPreviewById(@Param("id") final String id);
+
+    // only the two audio/video media of each video, none of the image media or relations are loaded
+    @Query(
+        """
+        select v.id, vm, tm from Video v
+        left join v.video vm
+        left join v.trailer tm
+        where v.id in :ids
+        """
+    )
+    List<Object[]> findAudioVideoMedias(@Param("ids") final Collection<String> ids);
+
+    @Modifying
+    @Query("update Video v set v.updatedAt = :updatedAt where v.id in :ids")
+    int touch(@Param("ids") final Collection<String> ids, @Param("updatedAt") final Instant updatedAt);
 
 }
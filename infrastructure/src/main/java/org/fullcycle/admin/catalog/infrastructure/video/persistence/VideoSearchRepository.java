@@ -0,0 +1,45 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
+import org.fullcycle.admin.catalog.domain.video.VideoPreview;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+public interface VideoSearchRepository {
+
+    Page<VideoPreview> findAll(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final Pageable pageable
+    );
+
+    Slice<VideoPreview> findSlice(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final Pageable pageable
+    );
+
+    List<VideoPreview> findAllAfter(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final String sort,
+        final Sort.Direction direction,
+        final Cursor after,
+        final int limit
+    );
+
+}
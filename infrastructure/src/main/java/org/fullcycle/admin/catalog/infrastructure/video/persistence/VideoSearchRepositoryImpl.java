@@ -0,0 +1,143 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.VideoPreview;
+import org.fullcycle.admin.catalog.infrastructure.persistence.FullTextSearch;
+import org.fullcycle.admin.catalog.infrastructure.utils.KeysetUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class VideoSearchRepositoryImpl implements VideoSearchRepository {
+
+    private static final Set<String> KEYSET_SORTABLE_COLUMNS = Set.of("id", "title", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<VideoPreview> findAll(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final Pageable pageable
+    ) {
+        final var where = VideoSpecifications.filter(terms, against, categories, genres, castMembers);
+        final var content = select(where, against, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(where));
+    }
+
+    @Override
+    public Slice<VideoPreview> findSlice(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final Pageable pageable
+    ) {
+        final var where = VideoSpecifications.filter(terms, against, categories, genres, castMembers);
+        final var fetched = select(where, against, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+
+        final var hasNext = fetched.size() > pageable.getPageSize();
+        final var content = hasNext ? fetched.subList(0, pageable.getPageSize()) : fetched;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<VideoPreview> findAllAfter(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers,
+        final String sort,
+        final Sort.Direction direction,
+        final Cursor after,
+        final int limit
+    ) {
+        if (!KEYSET_SORTABLE_COLUMNS.contains(sort)) {
+            throw DomainException.with(new Error("Cursor pagination is not supported for sort '%s'".formatted(sort)));
+        }
+
+        var where = VideoSpecifications.filter(terms, against, categories, genres, castMembers);
+        if (Objects.nonNull(after)) {
+            where = where.and(KeysetUtils.after(sort, direction, after));
+        }
+
+        return select(where, against, KeysetUtils.sort(sort, direction), 0, limit);
+    }
+
+    private List<VideoPreview> select(
+        final Specification<VideoJpaEntity> where,
+        final String against,
+        final Sort sort,
+        final long offset,
+        final int limit
+    ) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(VideoPreview.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(criteriaBuilder.construct(
+            VideoPreview.class,
+            video.get("id"),
+            video.get("title"),
+            video.get("description"),
+            video.get("createdAt"),
+            video.get("updatedAt")
+        ));
+
+        final var predicate = where.toPredicate(video, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        if (Objects.nonNull(against) && Objects.nonNull(sort.getOrderFor(FullTextSearch.RELEVANCE))) {
+            query.orderBy(
+                criteriaBuilder.desc(FullTextSearch.score(video, criteriaBuilder, against, VideoSpecifications.MATCHED_COLUMNS)),
+                criteriaBuilder.asc(video.get("id"))
+            );
+        } else {
+            query.orderBy(QueryUtils.toOrders(sort, video, criteriaBuilder));
+        }
+
+        return this.entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    private long count(final Specification<VideoJpaEntity> where) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(Long.class);
+        final var video = query.from(VideoJpaEntity.class);
+
+        query.select(criteriaBuilder.count(video));
+
+        final var predicate = where.toPredicate(video, query, criteriaBuilder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.fullcycle.admin.catalog.infrastructure.video.persistence;
+
+import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
+import org.fullcycle.admin.catalog.infrastructure.persistence.FullTextSearch;
+import org.fullcycle.admin.catalog.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public final class VideoSpecifications {
+
+    static final String[] MATCHED_COLUMNS = { "title", "description" };
+
+    private VideoSpecifications() { }
+
+    // each relation filter becomes a correlated EXISTS, so videos are never multiplied by their relations
+    public static Specification<VideoJpaEntity> filter(
+        final String terms,
+        final String against,
+        final Set<String> categories,
+        final Set<String> genres,
+        final Set<String> castMembers
+    ) {
+        Specification<VideoJpaEntity> where = Specification.where(null);
+
+        // the full-text index serves the terms when it can, short terms and other databases keep the LIKE scan
+        if (Objects.nonNull(against)) {
+            where = where.and(FullTextSearch.matches(against, MATCHED_COLUMNS));
+        } else if (Objects.nonNull(terms) && !terms.isBlank()) {
+            where = where.and(SpecificationUtils.like("title", terms));
+        }
+
+        // the smallest ID set is the most selective probe, cast members being the rarest relation on ties
+        final var relations = Stream.of(
+                new RelationFilter(VideoCastMemberJpaEntity.class, "castMemberId", castMembers),
+                new RelationFilter(VideoGenreJpaEntity.class, "genreId", genres),
+                new RelationFilter(VideoCategoryJpaEntity.class, "categoryId", categories)
+            )
+            .filter(RelationFilter::isPresent)
+            .sorted(Comparator.comparingInt(RelationFilter::size))
+            .toList();
+
+        for (final var relation : relations) {
+            where = where.and(relatedTo(relation.type(), relation.idAttribute(), relation.ids()));
+        }
+
+        return where;
+    }
+
+    private static <R> Specification<VideoJpaEntity> relatedTo(
+        final Class<R> relation,
+        final String relatedIdAttribute,
+        final Set<String> relatedIds
+    ) {
+        // an id that is not one of ours can't be bound and matches nothing
+        final var ids = relatedIds.stream().map(IdentifierUtils::from).filter(IdentifierUtils::isValid).toList();
+
+        return (root, query, criteriaBuilder) -> {
+            if (ids.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+
+            final var subquery = query.subquery(Integer.class);
+            final var related = subquery.from(relation);
+
+            subquery.select(criteriaBuilder.literal(1))
+                .where(
+                    criteriaBuilder.equal(related.get("id").get("videoId"), root.get("id")),
+                    related.get("id").get(relatedIdAttribute).in(ids)
+                );
+
+            return criteriaBuilder.exists(subquery);
+        };
+    }
+
+    private record RelationFilter(Class<?> type, String idAttribute, Set<String> ids) {
+
+        boolean isPresent() {
+            return Objects.nonNull(this.ids) && !this.ids.isEmpty();
+        }
+
+        int size() {
+            return this.ids.size();
+        }
+
+    }
+
+}
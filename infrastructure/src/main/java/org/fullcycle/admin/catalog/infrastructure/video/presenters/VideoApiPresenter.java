@@ -0,0 +1,42 @@
+package org.fullcycle.admin.catalog.infrastructure.video.presenters;
+
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoOutput;
+import org.fullcycle.admin.catalog.application.video.ingest.IngestVideoOutput;
+import org.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosOutput;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.infrastructure.video.models.CreateVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.IngestVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.ListVideoResponse;
+import org.fullcycle.admin.catalog.infrastructure.video.models.UploadMediaResponse;
+
+public interface VideoApiPresenter {
+
+    static CreateVideoResponse present(final CreateVideoOutput output) {
+        return new CreateVideoResponse(output.id());
+    }
+
+    static IngestVideoResponse present(final int line, final IngestVideoOutput output) {
+        return new IngestVideoResponse(
+            line,
+            output.isCreated() ? IngestVideoResponse.CREATED : IngestVideoResponse.REJECTED,
+            output.id(),
+            output.errors().stream().map(Error::message).toList()
+        );
+    }
+
+    static UploadMediaResponse present(final UploadMediaOutput output) {
+        return new UploadMediaResponse(output.videoId(), output.mediaType());
+    }
+
+    static ListVideoResponse present(final ListVideosOutput output) {
+        return new ListVideoResponse(
+            output.id(),
+            output.title(),
+            output.description(),
+            output.createdAt(),
+            output.updatedAt()
+        );
+    }
+
+}
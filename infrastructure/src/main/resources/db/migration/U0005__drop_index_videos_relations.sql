@@ -0,0 +1,11 @@
+ALTER TABLE videos_cast_members DROP FOREIGN KEY FK_VIDEOS_CAST_MEMBERS_CAST_MEMBER_ID;
+DROP INDEX IDX_VIDEOS_CAST_MEMBERS_CAST_MEMBER_ID_VIDEO_ID ON videos_cast_members;
+ALTER TABLE videos_cast_members ADD CONSTRAINT FK_VIDEOS_CAST_MEMBERS_CAST_MEMBER_ID FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_genres DROP FOREIGN KEY FK_VIDEOS_GENRES_GENRE_ID;
+DROP INDEX IDX_VIDEOS_GENRES_GENRE_ID_VIDEO_ID ON videos_genres;
+ALTER TABLE videos_genres ADD CONSTRAINT FK_VIDEOS_GENRES_GENRE_ID FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_categories DROP FOREIGN KEY FK_VIDEOS_CATEGORIES_CATEGORY_ID;
+DROP INDEX IDX_VIDEOS_CATEGORIES_CATEGORY_ID_VIDEO_ID ON videos_categories;
+ALTER TABLE videos_categories ADD CONSTRAINT FK_VIDEOS_CATEGORIES_CATEGORY_ID FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
@@ -0,0 +1 @@
+ALTER TABLE videos_video_media DROP COLUMN version;
@@ -0,0 +1,5 @@
+CREATE INDEX IDX_VIDEOS_CATEGORIES_CATEGORY_ID_VIDEO_ID ON videos_categories (category_id, video_id);
+
+CREATE INDEX IDX_VIDEOS_GENRES_GENRE_ID_VIDEO_ID ON videos_genres (genre_id, video_id);
+
+CREATE INDEX IDX_VIDEOS_CAST_MEMBERS_CAST_MEMBER_ID_VIDEO_ID ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1 @@
+ALTER TABLE videos_video_media ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
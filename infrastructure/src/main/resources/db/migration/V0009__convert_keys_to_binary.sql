@@ -0,0 +1,157 @@
+-- the CHAR(32) hex keys become BINARY(16), every table is copied into a binary twin which then replaces it
+-- constraints and indexes are named per schema, so they are only recreated once the old tables are gone
+
+CREATE TABLE categories_binary (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+INSERT INTO categories_binary (id, name, description, active, created_at, updated_at, deleted_at)
+SELECT ${unhex}(id), name, description, active, created_at, updated_at, deleted_at FROM categories;
+
+CREATE TABLE genres_binary (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+INSERT INTO genres_binary (id, name, active, created_at, updated_at, deleted_at)
+SELECT ${unhex}(id), name, active, created_at, updated_at, deleted_at FROM genres;
+
+CREATE TABLE genres_categories_binary (
+    genre_id BINARY(16) NOT NULL,
+    category_id BINARY(16) NOT NULL
+);
+INSERT INTO genres_categories_binary (genre_id, category_id)
+SELECT ${unhex}(genre_id), ${unhex}(category_id) FROM genres_categories;
+
+CREATE TABLE cast_members_binary (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+INSERT INTO cast_members_binary (id, name, type, created_at, updated_at)
+SELECT ${unhex}(id), name, type, created_at, updated_at FROM cast_members;
+
+CREATE TABLE videos_video_media_binary (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    encoded_path VARCHAR(500) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+INSERT INTO videos_video_media_binary (id, name, checksum, file_path, encoded_path, status, version)
+SELECT ${unhex}(id), name, checksum, file_path, encoded_path, status, version FROM videos_video_media;
+
+CREATE TABLE videos_image_media_binary (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL
+);
+INSERT INTO videos_image_media_binary (id, name, checksum, file_path)
+SELECT ${unhex}(id), name, checksum, file_path FROM videos_image_media;
+
+CREATE TABLE videos_binary (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    year_launched SMALLINT NOT NULL,
+    opened BOOLEAN NOT NULL DEFAULT FALSE,
+    published BOOLEAN NOT NULL DEFAULT FALSE,
+    rating VARCHAR(5) NOT NULL,
+    duration DECIMAL(5, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    video_id BINARY(16) NULL,
+    trailer_id BINARY(16) NULL,
+    banner_id BINARY(16) NULL,
+    thumbnail_id BINARY(16) NULL,
+    thumbnail_half_id BINARY(16) NULL
+);
+INSERT INTO videos_binary (
+    id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at,
+    video_id, trailer_id, banner_id, thumbnail_id, thumbnail_half_id
+)
+SELECT
+    ${unhex}(id), title, description, year_launched, opened, published, rating, duration, created_at, updated_at,
+    ${unhex}(video_id), ${unhex}(trailer_id), ${unhex}(banner_id), ${unhex}(thumbnail_id), ${unhex}(thumbnail_half_id)
+FROM videos;
+
+CREATE TABLE videos_categories_binary (
+    video_id BINARY(16) NOT NULL,
+    category_id BINARY(16) NOT NULL
+);
+INSERT INTO videos_categories_binary (video_id, category_id)
+SELECT ${unhex}(video_id), ${unhex}(category_id) FROM videos_categories;
+
+CREATE TABLE videos_genres_binary (
+    video_id BINARY(16) NOT NULL,
+    genre_id BINARY(16) NOT NULL
+);
+INSERT INTO videos_genres_binary (video_id, genre_id)
+SELECT ${unhex}(video_id), ${unhex}(genre_id) FROM videos_genres;
+
+CREATE TABLE videos_cast_members_binary (
+    video_id BINARY(16) NOT NULL,
+    cast_member_id BINARY(16) NOT NULL
+);
+INSERT INTO videos_cast_members_binary (video_id, cast_member_id)
+SELECT ${unhex}(video_id), ${unhex}(cast_member_id) FROM videos_cast_members;
+
+DROP TABLE videos_cast_members;
+DROP TABLE videos_genres;
+DROP TABLE videos_categories;
+DROP TABLE videos;
+DROP TABLE videos_image_media;
+DROP TABLE videos_video_media;
+DROP TABLE cast_members;
+DROP TABLE genres_categories;
+DROP TABLE genres;
+DROP TABLE categories;
+
+ALTER TABLE categories_binary RENAME TO categories;
+ALTER TABLE genres_binary RENAME TO genres;
+ALTER TABLE genres_categories_binary RENAME TO genres_categories;
+ALTER TABLE cast_members_binary RENAME TO cast_members;
+ALTER TABLE videos_video_media_binary RENAME TO videos_video_media;
+ALTER TABLE videos_image_media_binary RENAME TO videos_image_media;
+ALTER TABLE videos_binary RENAME TO videos;
+ALTER TABLE videos_categories_binary RENAME TO videos_categories;
+ALTER TABLE videos_genres_binary RENAME TO videos_genres;
+ALTER TABLE videos_cast_members_binary RENAME TO videos_cast_members;
+
+ALTER TABLE genres_categories ADD CONSTRAINT UN_GENRES_CATEGORIES UNIQUE (genre_id, category_id);
+ALTER TABLE genres_categories ADD CONSTRAINT FK_GENRES_CATEGORIES_GENRE_ID FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT FK_GENRES_CATEGORIES_CATEGORY_ID FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+
+ALTER TABLE videos ADD CONSTRAINT FK_VIDEOS_VIDEO_MEDIA_ID FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT FK_VIDEOS_TRAILER_MEDIA_ID FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT FK_VIDEOS_BANNER_MEDIA_ID FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT FK_VIDEOS_THUMBNAIL_MEDIA_ID FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT FK_VIDEOS_THUMBNAIL_HALF_MEDIA_ID FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_categories ADD CONSTRAINT UN_VIDEOS_CATEGORIES UNIQUE (video_id, category_id);
+CREATE INDEX IDX_VIDEOS_CATEGORIES_CATEGORY_ID_VIDEO_ID ON videos_categories (category_id, video_id);
+ALTER TABLE videos_categories ADD CONSTRAINT FK_VIDEOS_CATEGORIES_VIDEO_ID FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_categories ADD CONSTRAINT FK_VIDEOS_CATEGORIES_CATEGORY_ID FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_genres ADD CONSTRAINT UN_VIDEOS_GENRES UNIQUE (video_id, genre_id);
+CREATE INDEX IDX_VIDEOS_GENRES_GENRE_ID_VIDEO_ID ON videos_genres (genre_id, video_id);
+ALTER TABLE videos_genres ADD CONSTRAINT FK_VIDEOS_GENRES_VIDEO_ID FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_genres ADD CONSTRAINT FK_VIDEOS_GENRES_GENRE_ID FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_cast_members ADD CONSTRAINT UN_VIDEOS_CAST_MEMBERS UNIQUE (video_id, cast_member_id);
+CREATE INDEX IDX_VIDEOS_CAST_MEMBERS_CAST_MEMBER_ID_VIDEO_ID ON videos_cast_members (cast_member_id, video_id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT FK_VIDEOS_CAST_MEMBERS_VIDEO_ID FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_cast_members ADD CONSTRAINT FK_VIDEOS_CAST_MEMBERS_CAST_MEMBER_ID FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE;
@@ -0,0 +1,18 @@
+-- the read model of the video listing, written by the gateway along with videos and its relation tables
+-- the relation columns pack the hex ids as ',id,id,' so a single row answers a relation filter, ',' when there is none
+CREATE TABLE video_previews (
+    id BINARY(16) PRIMARY KEY NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    categories_id TEXT NOT NULL,
+    genres_id TEXT NOT NULL,
+    cast_members_id TEXT NOT NULL
+);
+
+CREATE INDEX IDX_VIDEO_PREVIEWS_TITLE ON video_previews (title);
+
+CREATE INDEX IDX_VIDEO_PREVIEWS_CREATED_AT ON video_previews (created_at);
+
+CREATE INDEX IDX_VIDEO_PREVIEWS_UPDATED_AT ON video_previews (updated_at);
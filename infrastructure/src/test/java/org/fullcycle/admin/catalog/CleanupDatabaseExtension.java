@@ -3,6 +3,9 @@ package org.fullcycle.admin.catalog;
 import org.fullcycle.admin.catalog.infrastructure.castmember.persistence.CastMemberRepository;
 import org.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.fullcycle.admin.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.fullcycle.admin.catalog.infrastructure.persistence.AggregateCache;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewRepository;
 import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -21,11 +24,17 @@ public class CleanupDatabaseExtension implements BeforeEachCallback {
         cleanup(
             List.of(
                 applicationContext.getBean(VideoRepository.class),
+                applicationContext.getBean(VideoPreviewRepository.class),
                 applicationContext.getBean(GenreRepository.class),
                 applicationContext.getBean(CategoryRepository.class),
-                applicationContext.getBean(CastMemberRepository.class)
+                applicationContext.getBean(CastMemberRepository.class),
+                applicationContext.getBean(OutboxEventRepository.class)
             )
         );
+
+        // the rows are deleted behind the gateways, so nothing evicts their cached aggregates,
+        // and the repository slices run without the cache at all
+        applicationContext.getBeanProvider(AggregateCache.class).ifAvailable(AggregateCache::clear);
     }
 
     private void cleanup(final Collection<CrudRepository<?, ?>> repositories) {
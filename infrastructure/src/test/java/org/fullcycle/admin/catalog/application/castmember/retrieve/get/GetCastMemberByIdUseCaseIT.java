@@ -72,7 +72,7 @@ class GetCastMemberByIdUseCaseIT {
         assertThat(castMemberRepository.count()).isZero();
         assertThat(actual.getMessage()).isEqualTo(expectedErrorMessage);
 
-        verify(castMemberGateway, times(1)).findById(expectedId);
+        verify(castMemberGateway, times(1)).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -88,7 +88,7 @@ class GetCastMemberByIdUseCaseIT {
         assertThat(castMemberRepository.count()).isOne();
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-            .when(castMemberGateway).findById(any());
+            .when(castMemberGateway).findReadOnlyById(any());
 
         final var command = GetCastMemberByIdCommand.with(expectedId.getValue());
 
@@ -98,7 +98,7 @@ class GetCastMemberByIdUseCaseIT {
         );
 
         assertThat(actual.getMessage()).isEqualTo(expectedErrorMessage);
-        verify(castMemberGateway, times(1)).findById(expectedId);
+        verify(castMemberGateway, times(1)).findReadOnlyById(expectedId);
     }
 
 }
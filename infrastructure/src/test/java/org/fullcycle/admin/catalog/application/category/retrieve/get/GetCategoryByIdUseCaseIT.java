@@ -55,7 +55,7 @@ class GetCategoryByIdUseCaseIT {
         assertEquals(category.getCreatedAt(), actual.createdAt());
         assertEquals(category.getUpdatedAt(), actual.updatedAt());
         assertEquals(category.getDeletedAt(), actual.deletedAt());
-        verify(categoryGateway, times(1)).findById(eq(expectedId));
+        verify(categoryGateway, times(1)).findReadOnlyById(eq(expectedId));
     }
 
     @Test
@@ -73,7 +73,7 @@ class GetCategoryByIdUseCaseIT {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -82,7 +82,7 @@ class GetCategoryByIdUseCaseIT {
         final var expectedErrorMessage = "Gateway unexpected error";
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-            .when(categoryGateway).findById(expectedId);
+            .when(categoryGateway).findReadOnlyById(expectedId);
 
         final var command = GetCategoryByIdCommand.with(expectedId.getValue());
 
@@ -92,7 +92,7 @@ class GetCategoryByIdUseCaseIT {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findReadOnlyById(expectedId);
     }
 
 }
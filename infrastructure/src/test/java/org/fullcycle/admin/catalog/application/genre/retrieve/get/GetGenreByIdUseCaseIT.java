@@ -60,7 +60,7 @@ class GetGenreByIdUseCaseIT {
         assertThat(actual.updatedAt()).isEqualTo(expected.getUpdatedAt());
         assertThat(actual.deletedAt()).isEqualTo(expected.getDeletedAt());
 
-        verify(genreGateway, atMostOnce()).findById(expectedId);
+        verify(genreGateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -81,7 +81,7 @@ class GetGenreByIdUseCaseIT {
         assertThat(actual.updatedAt()).isEqualTo(expected.getUpdatedAt());
         assertThat(actual.deletedAt()).isEqualTo(expected.getDeletedAt());
 
-        verify(genreGateway, atMostOnce()).findById(expectedId);
+        verify(genreGateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -97,7 +97,7 @@ class GetGenreByIdUseCaseIT {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(genreGateway, atMostOnce()).findById(expectedId);
+        verify(genreGateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
     @Test
@@ -106,7 +106,7 @@ class GetGenreByIdUseCaseIT {
         final var expectedId = expected.getId();
         final var expectedErrorMessage = "Gateway error";
 
-        doThrow(new IllegalStateException(expectedErrorMessage)).when(genreGateway).findById(any());
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(genreGateway).findReadOnlyById(any());
 
         final var command = GetGenreByIdCommand.with(expectedId.getValue());
         final var actual = assertThrows(
@@ -116,7 +116,7 @@ class GetGenreByIdUseCaseIT {
         );
 
         assertEquals(expectedErrorMessage, actual.getMessage());
-        verify(genreGateway, atMostOnce()).findById(expectedId);
+        verify(genreGateway, atMostOnce()).findReadOnlyById(expectedId);
     }
 
 }
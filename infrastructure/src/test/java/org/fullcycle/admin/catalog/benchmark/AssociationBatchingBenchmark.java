@@ -0,0 +1,126 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with ./gradlew :infrastructure:queryBenchmark [-Dbenchmark.saves=2000]
+class AssociationBatchingBenchmark extends MySQLBenchmark {
+
+    private static final int SAVES = Integer.getInteger("benchmark.saves", 2_000);
+
+    // 50 association rows per saved video
+    private static final int VIDEO_CATEGORIES = 20;
+    private static final int VIDEO_GENRES = 10;
+    private static final int VIDEO_CAST_MEMBERS = 20;
+
+    // runs on the latest schema, where the keys are BINARY(16)
+    private static final String INSERT_VIDEO = """
+        INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+        VALUES (UNHEX(?), ?, 'Benchmark video', 2024, FALSE, TRUE, 'L', 120.00, NOW(6), NOW(6))
+        """;
+
+    private static final List<String> INSERT_ASSOCIATIONS = List.of(
+        "INSERT INTO videos_categories (video_id, category_id) VALUES (UNHEX(?), UNHEX(?))",
+        "INSERT INTO videos_genres (video_id, genre_id) VALUES (UNHEX(?), UNHEX(?))",
+        "INSERT INTO videos_cast_members (video_id, cast_member_id) VALUES (UNHEX(?), UNHEX(?))"
+    );
+
+    @Test
+    void compareRowByRowWithBatchedAssociationInserts() throws SQLException {
+        migrate(null);
+        references();
+
+        final var rowByRow = measure("row by row", "", false);
+        final var batched = measure("jdbc batches", "", true);
+        final var rewritten = measure("jdbc batches + rewriteBatchedStatements", "rewriteBatchedStatements=true", true);
+
+        System.out.printf("batched speedup: %.1fx, rewritten speedup: %.1fx%n", (double) rowByRow / batched, (double) rowByRow / rewritten);
+    }
+
+    // each video is saved in its own transaction, as the gateway does
+    private static long measure(final String label, final String parameters, final boolean batched) throws SQLException {
+        execute("DELETE FROM videos_categories");
+        execute("DELETE FROM videos_genres");
+        execute("DELETE FROM videos_cast_members");
+        execute("DELETE FROM videos");
+
+        try (final var connection = connect(parameters)) {
+            connection.setAutoCommit(false);
+
+            final var startedAt = System.nanoTime();
+            for (int i = 1; i <= SAVES; i++) {
+                save(connection, "b" + "%031d".formatted(i), batched);
+                connection.commit();
+            }
+            final var elapsed = (System.nanoTime() - startedAt) / 1_000_000;
+
+            System.out.printf("%n=== %s, %d videos with %d associations each ===%n", label, SAVES, VIDEO_CATEGORIES + VIDEO_GENRES + VIDEO_CAST_MEMBERS);
+            System.out.printf("total: %d ms, per save: %d us%n", elapsed, elapsed * 1_000 / SAVES);
+
+            assertEquals((long) SAVES * VIDEO_CATEGORIES, count("SELECT COUNT(*) FROM videos_categories"));
+            assertEquals((long) SAVES * VIDEO_GENRES, count("SELECT COUNT(*) FROM videos_genres"));
+            assertEquals((long) SAVES * VIDEO_CAST_MEMBERS, count("SELECT COUNT(*) FROM videos_cast_members"));
+            return elapsed;
+        }
+    }
+
+    private static void save(final Connection connection, final String videoId, final boolean batched) throws SQLException {
+        try (final var statement = connection.prepareStatement(INSERT_VIDEO)) {
+            statement.setString(1, videoId);
+            statement.setString(2, "Video " + videoId);
+            statement.executeUpdate();
+        }
+
+        insert(connection, INSERT_ASSOCIATIONS.get(0), videoId, VIDEO_CATEGORIES, MySQLBenchmark::category, batched);
+        insert(connection, INSERT_ASSOCIATIONS.get(1), videoId, VIDEO_GENRES, MySQLBenchmark::genre, batched);
+        insert(connection, INSERT_ASSOCIATIONS.get(2), videoId, VIDEO_CAST_MEMBERS, MySQLBenchmark::castMember, batched);
+    }
+
+    private static void insert(
+        final Connection connection,
+        final String sql,
+        final String videoId,
+        final int size,
+        final IntFunction<String> id,
+        final boolean batched
+    ) throws SQLException {
+        try (final var statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= size; i++) {
+                statement.setString(1, videoId);
+                statement.setString(2, id.apply(i));
+                if (batched) {
+                    statement.addBatch();
+                } else {
+                    statement.executeUpdate();
+                }
+            }
+            if (batched) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static void references() throws SQLException {
+        execute("INSERT INTO categories (id, name, active, created_at, updated_at) VALUES " + values(VIDEO_CATEGORIES, i ->
+            "(UNHEX('%s'), 'Category %d', TRUE, NOW(6), NOW(6))".formatted(category(i), i)));
+        execute("INSERT INTO genres (id, name, active, created_at, updated_at) VALUES " + values(VIDEO_GENRES, i ->
+            "(UNHEX('%s'), 'Genre %d', TRUE, NOW(6), NOW(6))".formatted(genre(i), i)));
+        execute("INSERT INTO cast_members (id, name, type, created_at, updated_at) VALUES " + values(VIDEO_CAST_MEMBERS, i ->
+            "(UNHEX('%s'), 'Member %d', 'ACTOR', NOW(6), NOW(6))".formatted(castMember(i), i)));
+    }
+
+    private static String values(final int size, final IntFunction<String> row) {
+        return IntStream.rangeClosed(1, size)
+            .mapToObj(row)
+            .collect(Collectors.joining(", "));
+    }
+
+}
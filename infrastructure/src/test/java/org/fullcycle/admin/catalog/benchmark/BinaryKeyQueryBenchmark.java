@@ -0,0 +1,72 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryKeyQueryBenchmark extends MySQLBenchmark {
+
+    // the relation filters of VideoRepository#findAll, every semi-join probes the join tables by key
+    private static final String FROM = """
+        FROM videos v
+        WHERE EXISTS (SELECT 1 FROM videos_categories vc WHERE vc.video_id = v.id AND vc.category_id IN (%s))
+            AND EXISTS (SELECT 1 FROM videos_genres vg WHERE vg.video_id = v.id AND vg.genre_id IN (%s))
+            AND EXISTS (SELECT 1 FROM videos_cast_members vcm WHERE vcm.video_id = v.id AND vcm.cast_member_id IN (%s, %s))
+        """;
+
+    private static final String PAGE = "SELECT %s, v.title, v.description, v.created_at, v.updated_at %s ORDER BY v.id ASC LIMIT 25 OFFSET 100";
+
+    @Test
+    void compareCharWithBinaryKeys() throws SQLException {
+        migrate("8");
+        seed();
+
+        final var charFrom = from();
+        final var charPage = PAGE.formatted("v.id", charFrom);
+        final var charCount = "SELECT COUNT(*) " + charFrom;
+
+        sizes("CHAR(32) keys (V0008)");
+        report("CHAR(32) keys (V0008)", charPage, charCount);
+        final var charIds = ids(charPage);
+
+        final var startedAt = System.nanoTime();
+        migrate(null);
+        System.out.printf("%nV0009 converted every key in %d ms%n", (System.nanoTime() - startedAt) / 1_000_000);
+        analyze();
+
+        final var binaryFrom = from();
+        final var binaryPage = PAGE.formatted("LOWER(HEX(v.id))", binaryFrom);
+        final var binaryCount = "SELECT COUNT(*) " + binaryFrom;
+
+        sizes("BINARY(16) keys (V0009)");
+        report("BINARY(16) keys (V0009)", binaryPage, binaryCount);
+
+        assertEquals(charIds, ids(binaryPage));
+        assertEquals(count(charCount), count(binaryCount));
+    }
+
+    private static String from() throws SQLException {
+        return FROM.formatted(
+            key("'%s'".formatted(category(7))),
+            key("'%s'".formatted(genre(7))),
+            key("'%s'".formatted(castMember(7))),
+            key("'%s'".formatted(castMember(44)))
+        );
+    }
+
+    private static void sizes(final String label) throws SQLException {
+        execute("SET SESSION information_schema_stats_expiry = 0");
+        final var sizes = ids("""
+            SELECT CONCAT(TABLE_NAME, ': data ', ROUND(DATA_LENGTH / 1048576), ' MB, indexes ', ROUND(INDEX_LENGTH / 1048576), ' MB')
+            FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE 'videos%'
+            ORDER BY TABLE_NAME
+            """);
+
+        System.out.printf("%n=== %s table sizes ===%n", label);
+        sizes.forEach(System.out::println);
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.fullcycle.admin.catalog.infrastructure.export.CatalogExport;
+import org.fullcycle.admin.catalog.infrastructure.export.CatalogExporter;
+import org.fullcycle.admin.catalog.infrastructure.export.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with ./gradlew :infrastructure:exportBenchmark [-Dbenchmark.videos=1000000], the heap is capped far below the export size
+class CatalogExportBenchmark extends MySQLBenchmark {
+
+    @Test
+    void exportEverySeededVideoUnderASmallHeap() throws SQLException, IOException {
+        migrate(null);
+        seed();
+
+        final var dataSource = new SingleConnectionDataSource(connect(""), true);
+        try {
+            final var exporter = new CatalogExporter(new JdbcTemplate(dataSource));
+
+            for (final var format : ExportFormat.values()) {
+                final var output = new LineCountingOutputStream();
+
+                final var startedAt = System.nanoTime();
+                final var exported = exporter.export(CatalogExport.VIDEOS, format, output);
+                final var elapsed = (System.nanoTime() - startedAt) / 1_000_000;
+
+                System.out.printf("%n=== %s export of %d videos, max heap %d MB ===%n", format, VIDEOS, Runtime.getRuntime().maxMemory() >> 20);
+                System.out.printf("total: %d ms, written: %d MB%n", elapsed, output.bytes >> 20);
+
+                assertEquals(VIDEOS, exported);
+                assertEquals(format == ExportFormat.CSV ? VIDEOS + 1 : VIDEOS, output.lines);
+            }
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static final class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+        private long bytes;
+
+        @Override
+        public void write(final int b) {
+            this.bytes++;
+            if (b == '\n') {
+                this.lines++;
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            this.bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    this.lines++;
+                }
+            }
+        }
+
+    }
+
+}
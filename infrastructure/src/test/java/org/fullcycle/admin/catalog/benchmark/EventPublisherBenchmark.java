@@ -0,0 +1,151 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.fullcycle.admin.catalog.AmqpTest;
+import org.fullcycle.admin.catalog.domain.video.VideoMediaCreated;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
+import org.fullcycle.admin.catalog.infrastructure.services.impl.BatchingRabbitEventService;
+import org.fullcycle.admin.catalog.infrastructure.services.impl.RabbitEventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with ./gradlew :infrastructure:queryBenchmark [-Dbenchmark.events=20000 -Dbenchmark.relayBatch=100 -Dbenchmark.confirmLatencyMicros=200]
+@AmqpTest
+class EventPublisherBenchmark {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 20_000);
+    private static final int RELAY_BATCH = Integer.getInteger("benchmark.relayBatch", 100);
+    private static final long CONFIRM_LATENCY_MICROS = Long.getLong("benchmark.confirmLatencyMicros", 200);
+    private static final String QUEUE = "benchmark.events";
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    private ScheduledExecutorService broker;
+    private ConfirmingRabbitTemplate rabbitTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.broker = Executors.newScheduledThreadPool(2);
+        this.rabbitTemplate = new ConfirmingRabbitTemplate(this.connectionFactory, this.broker);
+        this.rabbitTemplate.setApplicationContext(this.applicationContext);
+        this.rabbitTemplate.onApplicationEvent(new ContextRefreshedEvent(this.applicationContext));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.broker.shutdownNow();
+    }
+
+    @Test
+    void measurePublishThroughput() {
+        System.out.printf(
+            "%n=== publishing %d events in relay batches of %d, broker confirms after %d us ===%n",
+            EVENTS,
+            RELAY_BATCH,
+            CONFIRM_LATENCY_MICROS
+        );
+
+        final var direct = new RabbitEventService("", QUEUE, this.rabbitTemplate);
+        final var unconfirmed = measure("direct send, no confirms", events -> events.forEach(direct::send));
+        final var confirmedOneByOne = measure("direct, confirm per event", events -> events.forEach(event -> direct.sendAll(List.of(event))));
+
+        final var properties = new PublisherProperties();
+        properties.setMode(PublisherProperties.Mode.BATCHING);
+        properties.setSendTimeout(Duration.ofSeconds(30));
+
+        final var batching = new BatchingRabbitEventService("", QUEUE, this.rabbitTemplate, properties);
+        final var batched = measure("batching, pipelined confirms", batching::sendAll);
+        batching.close();
+
+        assertEquals(0, batching.rejected());
+        assertEquals(EVENTS, batching.acked());
+        assertTrue(batched > confirmedOneByOne, "batching should outpace confirming every event on its own");
+        assertTrue(unconfirmed > 0);
+    }
+
+    // every call gets one relay batch and returns once it was published
+    private static double measure(final String name, final Consumer<List<VideoMediaCreated>> relay) {
+        BenchmarkListener.RECEIVED.set(0);
+
+        final var startedAt = System.nanoTime();
+        for (int from = 0; from < EVENTS; from += RELAY_BATCH) {
+            final var batch = new ArrayList<VideoMediaCreated>(RELAY_BATCH);
+            for (int i = from; i < Math.min(from + RELAY_BATCH, EVENTS); i++) {
+                batch.add(VideoMediaCreated.with("id-" + i, "videoId-%d/type-video".formatted(i)));
+            }
+            relay.accept(batch);
+        }
+        final var elapsed = System.nanoTime() - startedAt;
+
+        assertEquals(EVENTS, BenchmarkListener.RECEIVED.get());
+
+        final var throughput = EVENTS / (elapsed / 1e9);
+        System.out.printf("%-30s %8d ms %10.0f events/s%n", name, elapsed / 1_000_000, throughput);
+        return throughput;
+    }
+
+    // spring-rabbit-test routes straight to the listener but never confirms, the broker thread stands in for that
+    static class ConfirmingRabbitTemplate extends TestRabbitTemplate {
+
+        private final ScheduledExecutorService broker;
+
+        ConfirmingRabbitTemplate(final ConnectionFactory connectionFactory, final ScheduledExecutorService broker) {
+            super(connectionFactory);
+            this.broker = broker;
+        }
+
+        @Override
+        public void convertAndSend(
+            final String exchange,
+            final String routingKey,
+            final Object object,
+            final CorrelationData correlationData
+        ) {
+            super.convertAndSend(exchange, routingKey, object, correlationData);
+            this.broker.schedule(
+                () -> correlationData.getFuture().complete(new CorrelationData.Confirm(true, null)),
+                CONFIRM_LATENCY_MICROS,
+                TimeUnit.MICROSECONDS
+            );
+        }
+
+    }
+
+    @Component
+    static class BenchmarkListener {
+
+        static final AtomicLong RECEIVED = new AtomicLong();
+
+        @RabbitListener(id = QUEUE, queues = QUEUE)
+        public void onEvent(@Payload final String message) {
+            RECEIVED.incrementAndGet();
+        }
+
+    }
+
+}
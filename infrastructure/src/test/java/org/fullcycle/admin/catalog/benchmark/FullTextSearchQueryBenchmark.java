@@ -0,0 +1,50 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FullTextSearchQueryBenchmark extends MySQLBenchmark {
+
+    private static final String LIKE_FROM = "FROM videos v WHERE UPPER(v.title) LIKE '%WESTERN ODYSSEY%'";
+
+    private static final String MATCH = "MATCH(v.title, v.description) AGAINST('+western* +odyssey*' IN BOOLEAN MODE)";
+
+    private static final String MATCH_FROM = "FROM videos v WHERE " + MATCH + " > 0";
+
+    private static final String PAGE = "SELECT v.id, v.title, v.description, v.created_at, v.updated_at %s ORDER BY %s LIMIT 25 OFFSET 100";
+
+    @Test
+    void compareLikeScanWithFullTextIndex() throws SQLException {
+        migrate("5");
+        seed();
+
+        final var likePage = PAGE.formatted(LIKE_FROM, "v.title ASC, v.id ASC");
+        final var likeCount = "SELECT COUNT(*) " + LIKE_FROM;
+
+        final var likePlan = report("upper(title) like (V0005)", likePage, likeCount);
+
+        migrate("6");
+        analyze();
+
+        final var matchPage = PAGE.formatted(MATCH_FROM, "v.title ASC, v.id ASC");
+        final var matchCount = "SELECT COUNT(*) " + MATCH_FROM;
+
+        final var matchPlan = report("match against, title order (V0006)", matchPage, matchCount);
+
+        final var relevancePage = PAGE.formatted(MATCH_FROM, MATCH + " DESC, v.id ASC");
+        report("match against, relevance order (V0006)", relevancePage, matchCount);
+
+        assertTrue(likePlan.contains("Table scan on v"));
+        assertFalse(matchPlan.contains("Table scan on v"));
+        assertTrue(matchPlan.contains("Full-text index search"));
+
+        assertEquals(ids(likePage), ids(matchPage));
+        assertEquals(count(likeCount), count(matchCount));
+    }
+
+}
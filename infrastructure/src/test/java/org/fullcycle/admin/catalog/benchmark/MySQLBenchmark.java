@@ -0,0 +1,217 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// Run with ./gradlew :infrastructure:queryBenchmark [-Dbenchmark.videos=1000000]
+@Testcontainers
+abstract class MySQLBenchmark {
+
+    protected static final int VIDEOS = Integer.getInteger("benchmark.videos", 1_000_000);
+    protected static final int CATEGORIES = 50;
+    protected static final int GENRES = 30;
+    protected static final int CAST_MEMBERS = 200;
+
+    // every seeded id is hex so it survives the BINARY(16) keys migration, the first digit tells the aggregates apart
+    private static final String CATEGORY_PREFIX = "c";
+    private static final String GENRE_PREFIX = "a";
+    private static final String CAST_MEMBER_PREFIX = "d";
+    private static final String VIDEO_PREFIX = "f";
+
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+        .withDatabaseName("admin_catalog_videos")
+        .withUsername("root")
+        .withPassword("root");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setup() throws SQLException {
+        connection = connect("");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    protected static Connection connect(final String parameters) throws SQLException {
+        final var url = MYSQL_CONTAINER.getJdbcUrl();
+        return DriverManager.getConnection(
+            parameters.isEmpty() ? url : url + (url.contains("?") ? "&" : "?") + parameters,
+            MYSQL_CONTAINER.getUsername(),
+            MYSQL_CONTAINER.getPassword()
+        );
+    }
+
+    protected static void migrate(final String target) {
+        final var configuration = Flyway.configure()
+            .dataSource(MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword())
+            .locations("classpath:db/migration", "classpath:db/vendor/mysql")
+            .placeholders(Map.of("unhex", "UNHEX", "hex", "HEX"));
+
+        (target == null ? configuration : configuration.target(target)).load().migrate();
+    }
+
+    protected static void seed() throws SQLException {
+        execute("CREATE TABLE benchmark_seq (n INT PRIMARY KEY)");
+        execute("INSERT INTO benchmark_seq (n) VALUES (1)");
+        for (int size = 1; size < VIDEOS; size *= 2) {
+            execute("INSERT INTO benchmark_seq (n) SELECT n + %1$d FROM benchmark_seq WHERE n + %1$d <= %2$d".formatted(size, VIDEOS));
+        }
+
+        execute("""
+            INSERT INTO categories (id, name, active, created_at, updated_at)
+            SELECT %s, CONCAT('Category ', n), TRUE, NOW(6), NOW(6) FROM benchmark_seq WHERE n <= %d
+            """.formatted(seededKey(CATEGORY_PREFIX, "n"), CATEGORIES));
+        execute("""
+            INSERT INTO genres (id, name, active, created_at, updated_at)
+            SELECT %s, CONCAT('Genre ', n), TRUE, NOW(6), NOW(6) FROM benchmark_seq WHERE n <= %d
+            """.formatted(seededKey(GENRE_PREFIX, "n"), GENRES));
+        execute("""
+            INSERT INTO cast_members (id, name, type, created_at, updated_at)
+            SELECT %s, CONCAT('Member ', n), 'ACTOR', NOW(6), NOW(6) FROM benchmark_seq WHERE n <= %d
+            """.formatted(seededKey(CAST_MEMBER_PREFIX, "n"), CAST_MEMBERS));
+        execute("""
+            INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at)
+            SELECT
+                %s,
+                CONCAT_WS(' ',
+                    ELT(1 + n %% 12, 'Action', 'Drama', 'Comedy', 'Thriller', 'Horror', 'Romance', 'Mystery', 'Western', 'Fantasy', 'Musical', 'Animated', 'Biography'),
+                    ELT(1 + n %% 7, 'Chronicles', 'Legacy', 'Odyssey', 'Frontier', 'Requiem', 'Paradox', 'Horizon'),
+                    LPAD(n, 8, '0')
+                ),
+                'Seeded video', 2000 + n %% 24, FALSE, TRUE, 'L', 120.00, NOW(6), NOW(6)
+            FROM benchmark_seq
+            """.formatted(seededKey(VIDEO_PREFIX, "n")));
+
+        relate("videos_categories", "category_id", CATEGORY_PREFIX, CATEGORIES, 0, 17);
+        relate("videos_genres", "genre_id", GENRE_PREFIX, GENRES, 0, 11);
+        relate("videos_cast_members", "cast_member_id", CAST_MEMBER_PREFIX, CAST_MEMBERS, 0, 37, 101);
+
+        execute("DROP TABLE benchmark_seq");
+        analyze();
+    }
+
+    protected static void analyze() throws SQLException {
+        execute("ANALYZE TABLE videos, videos_categories, videos_genres, videos_cast_members");
+    }
+
+    protected static String report(final String label, final String page, final String count) throws SQLException {
+        final var pagePlan = plan(page);
+
+        System.out.printf("%n=== %s over %d videos ===%n", label, VIDEOS);
+        System.out.printf("page  plan:%n%s%n", pagePlan);
+        System.out.printf("count plan:%n%s%n", plan(count));
+        System.out.printf("page  median: %d ms%n", median(page));
+        System.out.printf("count median: %d ms%n", median(count));
+
+        return pagePlan;
+    }
+
+    protected static List<String> ids(final String sql) throws SQLException {
+        final var ids = new ArrayList<String>();
+        try (final var statement = connection.createStatement();
+             final var result = statement.executeQuery(sql)) {
+            while (result.next()) {
+                ids.add(result.getString(1));
+            }
+        }
+        return ids;
+    }
+
+    protected static long count(final String sql) throws SQLException {
+        try (final var statement = connection.createStatement();
+             final var result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    protected static void execute(final String sql) throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    protected static String category(final int index) {
+        return CATEGORY_PREFIX + "%031d".formatted(index);
+    }
+
+    protected static String genre(final int index) {
+        return GENRE_PREFIX + "%031d".formatted(index);
+    }
+
+    protected static String castMember(final int index) {
+        return CAST_MEMBER_PREFIX + "%031d".formatted(index);
+    }
+
+    protected static boolean binaryKeys() throws SQLException {
+        try (final var statement = connection.createStatement();
+             final var result = statement.executeQuery("""
+                 SELECT DATA_TYPE FROM information_schema.COLUMNS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'videos' AND COLUMN_NAME = 'id'
+                 """)) {
+            return result.next() && "binary".equalsIgnoreCase(result.getString(1));
+        }
+    }
+
+    // a hex id expression as the current schema stores it, CHAR(32) before V0009 and BINARY(16) after
+    protected static String key(final String expression) throws SQLException {
+        return binaryKeys() ? "UNHEX(" + expression + ")" : expression;
+    }
+
+    private static void relate(final String table, final String column, final String prefix, final int size, final int... shifts) throws SQLException {
+        for (final var shift : shifts) {
+            execute("""
+                INSERT INTO %s (video_id, %s)
+                SELECT %s, %s FROM benchmark_seq
+                """.formatted(table, column, seededKey(VIDEO_PREFIX, "n"), seededKey(prefix, "(n + %d) %% %d + 1".formatted(shift, size))));
+        }
+    }
+
+    private static String seededKey(final String prefix, final String sequence) throws SQLException {
+        return key("CONCAT('%s', LPAD(%s, 31, '0'))".formatted(prefix, sequence));
+    }
+
+    private static String plan(final String sql) throws SQLException {
+        try (final var statement = connection.createStatement();
+             final var result = statement.executeQuery("EXPLAIN FORMAT=TREE " + sql)) {
+            result.next();
+            return result.getString(1);
+        }
+    }
+
+    private static long median(final String sql) throws SQLException {
+        for (int i = 0; i < WARMUP; i++) {
+            ids(sql);
+        }
+
+        final var timings = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var startedAt = System.nanoTime();
+            ids(sql);
+            timings[i] = (System.nanoTime() - startedAt) / 1_000_000;
+        }
+
+        Arrays.sort(timings);
+        return timings[ITERATIONS / 2];
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.infrastructure.search.InMemorySuggestionIndex;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with ./gradlew :infrastructure:queryBenchmark [-Dbenchmark.suggestions=1000000]
+class SuggestionIndexBenchmark {
+
+    private static final int ENTRIES = Integer.getInteger("benchmark.suggestions", 1_000_000);
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final int LIMIT = 10;
+
+    private static final String[] SYLLABLES = {
+        "al", "be", "ca", "do", "er", "fi", "ga", "ho", "in", "ju", "ka", "lo", "ma", "ne", "or",
+        "pa", "qui", "ro", "sa", "te", "u", "vi", "xa", "yo", "ze", "star", "mon", "ter", "dra", "lux"
+    };
+
+    private static final List<String> QUERIES = List.of(
+        "s", "ma", "sta", "star", "dragon", "ka lo", "pater", "zeyo", "lux ca", "inju"
+    );
+
+    @Test
+    void measureFootprintAndLatency() {
+        final var random = new Random(42);
+        final var vocabulary = new String[5_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = word(random);
+        }
+
+        final var heapBefore = usedHeap();
+        final var startedAt = System.nanoTime();
+
+        final var index = new InMemorySuggestionIndex();
+        final var types = SuggestionType.values();
+        for (int i = 0; i < ENTRIES; i++) {
+            index.load(Suggestion.with(
+                "%032x".formatted(i),
+                name(random, vocabulary),
+                types[i % types.length]
+            ));
+        }
+
+        final var buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        final var footprint = usedHeap() - heapBefore;
+
+        System.out.printf("%n=== in-memory suggestion index over %d entries ===%n", ENTRIES);
+        System.out.printf("build: %d ms, retained heap: %d MB (%d bytes/entry)%n", buildMillis, footprint >> 20, footprint / ENTRIES);
+
+        for (int i = 0; i < WARMUP; i++) {
+            index.suggest(QUERIES.get(i % QUERIES.size()), LIMIT);
+        }
+
+        final var timings = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var query = QUERIES.get(i % QUERIES.size());
+            final var queryStartedAt = System.nanoTime();
+            index.suggest(query, LIMIT);
+            timings[i] = System.nanoTime() - queryStartedAt;
+        }
+
+        Arrays.sort(timings);
+        final var median = timings[ITERATIONS / 2];
+        System.out.printf("query p50: %d us, p99: %d us, max: %d us%n", median / 1_000, timings[ITERATIONS * 99 / 100] / 1_000, timings[ITERATIONS - 1] / 1_000);
+
+        for (final var query : QUERIES) {
+            System.out.printf("  %-8s -> %d suggestions%n", query, index.suggest(query, LIMIT).size());
+        }
+
+        assertEquals(ENTRIES, index.size());
+        assertTrue(median < 1_000_000, "median query latency should stay under a millisecond");
+    }
+
+    private static String word(final Random random) {
+        final var word = new StringBuilder();
+        final var syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String name(final Random random, final String[] vocabulary) {
+        final var name = new StringBuilder();
+        final var words = 1 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            final var word = vocabulary[random.nextInt(vocabulary.length)];
+            if (i > 0) {
+                name.append(' ');
+            }
+            name.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return name.toString();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+}
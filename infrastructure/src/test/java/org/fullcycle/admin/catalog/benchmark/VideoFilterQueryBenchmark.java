@@ -0,0 +1,51 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VideoFilterQueryBenchmark extends MySQLBenchmark {
+
+    private static final String JOINED_FROM = """
+        FROM videos v
+            LEFT JOIN videos_categories vc ON vc.video_id = v.id
+            LEFT JOIN videos_genres vg ON vg.video_id = v.id
+            LEFT JOIN videos_cast_members vcm ON vcm.video_id = v.id
+        WHERE vc.category_id IN ('%s') AND vg.genre_id IN ('%s') AND vcm.cast_member_id IN ('%s', '%s')
+        """.formatted(category(7), genre(7), castMember(7), castMember(44));
+
+    private static final String EXISTS_FROM = """
+        FROM videos v
+        WHERE EXISTS (SELECT 1 FROM videos_categories vc WHERE vc.video_id = v.id AND vc.category_id IN ('%s'))
+            AND EXISTS (SELECT 1 FROM videos_genres vg WHERE vg.video_id = v.id AND vg.genre_id IN ('%s'))
+            AND EXISTS (SELECT 1 FROM videos_cast_members vcm WHERE vcm.video_id = v.id AND vcm.cast_member_id IN ('%s', '%s'))
+        """.formatted(category(7), genre(7), castMember(7), castMember(44));
+
+    private static final String PAGE = "SELECT %s v.id, v.title, v.description, v.created_at, v.updated_at %s ORDER BY v.title ASC LIMIT 25 OFFSET 100";
+
+    @Test
+    void compareDistinctJoinsWithExistsSemiJoins() throws SQLException {
+        migrate("4");
+        seed();
+
+        final var joinedPage = PAGE.formatted("DISTINCT", JOINED_FROM);
+        final var joinedCount = "SELECT COUNT(DISTINCT v.id) " + JOINED_FROM;
+        final var joinedIds = ids(joinedPage);
+
+        report("left joins + distinct (V0004)", joinedPage, joinedCount);
+
+        migrate("5");
+        analyze();
+
+        final var existsPage = PAGE.formatted("", EXISTS_FROM);
+        final var existsCount = "SELECT COUNT(*) " + EXISTS_FROM;
+
+        report("exists semi-joins (V0005)", existsPage, existsCount);
+
+        assertEquals(joinedIds, ids(existsPage));
+        assertEquals(count(joinedCount), count(existsCount));
+    }
+
+}
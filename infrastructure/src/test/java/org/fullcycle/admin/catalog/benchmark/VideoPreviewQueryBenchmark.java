@@ -0,0 +1,61 @@
+package org.fullcycle.admin.catalog.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VideoPreviewQueryBenchmark extends MySQLBenchmark {
+
+    // the relation filters of VideoRepository#findAll, every semi-join probes the join tables by key
+    private static final String TABLES_FROM = """
+        FROM videos v
+        WHERE EXISTS (SELECT 1 FROM videos_categories vc WHERE vc.video_id = v.id AND vc.category_id IN (UNHEX('%s')))
+            AND EXISTS (SELECT 1 FROM videos_genres vg WHERE vg.video_id = v.id AND vg.genre_id IN (UNHEX('%s')))
+            AND EXISTS (SELECT 1 FROM videos_cast_members vcm WHERE vcm.video_id = v.id AND vcm.cast_member_id IN (UNHEX('%s'), UNHEX('%s')))
+        """.formatted(category(7), genre(7), castMember(7), castMember(44));
+
+    // the same filters on the packed ids of the read model, as VideoPreviewSpecifications builds them
+    private static final String PREVIEWS_FROM = """
+        FROM video_previews v
+        WHERE v.categories_id LIKE '%%,%s,%%'
+            AND v.genres_id LIKE '%%,%s,%%'
+            AND (v.cast_members_id LIKE '%%,%s,%%' OR v.cast_members_id LIKE '%%,%s,%%')
+        """.formatted(category(7), genre(7), castMember(7), castMember(44));
+
+    private static final String PAGE = "SELECT LOWER(HEX(v.id)), v.title, v.description, v.created_at, v.updated_at %s ORDER BY v.title ASC LIMIT 25 OFFSET 100";
+
+    @Test
+    void compareRelationTablesWithThePreviewsReadModel() throws SQLException {
+        migrate("10");
+        seed();
+
+        final var tablesPage = PAGE.formatted(TABLES_FROM);
+        final var tablesCount = "SELECT COUNT(*) " + TABLES_FROM;
+        final var unfilteredTablesPage = PAGE.formatted("FROM videos v");
+
+        report("filtered, videos + relation tables (V0010)", tablesPage, tablesCount);
+        report("unfiltered, videos (V0010)", unfilteredTablesPage, "SELECT COUNT(*) FROM videos v");
+        final var tablesIds = ids(tablesPage);
+
+        // V0012 fills the previews of the seeded videos
+        final var startedAt = System.nanoTime();
+        migrate(null);
+        System.out.printf("%nV0011 and V0012 built the previews in %d ms%n", (System.nanoTime() - startedAt) / 1_000_000);
+        analyze();
+        execute("ANALYZE TABLE video_previews");
+
+        final var previewsPage = PAGE.formatted(PREVIEWS_FROM);
+        final var previewsCount = "SELECT COUNT(*) " + PREVIEWS_FROM;
+        final var unfilteredPreviewsPage = PAGE.formatted("FROM video_previews v");
+
+        report("filtered, video_previews (V0011)", previewsPage, previewsCount);
+        report("unfiltered, video_previews (V0011)", unfilteredPreviewsPage, "SELECT COUNT(*) FROM video_previews v");
+
+        assertEquals(tablesIds, ids(previewsPage));
+        assertEquals(count(tablesCount), count(previewsCount));
+        assertEquals(ids(unfilteredTablesPage), ids(unfilteredPreviewsPage));
+    }
+
+}
@@ -151,6 +151,29 @@ class CategoryE2ETest extends CategoryMockMvcDsl {
         assertEquals(3, categoryRepository.count());
     }
 
+    @Test
+    void asACatalogAdminIShouldBeAbleToFullTextSearchCategoriesByRelevance() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+
+        assertEquals(0, categoryRepository.count());
+
+        givenACategory("Animes", "Filmes animados", true);
+        givenACategory("Documentários", null, true);
+        givenACategory("Séries", "Filmes, filmes e mais filmes", true);
+
+        listCategories(0, 10, "filmes", "relevance", "asc")
+            .andExpect(jsonPath("$.total", equalTo(2)))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].name", equalTo("Séries")))
+            .andExpect(jsonPath("$.items[1].name", equalTo("Animes")));
+
+        listCategories(0, 10, "anima", "name", "asc")
+            .andExpect(jsonPath("$.total", equalTo(1)))
+            .andExpect(jsonPath("$.items[0].name", equalTo("Animes")));
+
+        assertEquals(3, categoryRepository.count());
+    }
+
     @Test
     void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
         assertTrue(MYSQL_CONTAINER.isRunning());
@@ -0,0 +1,145 @@
+package org.fullcycle.admin.catalog.infrastructure.amqp;
+
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusCommand;
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusesOutput;
+import org.fullcycle.admin.catalog.application.video.media.update.UpdateMediaStatusesUseCase;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.MediaStatus;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.ListenerProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MediaStatusBatcherTest {
+
+    @Test
+    void givenAFullBatch_whenAdds_shouldApplyItBeforeTheWindowInArrivalOrder() throws InterruptedException {
+        final var useCase = Mockito.mock(UpdateMediaStatusesUseCase.class);
+        final var batches = Collections.synchronizedList(new ArrayList<List<UpdateMediaStatusCommand>>());
+        final var acked = new CountDownLatch(10);
+
+        willAnswer(invocation -> {
+            final List<UpdateMediaStatusCommand> commands = invocation.getArgument(0);
+            batches.add(commands);
+            return UpdateMediaStatusesOutput.with(commands.size(), List.of());
+        }).given(useCase).execute(anyList());
+
+        try (final var subject = new MediaStatusBatcher(useCase, properties(5, Duration.ofHours(1)))) {
+            for (int i = 0; i < 10; i++) {
+                subject.add(command(i), acked::countDown, () -> fail("should not be rejected"), () -> fail("should not be dead-lettered"));
+            }
+
+            assertTrue(acked.await(1, TimeUnit.SECONDS), "every result should be acked");
+            assertEquals(10, subject.applied());
+        }
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of("0", "1", "2", "3", "4"), filenames(batches.get(0)));
+        assertEquals(List.of("5", "6", "7", "8", "9"), filenames(batches.get(1)));
+    }
+
+    @Test
+    void givenAPartialBatch_whenTheWindowElapses_shouldApplyIt() {
+        final var useCase = Mockito.mock(UpdateMediaStatusesUseCase.class);
+        willAnswer(invocation -> UpdateMediaStatusesOutput.with(3, List.of())).given(useCase).execute(anyList());
+
+        try (final var subject = new MediaStatusBatcher(useCase, properties(100, Duration.ofMillis(20)))) {
+            for (int i = 0; i < 3; i++) {
+                subject.add(command(i), () -> { }, () -> fail("should not be rejected"), () -> fail("should not be dead-lettered"));
+            }
+
+            verify(useCase, timeout(1_000).times(1)).execute(anyList());
+        }
+    }
+
+    @Test
+    void givenAFailingDatabase_whenApplies_shouldRequeueEveryResultOfTheBatch() throws InterruptedException {
+        final var useCase = Mockito.mock(UpdateMediaStatusesUseCase.class);
+        willThrow(new IllegalStateException("database is down")).given(useCase).execute(anyList());
+
+        final var rejected = new CountDownLatch(3);
+
+        try (final var subject = new MediaStatusBatcher(useCase, properties(3, Duration.ofHours(1)))) {
+            for (int i = 0; i < 3; i++) {
+                subject.add(command(i), () -> fail("should not be acked"), rejected::countDown, () -> fail("should not be dead-lettered"));
+            }
+
+            assertTrue(rejected.await(1, TimeUnit.SECONDS), "every result should be rejected");
+            assertEquals(3, subject.failed());
+            assertEquals(0, subject.applied());
+        }
+    }
+
+    @Test
+    void givenAPoisonResultInABatch_whenApplies_shouldApplyTheOthersAndDeadLetterIt() throws InterruptedException {
+        final var useCase = Mockito.mock(UpdateMediaStatusesUseCase.class);
+        willAnswer(invocation -> {
+            final List<UpdateMediaStatusCommand> commands = invocation.getArgument(0);
+            if (filenames(commands).contains("1")) {
+                throw DomainException.with(new Error("'filename' is invalid"));
+            }
+            return UpdateMediaStatusesOutput.with(commands.size(), List.of());
+        }).given(useCase).execute(anyList());
+
+        final var acked = new CountDownLatch(2);
+        final var deadLettered = new CountDownLatch(1);
+
+        try (final var subject = new MediaStatusBatcher(useCase, properties(3, Duration.ofHours(1)))) {
+            subject.add(command(0), acked::countDown, () -> fail("should not be requeued"), () -> fail("should not be dead-lettered"));
+            subject.add(command(1), () -> fail("should not be acked"), () -> fail("should not be requeued"), deadLettered::countDown);
+            subject.add(command(2), acked::countDown, () -> fail("should not be requeued"), () -> fail("should not be dead-lettered"));
+
+            assertTrue(acked.await(1, TimeUnit.SECONDS), "the other results should be acked");
+            assertTrue(deadLettered.await(1, TimeUnit.SECONDS), "the poison result should be dead-lettered");
+            assertEquals(2, subject.applied());
+            assertEquals(1, subject.deadLettered());
+            assertEquals(0, subject.failed());
+        }
+
+        verify(useCase, times(4)).execute(anyList());
+    }
+
+    @Test
+    void givenABatchLargerThanThePrefetch_whenCreates_shouldFail() {
+        final var useCase = Mockito.mock(UpdateMediaStatusesUseCase.class);
+        final var properties = properties(500, Duration.ofMillis(20));
+
+        assertThrows(IllegalArgumentException.class, () -> new MediaStatusBatcher(useCase, properties));
+    }
+
+    private static UpdateMediaStatusCommand command(final int sequence) {
+        return UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, "video", "resource", "folder", String.valueOf(sequence));
+    }
+
+    private static List<String> filenames(final List<UpdateMediaStatusCommand> commands) {
+        return commands.stream().map(UpdateMediaStatusCommand::filename).toList();
+    }
+
+    private static ListenerProperties properties(final int batchSize, final Duration batchWindow) {
+        final var properties = new ListenerProperties();
+        properties.setMode(ListenerProperties.Mode.BATCHING);
+        properties.setPrefetch(250);
+        properties.setBatchSize(batchSize);
+        properties.setBatchWindow(batchWindow);
+        return properties;
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.fullcycle.admin.catalog.infrastructure.amqp;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedExecutorTest {
+
+    @Test
+    void givenTasksOfTwoKeys_whenCallsPartitionStats_shouldAccountThemOnTheirOwnPartition() {
+        final var registry = new SimpleMeterRegistry();
+        final var executor = new PartitionedExecutor("test", 2);
+        executor.bindTo(registry);
+
+        // "a" and "b" hash to the odd and the even partition
+        for (int i = 0; i < 3; i++) {
+            executor.execute("a", () -> sleep(5));
+        }
+        executor.execute("b", () -> { });
+        executor.close();
+
+        final var actualPartitions = executor.partitionStats();
+
+        assertEquals(2, actualPartitions.size());
+        assertEquals(1, actualPartitions.get(0).completed());
+        assertEquals(3, actualPartitions.get(1).completed());
+        assertTrue(actualPartitions.get(1).averageProcessingTime().toMillis() >= 5);
+        assertEquals(4, executor.stats().completed());
+        assertEquals(0, executor.stats().backlog());
+
+        final var actualTimer = registry.get("partitioned.executor.processing")
+            .tag("executor", "test")
+            .tag("partition", "1")
+            .functionTimer();
+
+        assertEquals(3.0, actualTimer.count());
+        assertTrue(actualTimer.totalTime(TimeUnit.MILLISECONDS) >= 15);
+        assertEquals(0.0, registry.get("partitioned.executor.backlog").tag("partition", "0").gauge().value());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
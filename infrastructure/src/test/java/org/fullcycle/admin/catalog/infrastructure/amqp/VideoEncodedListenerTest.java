@@ -19,11 +19,23 @@ import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 @AmqpTest
@@ -42,13 +54,15 @@ class VideoEncodedListenerTest {
     @MockBean
     private UpdateMediaStatusUseCase updateMediaStatusUseCase;
 
+    private final AtomicLong deliveryTags = new AtomicLong();
+
     @Test
     void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
         final var videoEncoderErrorMessage = new VideoMessage("123", "video.mp4");
         final var expectedVideoEncoderError = new VideoEncoderError(videoEncoderErrorMessage, "Video not found");
         final var expectedEventMessage = Json.writeValueAsString(expectedVideoEncoderError);
 
-        this.rabbitTemplate.convertAndSend(this.queueProperties.getQueue(), expectedEventMessage);
+        send(expectedEventMessage);
 
         final var actual = this.harness.getNextInvocationDataFor(VideoEncodedListener.VIDEO_ENCODED_LISTENER_ID, 1, TimeUnit.SECONDS);
 
@@ -73,7 +87,7 @@ class VideoEncodedListenerTest {
         doNothing()
             .when(this.updateMediaStatusUseCase).execute(any(UpdateMediaStatusCommand.class));
 
-        this.rabbitTemplate.convertAndSend(this.queueProperties.getQueue(), expectedEventMessage);
+        send(expectedEventMessage);
 
         final var actual = this.harness.getNextInvocationDataFor(VideoEncodedListener.VIDEO_ENCODED_LISTENER_ID, 1, TimeUnit.SECONDS);
 
@@ -83,7 +97,7 @@ class VideoEncodedListenerTest {
             .isEqualTo(expectedEventMessage);
 
         final ArgumentCaptor<UpdateMediaStatusCommand> updateMediaStatusCommandArgumentCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
-        verify(this.updateMediaStatusUseCase).execute(updateMediaStatusCommandArgumentCaptor.capture());
+        verify(this.updateMediaStatusUseCase, timeout(1_000)).execute(updateMediaStatusCommandArgumentCaptor.capture());
 
         final var actualCommand = updateMediaStatusCommandArgumentCaptor.getValue();
         assertThat(actualCommand)
@@ -95,4 +109,60 @@ class VideoEncodedListenerTest {
             .hasFieldOrPropertyWithValue("filename", expectedFilePath);
     }
 
+    @Test
+    void givenAFloodOfResults_whenCallsListener_shouldApplyTheResultsOfEachVideoInOrder() throws InterruptedException {
+        final var videos = 20;
+        final var resultsPerVideo = 50;
+        final var applied = new ConcurrentHashMap<String, List<Integer>>();
+        final var workers = ConcurrentHashMap.<String>newKeySet();
+        final var done = new CountDownLatch(videos * resultsPerVideo);
+
+        willAnswer(invocation -> {
+            final UpdateMediaStatusCommand command = invocation.getArgument(0);
+            workers.add(Thread.currentThread().getName());
+            // uneven work per result, so partitions drift apart
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(100_000));
+            applied.computeIfAbsent(command.videoId(), it -> Collections.synchronizedList(new ArrayList<>()))
+                .add(Integer.parseInt(command.filename()));
+            done.countDown();
+            return null;
+        }).given(this.updateMediaStatusUseCase).execute(any(UpdateMediaStatusCommand.class));
+
+        final var videoIds = new ArrayList<String>();
+        for (int i = 0; i < videos; i++) {
+            videoIds.add(IdentifierUtils.unique());
+        }
+
+        for (int sequence = 0; sequence < resultsPerVideo; sequence++) {
+            for (final var videoId : videoIds) {
+                final var metadata = new VideoMetadata("encoder-video-folder", IdentifierUtils.unique(), String.valueOf(sequence));
+                final var message = Json.writeValueAsString(new VideoEncoderCompleted(videoId, "output-bucket-path", metadata));
+                send(message);
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), "every result should be applied");
+        assertThat(workers).hasSizeGreaterThan(1);
+        assertThat(applied).hasSize(videos);
+        for (final Map.Entry<String, List<Integer>> entry : applied.entrySet()) {
+            assertThat(entry.getValue())
+                .as("results of video %s", entry.getKey())
+                .isSorted()
+                .hasSize(resultsPerVideo);
+        }
+
+        // the harness captured the whole flood, the other tests expect their own invocation next
+        while (this.harness.getNextInvocationDataFor(VideoEncodedListener.VIDEO_ENCODED_LISTENER_ID, 10, TimeUnit.MILLISECONDS) != null) {
+            // drain
+        }
+    }
+
+    // the test template invokes the listener directly, so the tag the broker would assign is set here
+    private void send(final String message) {
+        this.rabbitTemplate.convertAndSend(this.queueProperties.getQueue(), message, it -> {
+            it.getMessageProperties().setDeliveryTag(this.deliveryTags.incrementAndGet());
+            return it;
+        });
+    }
+
 }
@@ -24,10 +24,12 @@ import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -145,6 +147,30 @@ class GenreAPITest {
             ));
     }
 
+    @Test
+    void givenACategoryDeletedMeanwhile_whenCallsCreateGenre_thenShouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "Some referenced categories, genres or cast members could not be found";
+
+        final var input = new CreateGenreRequest("Action", List.of(CategoryID.unique().getValue()), true);
+
+        when(createGenreUseCase.execute(any()))
+            .thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("Referential integrity constraint violation", "23506", 23506)
+            ));
+
+        final var request = post("/genres")
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(this.objectMapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors", hasSize(1)))
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     void givenAValidId_whenCallGetGenreById_thenReturnGenreId() throws Exception {
         final var expectedName = "Movies";
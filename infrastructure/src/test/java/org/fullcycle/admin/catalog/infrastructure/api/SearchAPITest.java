@@ -0,0 +1,85 @@
+package org.fullcycle.admin.catalog.infrastructure.api;
+
+import org.fullcycle.admin.catalog.ApiTest;
+import org.fullcycle.admin.catalog.application.search.suggest.SuggestOutput;
+import org.fullcycle.admin.catalog.application.search.suggest.SuggestUseCase;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ApiTest(controllers = SearchAPI.class)
+class SearchAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private SuggestUseCase suggestUseCase;
+
+    @Test
+    void givenValidParams_whenCallsSuggest_shouldReturnSuggestions() throws Exception {
+        final var expectedTerms = "star";
+        final var expectedLimit = 5;
+
+        when(suggestUseCase.execute(any()))
+            .thenReturn(List.of(new SuggestOutput("123", "Star Wars", SuggestionType.VIDEO)));
+
+        final var request = get("/search/suggest")
+            .queryParam("search", expectedTerms)
+            .queryParam("limit", String.valueOf(expectedLimit))
+            .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", equalTo("123")))
+            .andExpect(jsonPath("$[0].name", equalTo("Star Wars")))
+            .andExpect(jsonPath("$[0].type", equalTo("VIDEO")));
+
+        verify(suggestUseCase, times(1))
+            .execute(argThat(cmd ->
+                Objects.equals(expectedTerms, cmd.terms())
+                && Objects.equals(expectedLimit, cmd.limit())
+            ));
+    }
+
+    @Test
+    void givenAnInvalidLimit_whenCallsSuggest_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'limit' must be between 1 and 50";
+
+        when(suggestUseCase.execute(any()))
+            .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var request = get("/search/suggest")
+            .queryParam("search", "star")
+            .queryParam("limit", "100")
+            .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+}
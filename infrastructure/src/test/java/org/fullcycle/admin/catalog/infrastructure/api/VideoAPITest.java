@@ -0,0 +1,292 @@
+package org.fullcycle.admin.catalog.infrastructure.api;
+
+import org.fullcycle.admin.catalog.ApiTest;
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoUseCase;
+import org.fullcycle.admin.catalog.application.video.ingest.IngestVideoOutput;
+import org.fullcycle.admin.catalog.application.video.ingest.IngestVideosUseCase;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosOutput;
+import org.fullcycle.admin.catalog.application.video.retrieve.list.ListVideosUseCase;
+import org.fullcycle.admin.catalog.application.video.media.get.GetMediaOutput;
+import org.fullcycle.admin.catalog.application.video.media.get.GetMediaUseCase;
+import org.fullcycle.admin.catalog.application.video.media.upload.UploadMediaOutput;
+import org.fullcycle.admin.catalog.application.video.media.upload.UploadMediaUseCase;
+import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.exception.NotFoundException;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
+import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import org.fullcycle.admin.catalog.domain.validation.Error;
+import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.fullcycle.admin.catalog.domain.video.VideoPreview;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.fullcycle.admin.catalog.domain.video.MediaType.TRAILER;
+import static org.fullcycle.admin.catalog.domain.video.MediaType.VIDEO;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ApiTest(controllers = VideoAPI.class)
+class VideoAPITest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ListVideosUseCase listVideosUseCase;
+
+    @MockBean
+    private CreateVideoUseCase createVideoUseCase;
+
+    @MockBean
+    private IngestVideosUseCase ingestVideosUseCase;
+
+    @MockBean
+    private GetMediaUseCase getMediaUseCase;
+
+    @MockBean
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @Test
+    void givenACursor_whenCallsListVideos_thenReturnKeysetPage() throws Exception {
+        final var video = Fixtures.VideoFixture.video();
+        final var expectedCursor = "cursor-token";
+        final var expectedNextCursor = "next-cursor-token";
+
+        when(listVideosUseCase.execute(any()))
+            .thenReturn(Pagination.keyset(1, List.of(ListVideosOutput.from(VideoPreview.from(video))), expectedNextCursor));
+
+        final var request = get("/videos")
+            .queryParam("perPage", "1")
+            .queryParam("cursor", expectedCursor)
+            .queryParam("genres_ids", "g1");
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.per_page", equalTo(1)))
+            .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+            .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+            .andExpect(jsonPath("$.items[0].id", equalTo(video.getId().getValue())))
+            .andExpect(jsonPath("$.items[0].title", equalTo(video.getTitle())));
+
+        verify(listVideosUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedCursor, cmd.cursor())
+            && cmd.perPage() == 1
+            && Objects.equals(Set.of("g1"), cmd.genres())
+        ));
+    }
+
+    @Test
+    void givenANdjsonStream_whenCallsIngestVideos_thenStreamAReportLinePerInputLine() throws Exception {
+        final var video = Fixtures.VideoFixture.video();
+        final var expectedError = "'title' should not be null";
+
+        when(ingestVideosUseCase.execute(any()))
+            .thenReturn(List.of(
+                IngestVideoOutput.created(video),
+                IngestVideoOutput.rejected(List.of(new Error(expectedError)))
+            ));
+
+        final var body = """
+            {"title": "A video", "year_launched": 2024, "duration": 120.0, "opened": true, "published": false, "rating": "L", "categories_id": ["c1"]}
+            not a json line
+
+            {"description": "Without a title"}
+            """;
+
+        final var request = post("/videos/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .content(body);
+
+        final var result = this.mvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(
+                """
+                {"line":1,"status":"created","id":"%s","errors":[]}
+                {"line":2,"status":"rejected","id":null,"errors":["Malformed JSON line"]}
+                {"line":4,"status":"rejected","id":null,"errors":["%s"]}
+                """.formatted(video.getId().getValue(), expectedError)
+            ));
+
+        verify(ingestVideosUseCase, times(1)).execute(argThat(commands ->
+            commands.size() == 2
+            && Objects.equals("A video", commands.get(0).title())
+            && Objects.equals(Set.of("c1"), commands.get(0).categories())
+            && Objects.isNull(commands.get(1).title())
+        ));
+    }
+
+    @Test
+    void givenANdjsonLineOverTheLimit_whenCallsIngestVideos_thenRejectItWithoutParsing() throws Exception {
+        final var body = "{\"title\": \"%s\"}\n".formatted("a".repeat(64 * 1024));
+
+        final var request = post("/videos/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .content(body);
+
+        final var result = this.mvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string(
+                """
+                {"line":1,"status":"rejected","id":null,"errors":["Line exceeds 65536 characters"]}
+                """
+            ));
+
+        verify(ingestVideosUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    void givenAValidMedia_whenCallsGetMediaWithoutRange_thenReturnWholeContent() throws Exception {
+        final var expectedId = VideoID.unique().getValue();
+
+        when(getMediaUseCase.execute(any()))
+            .thenReturn(media());
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId, VIDEO.name());
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "video/mp4"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+            .andExpect(content().bytes(CONTENT));
+
+        verify(getMediaUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedId, cmd.videoId())
+            && Objects.equals(VIDEO.name(), cmd.mediaType())
+        ));
+    }
+
+    @Test
+    void givenAValidRange_whenCallsGetMedia_thenReturnPartialContent() throws Exception {
+        final var expectedId = VideoID.unique().getValue();
+
+        when(getMediaUseCase.execute(any()))
+            .thenReturn(media());
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId, VIDEO.name())
+            .header(HttpHeaders.RANGE, "bytes=2-5");
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+            .andExpect(content().bytes("2345".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void givenASuffixRange_whenCallsGetMedia_thenReturnTheLastBytes() throws Exception {
+        when(getMediaUseCase.execute(any()))
+            .thenReturn(media());
+
+        final var request = get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), VIDEO.name())
+            .header(HttpHeaders.RANGE, "bytes=-3");
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+            .andExpect(content().bytes("789".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void givenAnUnsatisfiableRange_whenCallsGetMedia_thenReturn416() throws Exception {
+        when(getMediaUseCase.execute(any()))
+            .thenReturn(media());
+
+        final var request = get("/videos/{id}/medias/{type}", VideoID.unique().getValue(), VIDEO.name())
+            .header(HttpHeaders.RANGE, "bytes=20-30");
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void givenAnUnknownMedia_whenCallsGetMedia_thenReturnNotFound() throws Exception {
+        final var expectedErrorMessage = "Resource VIDEO not found for video 123";
+
+        when(getMediaUseCase.execute(any()))
+            .thenThrow(NotFoundException.with(new Error(expectedErrorMessage)));
+
+        final var request = get("/videos/{id}/medias/{type}", "123", VIDEO.name());
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenAValidMediaFile_whenCallsUploadMedia_thenStreamItToTheUseCase() throws Exception {
+        final var expectedId = VideoID.unique().getValue();
+        final var file = new MockMultipartFile("media_file", "trailer.mp4", "video/mp4", CONTENT);
+
+        when(uploadMediaUseCase.execute(any()))
+            .thenReturn(new UploadMediaOutput(expectedId, TRAILER));
+
+        final var request = multipart("/videos/{id}/medias/{type}", expectedId, TRAILER.name())
+            .file(file);
+
+        this.mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.LOCATION, "/videos/%s/medias/%s".formatted(expectedId, TRAILER.name())))
+            .andExpect(jsonPath("$.video_id", equalTo(expectedId)))
+            .andExpect(jsonPath("$.media_type", equalTo(TRAILER.name())));
+
+        verify(uploadMediaUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedId, cmd.videoId())
+            && Objects.equals(TRAILER, cmd.videoResource().type())
+            && Objects.equals("trailer.mp4", cmd.videoResource().resource().name())
+            && cmd.videoResource().resource().size() == CONTENT.length
+        ));
+    }
+
+    private static GetMediaOutput media() {
+        return GetMediaOutput.with(Resource.with(ResourceContent.of(CONTENT), "video/mp4", "video.mp4"));
+    }
+
+}
@@ -3,6 +3,10 @@ package org.fullcycle.admin.catalog.infrastructure.category;
 import org.fullcycle.admin.catalog.DatabaseGatewayIntegrationTest;
 import org.fullcycle.admin.catalog.domain.category.Category;
 import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.exception.DomainException;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
+import org.fullcycle.admin.catalog.domain.pagination.Cursor;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.pagination.SearchQuery;
 import org.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import org.fullcycle.admin.catalog.infrastructure.category.persistence.CategoryRepository;
@@ -13,7 +17,9 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DatabaseGatewayIntegrationTest
@@ -163,6 +169,22 @@ class CategoryDatabaseGatewayTest {
         assertTrue(actual.isEmpty());
     }
 
+    @Test
+    void givenAnIdThatIsNotOneOfOurs_whenCallsTheLookups_shouldFindNothing() {
+        final var category = Category.newCategory("Bla", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var unknownId = CategoryID.from("123");
+
+        assertTrue(categoryDatabaseGateway.findById(unknownId).isEmpty());
+        assertTrue(categoryDatabaseGateway.findReadOnlyById(unknownId).isEmpty());
+        assertEquals(List.of(category.getId()), categoryDatabaseGateway.existsByIds(List.of(unknownId, category.getId())));
+
+        categoryDatabaseGateway.deleteById(unknownId);
+
+        assertEquals(1, categoryRepository.count());
+    }
+
     @Test
     void givenPrePersistedCategories_whenCallFindAll_shouldReturnPaginatedCategories() {
         final var expectedPage = 0;
@@ -193,6 +215,127 @@ class CategoryDatabaseGatewayTest {
         assertEquals(documentarios.getId().getValue(), actual.items().get(0).getId().getValue());
     }
 
+    @Test
+    void givenPrePersistedCategories_whenCallFindAllWithCursor_shouldWalkPagesWithoutTotal() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        var actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", ""));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actual.total());
+        assertEquals(2, actual.items().size());
+        assertEquals(documentarios.getId(), actual.items().get(0).getId());
+        assertEquals(filmes.getId(), actual.items().get(1).getId());
+        assertTrue(actual.hasNext());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", actual.nextCursor()));
+
+        assertEquals(1, actual.items().size());
+        assertEquals(series.getId(), actual.items().get(0).getId());
+        assertNull(actual.nextCursor());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "", "name", "desc", ""));
+
+        assertEquals(series.getId(), actual.items().get(0).getId());
+        assertEquals(filmes.getId(), actual.items().get(1).getId());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "", "name", "desc", actual.nextCursor()));
+
+        assertEquals(documentarios.getId(), actual.items().get(0).getId());
+        assertNull(actual.nextCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallFindAll_shouldThrowDomainException() {
+        final var query = new SearchQuery(0, 2, "", "name", "asc", "not a cursor");
+
+        assertThrows(DomainException.class, () -> categoryDatabaseGateway.findAll(query));
+    }
+
+    @Test
+    void givenACursorWithAnIdThatIsNotOneOfOurs_whenCallFindAll_shouldThrowDomainException() {
+        final var forged = Cursor.of("Filmes", "123").encode();
+        final var query = new SearchQuery(0, 2, "", "name", "asc", forged);
+
+        assertThrows(DomainException.class, () -> categoryDatabaseGateway.findAll(query));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallFindAllWithoutCount_shouldReturnSliceWithHasNext() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        var actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, CountMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actual.total());
+        assertEquals(2, actual.items().size());
+        assertEquals(documentarios.getId(), actual.items().get(0).getId());
+        assertTrue(actual.hasNext());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE));
+
+        assertEquals(1, actual.items().size());
+        assertEquals(series.getId(), actual.items().get(0).getId());
+        assertFalse(actual.hasNext());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, CountMode.ESTIMATED));
+
+        assertEquals(3, actual.total());
+        assertTrue(actual.hasNext());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 2, "fil", "name", "asc", null, CountMode.ESTIMATED));
+
+        assertEquals(1, actual.total());
+        assertEquals(filmes.getId(), actual.items().get(0).getId());
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    void givenARelevanceSort_whenFullTextIsNotAvailable_shouldSearchWithLikeOrderedByName() {
+        final var filmes = Category.newCategory("Filmes", "A categoria de filmes", true);
+        final var series = Category.newCategory("Séries", "Filmes em episódios", true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        var actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 10, "filmes", "relevance", "asc"));
+
+        assertEquals(2, actual.total());
+        assertEquals(filmes.getId(), actual.items().get(0).getId());
+        assertEquals(series.getId(), actual.items().get(1).getId());
+
+        actual = categoryDatabaseGateway.findAll(new SearchQuery(0, 10, "filmes", "relevance", "asc", null, CountMode.NONE));
+
+        assertEquals(2, actual.items().size());
+        assertEquals(filmes.getId(), actual.items().get(0).getId());
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    void givenARelevanceSort_whenCallFindAllWithCursor_shouldThrowDomainException() {
+        final var query = new SearchQuery(0, 2, "filmes", "relevance", "asc", "");
+
+        assertThrows(DomainException.class, () -> categoryDatabaseGateway.findAll(query));
+    }
+
     @Test
     void givenEmptyCategoryTable_whenCallFindAll_shouldReturnEmptyPage() {
         final var expectedPage = 0;
@@ -0,0 +1,135 @@
+package org.fullcycle.admin.catalog.infrastructure.export;
+
+import org.fullcycle.admin.catalog.IntegrationTest;
+import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberID;
+import org.fullcycle.admin.catalog.domain.category.Category;
+import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.fullcycle.admin.catalog.domain.category.CategoryID;
+import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.video.Rating;
+import org.fullcycle.admin.catalog.domain.video.Video;
+import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.fullcycle.admin.catalog.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.Set;
+
+@IntegrationTest
+class CatalogExporterTest {
+
+    @Autowired
+    private CatalogExporter catalogExporter;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Test
+    void givenVideosWithRelations_whenExportsAsNdjson_shouldWriteOneLinePerVideoWithItsIds() throws Exception {
+        // given
+        final var classes = categoryGateway.create(Fixtures.CategoryFixture.classes());
+        final var lives = categoryGateway.create(Fixtures.CategoryFixture.lives());
+        final var technology = genreGateway.create(Fixtures.GenreFixture.technology());
+        final var wesley = castMemberGateway.create(Fixtures.CastMemberFixture.wesley());
+
+        final var aVideo = videoGateway.create(video(
+            "A video",
+            Set.of(classes.getId(), lives.getId()),
+            Set.of(technology.getId()),
+            Set.of(wesley.getId())
+        ));
+        final var anotherVideo = videoGateway.create(video("Another video", Set.of(), Set.of(), Set.of()));
+
+        final var output = new ByteArrayOutputStream();
+
+        // when
+        final var exported = catalogExporter.export(CatalogExport.VIDEOS, ExportFormat.NDJSON, output);
+
+        // then
+        Assertions.assertEquals(2, exported);
+
+        final var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, lines.length);
+
+        for (final var line : lines) {
+            final var node = Json.mapper().readTree(line);
+            final var categories = new HashSet<String>();
+            node.get("categories_id").forEach(it -> categories.add(it.asText()));
+
+            if (node.get("id").asText().equals(aVideo.getId().getValue())) {
+                Assertions.assertEquals("A video", node.get("title").asText());
+                Assertions.assertEquals(Set.of(classes.getId().getValue(), lives.getId().getValue()), categories);
+                Assertions.assertEquals(technology.getId().getValue(), node.get("genres_id").get(0).asText());
+                Assertions.assertEquals(wesley.getId().getValue(), node.get("cast_members_id").get(0).asText());
+                Assertions.assertTrue(
+                    Duration.between(aVideo.getCreatedAt(), Instant.parse(node.get("created_at").asText())).abs().toMillis() < 1,
+                    "timestamps are exported as UTC instants"
+                );
+            } else {
+                Assertions.assertEquals(anotherVideo.getId().getValue(), node.get("id").asText());
+                Assertions.assertTrue(categories.isEmpty());
+                Assertions.assertTrue(node.get("cast_members_id").isEmpty());
+            }
+        }
+    }
+
+    @Test
+    void givenCategoriesWithSeparators_whenExportsAsCsv_shouldQuoteTheirFields() throws Exception {
+        // given
+        final var category = categoryGateway.create(Category.newCategory("Movies", "Long, \"quoted\" description", true));
+        final var output = new ByteArrayOutputStream();
+
+        // when
+        final var exported = catalogExporter.export(CatalogExport.CATEGORIES, ExportFormat.CSV, output);
+
+        // then
+        Assertions.assertEquals(1, exported);
+
+        final var lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        Assertions.assertEquals("id,name,description,is_active,created_at,updated_at,deleted_at", lines[0]);
+        Assertions.assertTrue(lines[1].startsWith(
+            "%s,Movies,\"Long, \"\"quoted\"\" description\",true,".formatted(category.getId().getValue())
+        ));
+        Assertions.assertTrue(lines[1].endsWith(","), "a null deleted_at is an empty field");
+    }
+
+    private static Video video(
+        final String title,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> castMembers
+    ) {
+        return Video.newVideo(
+            title,
+            Fixtures.VideoFixture.description(),
+            Year.of(2024),
+            120.0,
+            Rating.L,
+            true,
+            false,
+            categories,
+            genres,
+            castMembers
+        );
+    }
+
+}
@@ -111,6 +111,37 @@ class GenreDatabaseGatewayTest {
         assertThat(actualInDatabase.getDeletedAt()).isNull();
     }
 
+    @Test
+    void givenValidGenres_whenCallsCreateAll_shouldPersistEveryGenreWithItsCategories() {
+        final var movies = categoryDatabaseGateway.create(
+            Category.newCategory("Movies", "Movies", true)
+        );
+        final var series = categoryDatabaseGateway.create(
+            Category.newCategory("Series", "Series", true)
+        );
+
+        final var action = Genre.newGenre("Action", true);
+        action.addCategories(List.of(movies.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", false);
+        drama.addCategories(List.of(movies.getId()));
+
+        assertThat(genreRepository.count()).isZero();
+
+        final var actual = genreDatabaseGateway.createAll(List.of(action, drama));
+
+        assertThat(genreRepository.count()).isEqualTo(2);
+        assertThat(actual).extracting(Genre::getId).containsExactly(action.getId(), drama.getId());
+
+        final var actionInDatabase = genreRepository.findById(action.getId().getValue())
+            .orElseThrow(() -> new IllegalStateException("Expected genre not found in database"));
+        final var dramaInDatabase = genreRepository.findById(drama.getId().getValue())
+            .orElseThrow(() -> new IllegalStateException("Expected genre not found in database"));
+
+        assertThat(actionInDatabase.getCategoryIDs()).containsExactlyInAnyOrder(movies.getId(), series.getId());
+        assertThat(dramaInDatabase.getCategoryIDs()).containsExactly(movies.getId());
+        assertThat(dramaInDatabase.isActive()).isFalse();
+    }
+
     @Test
     void givenAValidGenreWithoutCategories_whenCallsUpdateGenreWithCategories_shouldUpdateGenre() {
         final var movies = categoryDatabaseGateway.create(
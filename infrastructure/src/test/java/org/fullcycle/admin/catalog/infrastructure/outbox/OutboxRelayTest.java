@@ -0,0 +1,119 @@
+package org.fullcycle.admin.catalog.infrastructure.outbox;
+
+import org.fullcycle.admin.catalog.DatabaseRepositoryIntegrationTest;
+import org.fullcycle.admin.catalog.domain.video.VideoMediaCreated;
+import org.fullcycle.admin.catalog.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.fullcycle.admin.catalog.infrastructure.services.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DatabaseRepositoryIntegrationTest
+class OutboxRelayTest {
+
+    private static final String DESTINATION = "video-created";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void givenEventsSentThroughTheOutbox_whenRelays_shouldPublishThemInOrderAndEmptyTheOutbox() {
+        final var broker = new InMemoryEventService();
+        final var outbox = new OutboxEventService(DESTINATION, outboxEventRepository);
+        final var relay = relayTo(broker, 2);
+
+        final var expectedEvents = List.of(
+            VideoMediaCreated.with("1", "videoId-1/type-video"),
+            VideoMediaCreated.with("2", "videoId-2/type-video"),
+            VideoMediaCreated.with("3", "videoId-3/type-trailer")
+        );
+
+        expectedEvents.forEach(outbox::send);
+
+        assertEquals(3, outboxEventRepository.count());
+        assertTrue(broker.events().isEmpty());
+
+        relay.relay();
+
+        assertEquals(expectedEvents, broker.events());
+        assertEquals(List.of(2, 1), broker.batchSizes());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void givenAnEmptyOutbox_whenRelays_shouldPublishNothing() {
+        final var broker = new InMemoryEventService();
+
+        final var actual = relayTo(broker, 10).relayBatch();
+
+        assertEquals(0, actual);
+        assertTrue(broker.batchSizes().isEmpty());
+    }
+
+    @Test
+    void givenAnUnavailableBroker_whenRelays_shouldKeepTheEventsInTheOutbox() {
+        final var outbox = new OutboxEventService(DESTINATION, outboxEventRepository);
+        final EventService unavailable = event -> {
+            throw new IllegalStateException("broker unavailable");
+        };
+        final var relay = new OutboxRelay(
+            outboxEventRepository,
+            Map.of(DESTINATION, unavailable),
+            new TransactionTemplate(transactionManager),
+            10
+        );
+
+        outbox.send(VideoMediaCreated.with("1", "videoId-1/type-video"));
+
+        relay.relay();
+
+        assertEquals(1, outboxEventRepository.count());
+    }
+
+    private OutboxRelay relayTo(final EventService broker, final int batchSize) {
+        return new OutboxRelay(
+            outboxEventRepository,
+            Map.of(DESTINATION, broker),
+            new TransactionTemplate(transactionManager),
+            batchSize
+        );
+    }
+
+    private static class InMemoryEventService implements EventService {
+
+        private final List<Object> events = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public void send(final Object event) {
+            this.events.add(event);
+        }
+
+        @Override
+        public void sendAll(final List<?> events) {
+            this.batchSizes.add(events.size());
+            this.events.addAll(events);
+        }
+
+        List<Object> events() {
+            return events;
+        }
+
+        List<Integer> batchSizes() {
+            return batchSizes;
+        }
+
+    }
+
+}
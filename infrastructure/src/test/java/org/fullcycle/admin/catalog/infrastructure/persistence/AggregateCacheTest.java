@@ -0,0 +1,132 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import org.fullcycle.admin.catalog.domain.category.Category;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.AggregateCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AggregateCacheTest {
+
+    private static final String REGION = "categories";
+
+    private final AggregateCacheProperties properties = new AggregateCacheProperties();
+    private final AggregateCache aggregateCache = new AggregateCache(properties);
+
+    @Test
+    void givenACachedAggregate_whenCallsFind_shouldLoadItOnceAndReturnCopies() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var loader = new RecordingLoader(category);
+        final var id = category.getId().getValue();
+
+        final var first = aggregateCache.find(REGION, id, loader, Category::with).get();
+        final var second = aggregateCache.find(REGION, id, loader, Category::with).get();
+
+        assertEquals(List.of(id), loader.calls);
+        assertEquals(category.getName(), second.getName());
+        assertNotSame(first, second);
+
+        // a use case updating what it found leaves the cached aggregate as it was
+        second.update("Séries", second.getDescription(), second.isActive());
+        assertEquals("Filmes", aggregateCache.find(REGION, id, loader, Category::with).get().getName());
+
+        final var stats = aggregateCache.stats().get(REGION);
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    void givenAnAbsentId_whenCallsFindTwice_shouldLoadItBothTimes() {
+        final var loader = new RecordingLoader(null);
+
+        assertTrue(aggregateCache.find(REGION, "1", loader, Category::with).isEmpty());
+        assertTrue(aggregateCache.find(REGION, "1", loader, Category::with).isEmpty());
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenAnEvictedAggregate_whenCallsFind_shouldLoadItAgain() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var loader = new RecordingLoader(category);
+        final var id = category.getId().getValue();
+
+        aggregateCache.find(REGION, id, loader, Category::with);
+        aggregateCache.evict(REGION, id);
+        aggregateCache.find(REGION, id, loader, Category::with);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenAnEvictedRegion_whenCallsFind_shouldLoadEveryAggregateAgain() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var loader = new RecordingLoader(category);
+        final var id = category.getId().getValue();
+
+        aggregateCache.find(REGION, id, loader, Category::with);
+        aggregateCache.evictAll(REGION);
+        aggregateCache.find(REGION, id, loader, Category::with);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenAnEvictionDuringTheLoad_whenCallsFind_shouldNotCacheTheLoadedAggregate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var id = category.getId().getValue();
+        final var loader = new RecordingLoader(category);
+
+        aggregateCache.find(REGION, id, it -> {
+            // an update commits while the stale row is being read
+            aggregateCache.evict(REGION, it);
+            return loader.apply(it);
+        }, Category::with);
+        aggregateCache.find(REGION, id, loader, Category::with);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenADisabledRegion_whenCallsFind_shouldAlwaysLoad() {
+        final var disabled = new AggregateCacheProperties.Region();
+        disabled.setEnabled(false);
+        properties.getRegions().put(REGION, disabled);
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var loader = new RecordingLoader(category);
+        final var id = category.getId().getValue();
+
+        aggregateCache.find(REGION, id, loader, Category::with);
+        aggregateCache.find(REGION, id, loader, Category::with);
+
+        assertEquals(2, loader.calls.size());
+        assertFalse(aggregateCache.stats().containsKey(REGION));
+    }
+
+    private static final class RecordingLoader implements Function<String, Optional<Category>> {
+
+        private final Category category;
+        private final List<String> calls = new ArrayList<>();
+
+        private RecordingLoader(final Category category) {
+            this.category = category;
+        }
+
+        @Override
+        public Optional<Category> apply(final String id) {
+            this.calls.add(id);
+            return Optional.ofNullable(this.category).map(Category::with);
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import org.fullcycle.admin.catalog.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BinaryIdentifierConverterTest {
+
+    private final BinaryIdentifierConverter converter = new BinaryIdentifierConverter();
+
+    @Test
+    void givenAnId_whenConvertsToTheColumnAndBack_shouldKeepItsHexForm() {
+        final var expectedId = VideoID.unique().getValue();
+
+        final var actualColumn = this.converter.convertToDatabaseColumn(expectedId);
+
+        Assertions.assertEquals(16, actualColumn.length);
+        Assertions.assertEquals(expectedId, this.converter.convertToEntityAttribute(actualColumn));
+    }
+
+    @Test
+    void givenAnUnknownId_whenConvertsToTheColumn_shouldFail() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.converter.convertToDatabaseColumn("123"));
+    }
+
+    @Test
+    void givenAColumnThatIsNotAnId_whenConvertsToTheAttribute_shouldFail() {
+        final var column = new byte[] { 1, 2, 3 };
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.converter.convertToEntityAttribute(column));
+    }
+
+    @Test
+    void givenNull_whenConverts_shouldReturnNull() {
+        Assertions.assertNull(this.converter.convertToDatabaseColumn(null));
+        Assertions.assertNull(this.converter.convertToEntityAttribute(null));
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.fullcycle.admin.catalog.infrastructure.persistence;
+
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExistenceCacheTest {
+
+    private static final String REGION = "categories";
+
+    private final ExistenceCache existenceCache = new ExistenceCache(new ExistenceCacheProperties());
+
+    @Test
+    void givenCachedIds_whenCallsExistsByIds_shouldOnlyLoadTheMissingOnes() {
+        final var loader = new RecordingLoader(List.of("1", "2"));
+
+        existenceCache.existsByIds(REGION, List.of("1", "2"), loader);
+        final var actual = existenceCache.existsByIds(REGION, List.of("1", "2", "3"), loader);
+
+        assertThat(actual).containsExactlyInAnyOrder("1", "2");
+        assertEquals(List.of(List.of("1", "2"), List.of("3")), loader.calls);
+
+        final var stats = existenceCache.stats().get(REGION);
+        assertEquals(2, stats.hitCount());
+        assertEquals(3, stats.missCount());
+    }
+
+    @Test
+    void givenAnAbsentId_whenCallsExistsByIdsTwice_shouldLoadItBothTimes() {
+        final var loader = new RecordingLoader(List.of());
+
+        existenceCache.existsByIds(REGION, List.of("1"), loader);
+        existenceCache.existsByIds(REGION, List.of("1"), loader);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenAPresentId_whenCallsExistsByIds_shouldNotLoad() {
+        final var loader = new RecordingLoader(List.of());
+
+        existenceCache.present(REGION, "1");
+        final var actual = existenceCache.existsByIds(REGION, List.of("1"), loader);
+
+        assertEquals(List.of("1"), actual);
+        assertThat(loader.calls).isEmpty();
+    }
+
+    @Test
+    void givenAnEvictedId_whenCallsExistsByIds_shouldLoadItAgain() {
+        final var loader = new RecordingLoader(List.of("1"));
+
+        existenceCache.existsByIds(REGION, List.of("1"), loader);
+        existenceCache.evict(REGION, "1");
+        existenceCache.existsByIds(REGION, List.of("1"), loader);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenAnEvictionDuringTheLoad_whenCallsExistsByIds_shouldNotCacheTheLoadedId() {
+        final var loader = new RecordingLoader(List.of("1"));
+
+        existenceCache.existsByIds(REGION, List.of("1"), ids -> {
+            // a delete commits while the row is still being read
+            existenceCache.evict(REGION, "1");
+            return loader.apply(ids);
+        });
+        existenceCache.existsByIds(REGION, List.of("1"), loader);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    @Test
+    void givenTwoRegions_whenCallsExistsByIds_shouldNotShareEntries() {
+        final var loader = new RecordingLoader(List.of("1"));
+
+        existenceCache.existsByIds(REGION, List.of("1"), loader);
+        existenceCache.existsByIds("genres", List.of("1"), loader);
+
+        assertEquals(2, loader.calls.size());
+    }
+
+    private static final class RecordingLoader implements Function<List<String>, List<String>> {
+
+        private final List<String> existing;
+        private final List<List<String>> calls = new ArrayList<>();
+
+        private RecordingLoader(final List<String> existing) {
+            this.existing = existing;
+        }
+
+        @Override
+        public List<String> apply(final List<String> ids) {
+            this.calls.add(List.copyOf(ids));
+            return ids.stream().filter(this.existing::contains).toList();
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package org.fullcycle.admin.catalog.infrastructure.search;
+
+import org.fullcycle.admin.catalog.domain.search.Suggestion;
+import org.fullcycle.admin.catalog.domain.search.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemorySuggestionIndexTest {
+
+    private InMemorySuggestionIndex index;
+
+    @BeforeEach
+    void setup() {
+        this.index = new InMemorySuggestionIndex();
+        this.index.index(Suggestion.with("v1", "Star Wars: A New Hope", SuggestionType.VIDEO));
+        this.index.index(Suggestion.with("v2", "Stardust", SuggestionType.VIDEO));
+        this.index.index(Suggestion.with("c1", "Séries", SuggestionType.CATEGORY));
+        this.index.index(Suggestion.with("g1", "Science Fiction", SuggestionType.GENRE));
+        this.index.index(Suggestion.with("m1", "Harrison Ford", SuggestionType.CAST_MEMBER));
+    }
+
+    @Test
+    void givenAPrefix_whenCallsSuggest_shouldMatchAnyTokenOfTheName() {
+        final var actual = this.index.suggest("sta", 10);
+
+        assertEquals(2, actual.size());
+        assertEquals("v1", actual.get(0).id());
+        assertEquals("v2", actual.get(1).id());
+
+        assertEquals("m1", this.index.suggest("FORD", 10).get(0).id());
+    }
+
+    @Test
+    void givenManyTerms_whenCallsSuggest_shouldMatchOnlyNamesWithEveryPrefix() {
+        final var actual = this.index.suggest("star hop", 10);
+
+        assertEquals(1, actual.size());
+        assertEquals("Star Wars: A New Hope", actual.get(0).name());
+        assertEquals(SuggestionType.VIDEO, actual.get(0).type());
+
+        assertTrue(this.index.suggest("stardusty", 10).isEmpty());
+        assertTrue(this.index.suggest("star x", 10).isEmpty());
+    }
+
+    @Test
+    void givenAccentsAndCase_whenCallsSuggest_shouldIgnoreThem() {
+        assertEquals("c1", this.index.suggest("SERIES", 10).get(0).id());
+        assertEquals("c1", this.index.suggest("sér", 10).get(0).id());
+    }
+
+    @Test
+    void givenALimit_whenCallsSuggest_shouldStopAtLimit() {
+        assertEquals(1, this.index.suggest("s", 1).size());
+        assertEquals(4, this.index.suggest("s", 10).size());
+    }
+
+    @Test
+    void givenARenamedEntry_whenCallsSuggest_shouldOnlyMatchTheNewName() {
+        this.index.index(Suggestion.with("v2", "Interstellar", SuggestionType.VIDEO));
+
+        assertEquals(1, this.index.suggest("star", 10).size());
+        assertEquals("v2", this.index.suggest("inter", 10).get(0).id());
+        assertEquals(5, this.index.size());
+    }
+
+    @Test
+    void givenARemovedEntry_whenCallsSuggest_shouldNotMatchIt() {
+        this.index.remove(SuggestionType.CAST_MEMBER, "m1");
+
+        assertTrue(this.index.suggest("harrison", 10).isEmpty());
+        assertEquals(4, this.index.size());
+    }
+
+    @Test
+    void givenAnIndexedEntry_whenLoadsAStaleCopy_shouldKeepTheIndexedOne() {
+        this.index.load(Suggestion.with("v2", "Old Title", SuggestionType.VIDEO));
+
+        assertTrue(this.index.suggest("old", 10).isEmpty());
+        assertEquals("v2", this.index.suggest("stardust", 10).get(0).id());
+    }
+
+    @Test
+    void givenAnEntryRemovedWhileLoading_whenLoadsItsRow_shouldNotBringItBack() {
+        this.index.startLoading();
+        this.index.remove(SuggestionType.GENRE, "g2");
+        this.index.load(Suggestion.with("g2", "Documentary", SuggestionType.GENRE));
+        this.index.finishLoading();
+
+        assertTrue(this.index.suggest("docu", 10).isEmpty());
+        assertEquals(5, this.index.size());
+    }
+
+    @Test
+    void givenManyRemovedEntries_whenTombstonesPileUp_shouldCompactThePostings() {
+        for (int i = 0; i < 1_000; i++) {
+            this.index.index(Suggestion.with("s" + i, "Sequel " + i, SuggestionType.VIDEO));
+        }
+        for (int i = 0; i < 990; i++) {
+            this.index.remove(SuggestionType.VIDEO, "s" + i);
+        }
+
+        assertTrue(this.index.tombstones() < 990);
+        assertEquals(15, this.index.size());
+        assertEquals(10, this.index.suggest("sequel", 100).size());
+        assertEquals("s999", this.index.suggest("sequel 999", 10).get(0).id());
+        assertEquals(2, this.index.suggest("sta", 10).size());
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.fullcycle.admin.catalog.infrastructure.video;
+
+import org.fullcycle.admin.catalog.application.video.create.CreateVideoCommand;
+import org.fullcycle.admin.catalog.application.video.create.DefaultCreateVideoUseCase;
+import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.castmember.CastMemberGateway;
+import org.fullcycle.admin.catalog.domain.category.CategoryGateway;
+import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
+import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
+import org.fullcycle.admin.catalog.domain.video.VideoGateway;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.storage.StorageProperties;
+import org.fullcycle.admin.catalog.infrastructure.services.StorageService;
+import org.fullcycle.admin.catalog.infrastructure.services.local.InMemoryStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CreateVideoUseCaseLatencyTest {
+
+    private static final Duration UPLOAD_DELAY = Duration.ofMillis(400);
+    private static final Duration SLOWEST_UPLOAD_DELAY = Duration.ofMillis(800);
+
+    private DelayingStorageService storageService;
+    private VideoGateway videoGateway;
+    private DefaultCreateVideoUseCase useCase;
+
+    @BeforeEach
+    void setup() {
+        final var storageProperties = new StorageProperties();
+        storageProperties.setFileNamePattern("type-{type}");
+        storageProperties.setLocationPattern("videoId-{videoId}");
+
+        this.storageService = new DelayingStorageService();
+        this.videoGateway = mock(VideoGateway.class);
+        when(this.videoGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        this.useCase = new DefaultCreateVideoUseCase(
+            mock(CategoryGateway.class),
+            mock(GenreGateway.class),
+            mock(CastMemberGateway.class),
+            new DefaultMediaResourceGateway(storageProperties, this.storageService),
+            this.videoGateway
+        );
+    }
+
+    @Test
+    void givenFiveMedias_whenCallsCreateVideo_shouldTakeAboutTheSlowestUpload() {
+        this.storageService.slowest = MediaType.VIDEO.name();
+
+        final var startedAt = System.nanoTime();
+        final var output = this.useCase.execute(commandWithAllMedias());
+        final var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        final var sequentialTime = UPLOAD_DELAY.multipliedBy(4).plus(SLOWEST_UPLOAD_DELAY);
+
+        assertThat(output.id()).isNotNull();
+        assertThat(this.storageService.delegate.storage()).hasSize(5);
+        assertThat(elapsed).isGreaterThanOrEqualTo(SLOWEST_UPLOAD_DELAY);
+        assertThat(elapsed).isLessThan(SLOWEST_UPLOAD_DELAY.plus(UPLOAD_DELAY));
+        assertThat(elapsed).isLessThan(sequentialTime);
+    }
+
+    @Test
+    void givenAFailingUpload_whenCallsCreateVideo_shouldCancelInFlightUploadsAndClearStorage() {
+        this.storageService.slowest = MediaType.VIDEO.name();
+        this.storageService.failing = MediaType.BANNER.name();
+
+        final var startedAt = System.nanoTime();
+        assertThatThrownBy(() -> this.useCase.execute(commandWithAllMedias()))
+            .hasMessageStartingWith("An error has occurred on creating a video with ID: ");
+        final var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertThat(elapsed).isLessThan(SLOWEST_UPLOAD_DELAY);
+        assertThat(this.storageService.interrupted.get()).isPositive();
+        assertThat(this.storageService.delegate.storage()).isEmpty();
+    }
+
+    private static CreateVideoCommand commandWithAllMedias() {
+        return CreateVideoCommand.with(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Fixtures.VideoFixture.year(),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Fixtures.VideoFixture.rating().label(),
+            Set.of(),
+            Set.of(),
+            Set.of(),
+            Fixtures.ResourceFixture.resource(MediaType.VIDEO),
+            Fixtures.ResourceFixture.resource(MediaType.TRAILER),
+            Fixtures.ResourceFixture.resource(MediaType.BANNER),
+            Fixtures.ResourceFixture.resource(MediaType.THUMBNAIL),
+            Fixtures.ResourceFixture.resource(MediaType.THUMBNAIL_HALF)
+        );
+    }
+
+    private static class DelayingStorageService implements StorageService {
+
+        private final InMemoryStorageService delegate = new InMemoryStorageService();
+        private final AtomicInteger interrupted = new AtomicInteger();
+        private volatile String slowest;
+        private volatile String failing;
+
+        @Override
+        public Optional<Resource> get(final String fileName) {
+            return this.delegate.get(fileName);
+        }
+
+        @Override
+        public List<String> findAll(final String prefixName) {
+            return this.delegate.findAll(prefixName);
+        }
+
+        @Override
+        public void store(final String fileName, final Resource resource) {
+            if (fileName.endsWith("type-" + this.failing)) {
+                throw new IllegalStateException("Upload of %s failed".formatted(fileName));
+            }
+
+            try {
+                Thread.sleep(fileName.endsWith("type-" + this.slowest) ? SLOWEST_UPLOAD_DELAY : UPLOAD_DELAY);
+            } catch (final InterruptedException exception) {
+                this.interrupted.incrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Upload of %s was cancelled".formatted(fileName), exception);
+            }
+
+            this.delegate.store(fileName, resource);
+        }
+
+        @Override
+        public void deleteAll(final Collection<String> fileNames) {
+            this.delegate.deleteAll(fileNames);
+        }
+
+    }
+
+}
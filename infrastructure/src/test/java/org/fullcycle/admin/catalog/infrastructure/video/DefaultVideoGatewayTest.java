@@ -1,5 +1,6 @@
 package org.fullcycle.admin.catalog.infrastructure.video;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.fullcycle.admin.catalog.IntegrationTest;
 import org.fullcycle.admin.catalog.domain.Fixtures;
 import org.fullcycle.admin.catalog.domain.castmember.CastMember;
@@ -11,23 +12,33 @@ import org.fullcycle.admin.catalog.domain.category.CategoryID;
 import org.fullcycle.admin.catalog.domain.genre.Genre;
 import org.fullcycle.admin.catalog.domain.genre.GenreGateway;
 import org.fullcycle.admin.catalog.domain.genre.GenreID;
+import org.fullcycle.admin.catalog.domain.pagination.CountMode;
+import org.fullcycle.admin.catalog.domain.pagination.Pagination;
 import org.fullcycle.admin.catalog.domain.video.AudioVideoMedia;
 import org.fullcycle.admin.catalog.domain.video.ImageMedia;
+import org.fullcycle.admin.catalog.domain.video.MediaStatus;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
 import org.fullcycle.admin.catalog.domain.video.Video;
 import org.fullcycle.admin.catalog.domain.video.VideoID;
 import org.fullcycle.admin.catalog.domain.video.VideoSearchQuery;
+import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoPreviewRepository;
 import org.fullcycle.admin.catalog.infrastructure.video.persistence.VideoRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -51,6 +62,12 @@ class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private VideoPreviewRepository videoPreviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private CastMember wesley;
     private CastMember gabriel;
 
@@ -331,6 +348,404 @@ class DefaultVideoGatewayTest {
         Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
     }
 
+    @Test
+    void givenAnUpdateOfOneFieldAndTwoRelations_whenCallsUpdate_shouldWriteOnlyTheChangedRows() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(classes.getId()),
+            Set.of(technology.getId(), business.getId()),
+            Set.of(wesley.getId(), gabriel.getId())
+        ).updateVideoMedia(AudioVideoMedia.newAudioVideoMedia("123", "video", "/media/video")));
+
+        final var expectedTitle = "A brand new title";
+        final var expectedCategories = Set.of(classes.getId(), lives.getId());
+        final var expectedGenres = Set.of(technology.getId());
+        final var expectedMembers = Set.of(wesley.getId(), gabriel.getId());
+
+        final var updatedVideo = Video.with(aVideo).update(
+            expectedTitle,
+            aVideo.getDescription(),
+            aVideo.getLaunchedAt(),
+            aVideo.getDuration(),
+            aVideo.getRating(),
+            aVideo.isOpened(),
+            aVideo.isPublished(),
+            expectedCategories,
+            expectedGenres,
+            expectedMembers
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        try {
+            videoGateway.update(updatedVideo);
+
+            // then
+            Assertions.assertEquals(2, statistics.getEntityUpdateCount(), "only the videos and video_previews rows are updated");
+            Assertions.assertEquals(1, statistics.getEntityInsertCount(), "only the added category is inserted");
+            Assertions.assertEquals(1, statistics.getEntityDeleteCount(), "only the removed genre is deleted");
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertEquals(expectedTitle, persistedVideo.getTitle());
+        Assertions.assertEquals(expectedCategories, persistedVideo.getCategories());
+        Assertions.assertEquals(expectedGenres, persistedVideo.getGenres());
+        Assertions.assertEquals(expectedMembers, persistedVideo.getCastMembers());
+        Assertions.assertEquals(aVideo.getVideo().get().id(), persistedVideo.getVideo().get().id());
+    }
+
+    @Test
+    void givenVideosWithManyRelations_whenCallsCreateAll_shouldInsertEachTableInOneBatch() {
+        // given
+        final var expectedVideos = 20;
+        final var videos = new ArrayList<Video>(expectedVideos);
+        for (int i = 0; i < expectedVideos; i++) {
+            videos.add(Video.newVideo(
+                Fixtures.VideoFixture.title(),
+                Fixtures.VideoFixture.description(),
+                Year.of(Fixtures.VideoFixture.year()),
+                Fixtures.VideoFixture.duration(),
+                Fixtures.VideoFixture.rating(),
+                Fixtures.VideoFixture.opened(),
+                Fixtures.VideoFixture.published(),
+                Set.of(classes.getId(), lives.getId()),
+                Set.of(technology.getId(), business.getId()),
+                Set.of(wesley.getId(), gabriel.getId())
+            ));
+        }
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        try {
+            videoGateway.createAll(videos);
+
+            // then
+            Assertions.assertEquals(expectedVideos * 8, statistics.getEntityInsertCount());
+            Assertions.assertEquals(5, statistics.getPrepareStatementCount(), "one batched insert per table, no select before it");
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        Assertions.assertEquals(expectedVideos, videoRepository.count());
+
+        final var persistedVideo = videoGateway.findById(videos.get(0).getId()).get();
+
+        Assertions.assertEquals(Set.of(classes.getId(), lives.getId()), persistedVideo.getCategories());
+        Assertions.assertEquals(Set.of(technology.getId(), business.getId()), persistedVideo.getGenres());
+        Assertions.assertEquals(Set.of(wesley.getId(), gabriel.getId()), persistedVideo.getCastMembers());
+    }
+
+    @Test
+    void givenVideosWithMedias_whenCallsUpdateAudioVideoMedias_shouldUpdateOnlyTheMediaRows() {
+        // given
+        final var expectedVideo = AudioVideoMedia.newAudioVideoMedia("123", "video", "/media/video");
+        final var expectedTrailer = AudioVideoMedia.newAudioVideoMedia("456", "trailer", "/media/trailer");
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(classes.getId()),
+            Set.of(technology.getId()),
+            Set.of(wesley.getId())
+        ).updateVideoMedia(expectedVideo).updateTrailerMedia(expectedTrailer));
+
+        final var anotherVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(),
+            Set.of(),
+            Set.of()
+        ));
+
+        final var medias = videoGateway.findAudioVideoMedias(Set.of(aVideo.getId(), anotherVideo.getId(), VideoID.unique()));
+
+        Assertions.assertEquals(2, medias.size());
+        final var actualVideoMedia = medias.stream().filter(it -> it.type() == MediaType.VIDEO).findFirst().get();
+        final var actualTrailerMedia = medias.stream().filter(it -> it.type() == MediaType.TRAILER).findFirst().get();
+        Assertions.assertEquals(aVideo.getId(), actualVideoMedia.videoId());
+        Assertions.assertEquals(expectedVideo.id(), actualVideoMedia.media().id());
+        Assertions.assertEquals(expectedTrailer.id(), actualTrailerMedia.media().id());
+
+        // when
+        videoGateway.updateAudioVideoMedias(List.of(
+            actualVideoMedia.completed("encoded/video.mp4"),
+            actualTrailerMedia.processing()
+        ));
+
+        // then
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+
+        Assertions.assertEquals(MediaStatus.COMPLETED, persistedVideo.getVideo().get().status());
+        Assertions.assertEquals("encoded/video.mp4", persistedVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(expectedVideo.rawLocation(), persistedVideo.getVideo().get().rawLocation());
+        Assertions.assertEquals(MediaStatus.PROCESSING, persistedVideo.getTrailer().get().status());
+        Assertions.assertEquals("", persistedVideo.getTrailer().get().encodedLocation());
+        Assertions.assertEquals(Set.of(classes.getId()), persistedVideo.getCategories());
+        Assertions.assertEquals(Set.of(technology.getId()), persistedVideo.getGenres());
+        Assertions.assertEquals(Set.of(wesley.getId()), persistedVideo.getCastMembers());
+        Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+    }
+
+    @Test
+    void givenAStaleMedia_whenCallsUpdateAudioVideoMedia_shouldFailWithoutOverwritingIt() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(),
+            Set.of(),
+            Set.of()
+        ).updateVideoMedia(AudioVideoMedia.newAudioVideoMedia("123", "video", "/media/video")));
+
+        final var readMedia = videoGateway.findAudioVideoMedias(Set.of(aVideo.getId())).get(0);
+        Assertions.assertEquals(0, readMedia.version());
+
+        videoGateway.updateAudioVideoMedia(readMedia.processing());
+
+        // when
+        Assertions.assertThrows(
+            ObjectOptimisticLockingFailureException.class,
+            () -> videoGateway.updateAudioVideoMedia(readMedia.completed("encoded/video.mp4"))
+        );
+
+        // then
+        final var persistedMedia = videoGateway.findAudioVideoMedias(Set.of(aVideo.getId())).get(0);
+        Assertions.assertEquals(1, persistedMedia.version());
+        Assertions.assertEquals(MediaStatus.PROCESSING, persistedMedia.media().status());
+        Assertions.assertEquals("", persistedMedia.media().encodedLocation());
+    }
+
+    @Test
+    void givenAVideoReadBeforeItsMediaStatusChanged_whenCallsUpdate_shouldKeepTheNewStatus() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(),
+            Set.of(),
+            Set.of()
+        ).updateVideoMedia(AudioVideoMedia.newAudioVideoMedia("123", "video", "/media/video")));
+
+        final var readMedia = videoGateway.findAudioVideoMedias(Set.of(aVideo.getId())).get(0);
+        videoGateway.updateAudioVideoMedia(readMedia.completed("encoded/video.mp4"));
+
+        // when
+        videoGateway.update(aVideo);
+
+        // then
+        final var persistedMedia = videoGateway.findAudioVideoMedias(Set.of(aVideo.getId())).get(0);
+        Assertions.assertEquals(1, persistedMedia.version());
+        Assertions.assertEquals(MediaStatus.COMPLETED, persistedMedia.media().status());
+        Assertions.assertEquals("encoded/video.mp4", persistedMedia.media().encodedLocation());
+    }
+
+    @Test
+    void givenAVideoWithEveryMediaAndRelation_whenCallsEachRead_shouldIssueOnlyItsOwnStatements() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(classes.getId(), lives.getId()),
+            Set.of(technology.getId(), business.getId()),
+            Set.of(wesley.getId(), gabriel.getId())
+        )
+            .updateVideoMedia(AudioVideoMedia.newAudioVideoMedia("123", "video", "/media/video"))
+            .updateTrailerMedia(AudioVideoMedia.newAudioVideoMedia("123", "trailer", "/media/trailer"))
+            .updateBannerMedia(ImageMedia.newImageMedia("123", "banner", "/media/banner"))
+            .updateThumbnailMedia(ImageMedia.newImageMedia("123", "thumb", "/media/thumb"))
+            .updateThumbnailHalfMedia(ImageMedia.newImageMedia("123", "thumbHalf", "/media/thumbHalf")));
+
+        // when, then: the metadata only read is a single select without any join
+        Assertions.assertEquals(1, countStatements(() -> {
+            final var preview = videoGateway.findPreviewById(aVideo.getId()).get();
+            Assertions.assertEquals(aVideo.getTitle(), preview.title());
+        }));
+
+        // the media only read selects the two audio/video media along with the video
+        Assertions.assertEquals(1, countStatements(() ->
+            Assertions.assertEquals(2, videoGateway.findAudioVideoMedias(Set.of(aVideo.getId())).size())
+        ));
+
+        // the full graph joins the five media and reads each relation set once
+        Assertions.assertEquals(4, countStatements(() -> {
+            final var video = videoGateway.findById(aVideo.getId()).get();
+            Assertions.assertTrue(video.getThumbnailHalf().isPresent());
+            Assertions.assertEquals(2, video.getCastMembers().size());
+        }));
+    }
+
+    @Test
+    void givenAVideo_whenCallsEachWrite_shouldKeepItsPreviewInStep() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+            Fixtures.VideoFixture.title(),
+            Fixtures.VideoFixture.description(),
+            Year.of(Fixtures.VideoFixture.year()),
+            Fixtures.VideoFixture.duration(),
+            Fixtures.VideoFixture.rating(),
+            Fixtures.VideoFixture.opened(),
+            Fixtures.VideoFixture.published(),
+            Set.of(classes.getId(), lives.getId()),
+            Set.of(technology.getId()),
+            Set.of()
+        ).updateVideoMedia(AudioVideoMedia.newAudioVideoMedia("123", "video", "/media/video")));
+
+        final var anId = aVideo.getId().getValue();
+
+        final var createdPreview = videoPreviewRepository.findById(anId).get();
+        Assertions.assertEquals(aVideo.getTitle(), createdPreview.getTitle());
+        Assertions.assertEquals(aVideo.getDescription(), createdPreview.getDescription());
+        Assertions.assertEquals(videoGateway.findById(aVideo.getId()).get().getUpdatedAt(), createdPreview.getUpdatedAt());
+        Assertions.assertEquals(packed(classes.getId().getValue(), lives.getId().getValue()), createdPreview.getCategories());
+        Assertions.assertEquals(packed(technology.getId().getValue()), createdPreview.getGenres());
+        Assertions.assertEquals(",", createdPreview.getCastMembers());
+
+        // when
+        videoGateway.update(Video.with(aVideo).update(
+            "A brand new title",
+            aVideo.getDescription(),
+            aVideo.getLaunchedAt(),
+            aVideo.getDuration(),
+            aVideo.getRating(),
+            aVideo.isOpened(),
+            aVideo.isPublished(),
+            Set.of(lives.getId()),
+            Set.of(),
+            Set.of(wesley.getId())
+        ));
+
+        // then
+        final var updatedPreview = videoPreviewRepository.findById(anId).get();
+        Assertions.assertEquals("A brand new title", updatedPreview.getTitle());
+        Assertions.assertEquals(videoGateway.findById(aVideo.getId()).get().getUpdatedAt(), updatedPreview.getUpdatedAt());
+        Assertions.assertEquals(packed(lives.getId().getValue()), updatedPreview.getCategories());
+        Assertions.assertEquals(",", updatedPreview.getGenres());
+        Assertions.assertEquals(packed(wesley.getId().getValue()), updatedPreview.getCastMembers());
+
+        // when
+        final var media = videoGateway.findAudioVideoMedias(Set.of(aVideo.getId())).get(0);
+        videoGateway.updateAudioVideoMedia(media.processing());
+
+        // then
+        final var touchedPreview = videoPreviewRepository.findById(anId).get();
+        Assertions.assertEquals(videoGateway.findById(aVideo.getId()).get().getUpdatedAt(), touchedPreview.getUpdatedAt());
+        Assertions.assertTrue(touchedPreview.getUpdatedAt().isAfter(updatedPreview.getUpdatedAt()));
+
+        // when
+        videoGateway.deleteById(aVideo.getId());
+
+        // then
+        Assertions.assertEquals(0, videoPreviewRepository.count());
+    }
+
+    @Test
+    void givenADeletedCategory_whenCallsFindAllByIt_shouldNotMatchItsFormerVideos() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(lives.getId()), Set.of(), Set.of());
+        Assertions.assertEquals(1, videoGateway.findAll(aQuery).total());
+
+        // when
+        categoryGateway.deleteById(lives.getId());
+
+        // then
+        Assertions.assertEquals(0, videoGateway.findAll(aQuery).total());
+        Assertions.assertTrue(videoPreviewRepository.findAll().stream()
+            .noneMatch(it -> it.getCategories().contains(lives.getId().getValue())));
+    }
+
+    @Test
+    void givenFiltersWithoutCount_whenCallsFindAll_shouldIssueASingleSelect() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+            0,
+            10,
+            "",
+            "title",
+            "asc",
+            Set.of(classes.getId(), lives.getId()),
+            Set.of(technology.getId()),
+            Set.of(wesley.getId()),
+            null,
+            CountMode.NONE
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        try {
+            final var actualPage = videoGateway.findAll(aQuery);
+
+            // then
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount(), "a single select on the videos table, without a count");
+            Assertions.assertEquals(1, actualPage.items().size());
+            Assertions.assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(0).title());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void givenASortThePreviewsLack_whenCallsFindAll_shouldListFromTheVideosTable() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "yearLaunched", "desc", Set.of(), Set.of(), Set.of());
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(4, actualPage.total());
+        Assertions.assertEquals(4, actualPage.items().size());
+    }
+
     @Test
     void givenAValidVideoId_whenCallsDeleteById_shouldDeleteIt() {
         // given
@@ -610,6 +1025,45 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(1).title());
     }
 
+    @Test
+    void givenFiltersMatchingManyRelationsOfAVideo_whenCallFindAll_shouldReturnEachVideoOnce() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+            0,
+            1,
+            "",
+            "title",
+            "asc",
+            Set.of(),
+            Set.of(technology.getId()),
+            Set.of(wesley.getId(), gabriel.getId())
+        );
+
+        // when
+        final var firstPage = videoGateway.findAll(aQuery);
+        final var secondPage = videoGateway.findAll(new VideoSearchQuery(
+            1,
+            1,
+            "",
+            "title",
+            "asc",
+            Set.of(),
+            Set.of(technology.getId()),
+            Set.of(wesley.getId(), gabriel.getId())
+        ));
+
+        // then
+        Assertions.assertEquals(2, firstPage.total());
+        Assertions.assertEquals("21.1 Implementação dos testes integrados do findAll", firstPage.items().get(0).title());
+        Assertions.assertTrue(firstPage.hasNext());
+
+        Assertions.assertEquals(2, secondPage.total());
+        Assertions.assertEquals("System Design no Mercado Livre na prática", secondPage.items().get(0).title());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
     @Test
     void givenAValidGenre_whenCallFindAll_shouldReturnFilteredList() {
         // given
@@ -727,6 +1181,50 @@ class DefaultVideoGatewayTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "EXACT,0,4,true",
+        "EXACT,1,4,false",
+        "ESTIMATED,0,4,true",
+        "NONE,0,-1,true",
+        "NONE,1,-1,false",
+    })
+    void givenACountMode_whenCallsFindAll_shouldReturnTotalAccordingly(
+        final CountMode expectedCountMode,
+        final int expectedPage,
+        final long expectedTotal,
+        final boolean expectedHasNext
+    ) {
+        // given
+        mockVideos();
+
+        final var expectedPerPage = 2;
+
+        final var aQuery = new VideoSearchQuery(
+            expectedPage,
+            expectedPerPage,
+            "",
+            "title",
+            "asc",
+            Set.of(),
+            Set.of(),
+            Set.of(),
+            null,
+            expectedCountMode
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedPage, actualPage.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualPage.perPage());
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+        Assertions.assertEquals(expectedPerPage, actualPage.items().size());
+        Assertions.assertEquals(expectedHasNext, actualPage.hasNext());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
     @ParameterizedTest
     @CsvSource({
         "system,0,10,1,1,System Design no Mercado Livre na prática",
@@ -813,6 +1311,77 @@ class DefaultVideoGatewayTest {
         Assertions.assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "title,asc,21.1 Implementação dos testes integrados do findAll;Aula de empreendedorismo;Não cometa esses erros ao trabalhar com Microsserviços;System Design no Mercado Livre na prática",
+        "title,desc,System Design no Mercado Livre na prática;Não cometa esses erros ao trabalhar com Microsserviços;Aula de empreendedorismo;21.1 Implementação dos testes integrados do findAll",
+        "createdAt,asc,System Design no Mercado Livre na prática;Não cometa esses erros ao trabalhar com Microsserviços;21.1 Implementação dos testes integrados do findAll;Aula de empreendedorismo",
+    })
+    void givenACursor_whenCallsFindAllFollowingNextCursors_shouldWalkAllVideosWithoutCounting(
+        final String expectedSort,
+        final String expectedDirection,
+        final String expectedTitles
+    ) {
+        // given
+        mockVideos();
+
+        final var expectedPerPage = 3;
+        final var actualTitles = new ArrayList<String>();
+
+        // when
+        var aQuery = new VideoSearchQuery(0, expectedPerPage, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of(), "");
+        var actualPage = videoGateway.findAll(aQuery);
+        actualPage.items().forEach(it -> actualTitles.add(it.title()));
+
+        // then
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualPage.total());
+        Assertions.assertEquals(expectedPerPage, actualPage.items().size());
+        Assertions.assertTrue(actualPage.hasNext());
+
+        aQuery = new VideoSearchQuery(0, expectedPerPage, "", expectedSort, expectedDirection, Set.of(), Set.of(), Set.of(), actualPage.nextCursor());
+        actualPage = videoGateway.findAll(aQuery);
+        actualPage.items().forEach(it -> actualTitles.add(it.title()));
+
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertFalse(actualPage.hasNext());
+        Assertions.assertEquals(List.of(expectedTitles.split(";")), actualTitles);
+    }
+
+    @Test
+    void givenAFilterAndACursor_whenCallsFindAll_shouldApplyBoth() {
+        // given
+        mockVideos();
+
+        final var firstQuery = new VideoSearchQuery(0, 1, "", "title", "asc", Set.of(classes.getId()), Set.of(), Set.of(), "");
+
+        // when
+        final var firstPage = videoGateway.findAll(firstQuery);
+        final var secondPage = videoGateway.findAll(
+            new VideoSearchQuery(0, 1, "", "title", "asc", Set.of(classes.getId()), Set.of(), Set.of(), firstPage.nextCursor())
+        );
+
+        // then
+        Assertions.assertEquals("21.1 Implementação dos testes integrados do findAll", firstPage.items().get(0).title());
+        Assertions.assertEquals("Aula de empreendedorismo", secondPage.items().get(0).title());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    private static String packed(final String... ids) {
+        return "," + String.join(",", Arrays.stream(ids).sorted().toList()) + ",";
+    }
+
+    private long countStatements(final Runnable action) {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
             "System Design no Mercado Livre na prática",
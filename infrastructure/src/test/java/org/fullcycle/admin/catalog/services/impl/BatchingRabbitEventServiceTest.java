@@ -0,0 +1,160 @@
+package org.fullcycle.admin.catalog.services.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fullcycle.admin.catalog.domain.video.VideoMediaCreated;
+import org.fullcycle.admin.catalog.infrastructure.configuration.properties.amqp.PublisherProperties;
+import org.fullcycle.admin.catalog.infrastructure.services.impl.BatchingRabbitEventService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BatchingRabbitEventServiceTest {
+
+    private static final String EXCHANGE = "video.events";
+    private static final String ROUTING_KEY = "video.created";
+
+    @Test
+    void givenMoreEventsThanABatch_whenSendsAll_shouldPipelineThemPerBatchAndWaitForTheConfirms() {
+        final var rabbitOperations = rabbitOperations(true);
+        final var properties = properties(10, 100);
+
+        try (final var subject = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, rabbitOperations, properties)) {
+            subject.sendAll(events(25));
+
+            verify(rabbitOperations, times(25))
+                .convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class), any(CorrelationData.class));
+            verify(rabbitOperations, atLeast(3)).invoke(any());
+            assertEquals(25, subject.acked());
+            assertEquals(0, subject.inFlight());
+            assertEquals(0, subject.pending());
+        }
+    }
+
+    @Test
+    void givenSendsFillingABatch_whenSends_shouldPublishThemTogetherWithoutWaitingForTheFlushInterval() {
+        final var rabbitOperations = rabbitOperations(true);
+        final var properties = properties(10, 100);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+
+        try (final var subject = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, rabbitOperations, properties)) {
+            events(10).forEach(subject::send);
+
+            verify(rabbitOperations, timeout(1_000).times(10))
+                .convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class), any(CorrelationData.class));
+            verify(rabbitOperations, times(1)).invoke(any());
+        }
+    }
+
+    @Test
+    void givenSendsShortOfABatch_whenTheFlushIntervalPasses_shouldPublishThem() {
+        final var rabbitOperations = rabbitOperations(true);
+        final var properties = properties(10, 100);
+        properties.setFlushInterval(Duration.ofMillis(20));
+
+        try (final var subject = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, rabbitOperations, properties)) {
+            events(3).forEach(subject::send);
+
+            verify(rabbitOperations, timeout(1_000).times(3))
+                .convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class), any(CorrelationData.class));
+        }
+    }
+
+    @Test
+    void givenABrokerThatRejects_whenSendsAll_shouldThrowSoTheEventsAreKept() {
+        final var rabbitOperations = rabbitOperations(false);
+        final var properties = properties(10, 100);
+
+        try (final var subject = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, rabbitOperations, properties)) {
+            final var events = events(5);
+
+            assertThrows(AmqpException.class, () -> subject.sendAll(events));
+
+            assertEquals(5, subject.rejected());
+            assertEquals(0, subject.acked());
+        }
+    }
+
+    @Test
+    void givenABrokerThatStoppedConfirming_whenSendsAll_shouldPushBackOnTheCaller() {
+        final var rabbitOperations = rabbitOperations(null);
+        final var properties = properties(2, 2);
+        properties.setMaxPending(4);
+        properties.setSendTimeout(Duration.ofMillis(100));
+
+        try (final var subject = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, rabbitOperations, properties)) {
+            final var events = events(10);
+
+            assertThrows(AmqpException.class, () -> subject.sendAll(events));
+
+            assertEquals(2, subject.inFlight());
+            assertEquals(4, subject.pending());
+            assertEquals(0, subject.acked());
+        }
+    }
+
+    @Test
+    void givenAMeterRegistry_whenBinds_shouldExportTheCounters() {
+        final var rabbitOperations = rabbitOperations(true);
+        final var registry = new SimpleMeterRegistry();
+
+        try (final var subject = new BatchingRabbitEventService(EXCHANGE, ROUTING_KEY, rabbitOperations, properties(10, 100))) {
+            subject.bindTo(registry);
+            subject.sendAll(events(3));
+
+            assertEquals(3.0, registry.get("event.publisher.acked").tag("routing.key", ROUTING_KEY).functionCounter().count());
+            assertEquals(0.0, registry.get("event.publisher.rejected").functionCounter().count());
+            assertEquals(0.0, registry.get("event.publisher.in.flight").gauge().value());
+            assertEquals(0.0, registry.get("event.publisher.pending").gauge().value());
+        }
+    }
+
+    private static List<VideoMediaCreated> events(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> VideoMediaCreated.with("id-" + i, "file"))
+            .toList();
+    }
+
+    private static PublisherProperties properties(final int batchSize, final int maxInFlight) {
+        final var properties = new PublisherProperties();
+        properties.setMode(PublisherProperties.Mode.BATCHING);
+        properties.setBatchSize(batchSize);
+        properties.setMaxInFlight(maxInFlight);
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    // a null ack stands for a broker that never confirms
+    private static RabbitOperations rabbitOperations(final Boolean ack) {
+        final var rabbitOperations = Mockito.mock(RabbitOperations.class);
+
+        willAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(rabbitOperations))
+            .given(rabbitOperations).invoke(any());
+
+        willAnswer(invocation -> {
+            if (Objects.nonNull(ack)) {
+                invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nacked"));
+            }
+            return null;
+        }).given(rabbitOperations).convertAndSend(any(String.class), any(String.class), any(Object.class), any(CorrelationData.class));
+
+        return rabbitOperations;
+    }
+
+}
@@ -1,20 +1,30 @@
 package org.fullcycle.admin.catalog.services.impl;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import org.fullcycle.admin.catalog.domain.Fixtures;
 import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
 import org.fullcycle.admin.catalog.domain.utils.IdentifierUtils;
 import org.fullcycle.admin.catalog.domain.video.MediaType;
 import org.fullcycle.admin.catalog.infrastructure.services.impl.GoogleCloudStorageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,19 +52,19 @@ class GoogleCloudStorageServiceTest {
     }
 
     @Test
-    void givenAValidResource_whenCallsStore_shouldPersistIt() {
+    void givenAValidResource_whenCallsStore_shouldPersistIt() throws IOException {
         final var expectedFileName = IdentifierUtils.unique();
         final var expectedResource = Fixtures.ResourceFixture.resource(MediaType.VIDEO);
-        final var expectedBlob = mockBlob(expectedFileName, expectedResource);
+        final var written = new AtomicLong();
 
-        doReturn(expectedBlob)
-            .when(this.storage).create(any(BlobInfo.class), any());
+        doReturn(countingWriter(written))
+            .when(this.storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption[].class));
 
         this.service.store(expectedFileName, expectedResource);
 
         final var captor = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(this.storage).create(captor.capture(), eq(expectedResource.content()));
+        verify(this.storage).writer(captor.capture(), any(Storage.BlobWriteOption[].class));
 
         final var actualBlob = captor.getValue();
         assertThat(actualBlob.getBlobId().getBucket()).isEqualTo(BUCKET_NAME);
@@ -62,6 +72,34 @@ class GoogleCloudStorageServiceTest {
         assertThat(actualBlob.getName()).isEqualTo(expectedFileName);
         assertThat(actualBlob.getCrc32cToHexString()).isEqualTo(expectedResource.checksum());
         assertThat(actualBlob.getContentType()).isEqualTo(expectedResource.contentType());
+        assertThat(written.get()).isEqualTo(expectedResource.size());
+    }
+
+    @Test
+    void givenAFileLargerThanMaxHeap_whenCallsStore_shouldStreamItWithBoundedMemory(@TempDir final Path directory) throws IOException {
+        final var expectedFileName = IdentifierUtils.unique();
+        final var expectedSize = Runtime.getRuntime().maxMemory() + 64L * 1024 * 1024;
+        final var file = directory.resolve("large-video.mp4");
+
+        try (final var randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+            randomAccessFile.setLength(expectedSize);
+        }
+
+        final var expectedResource = Resource.with(
+            ResourceContent.of(() -> Files.newInputStream(file), expectedSize),
+            "video/mp4",
+            file.getFileName().toString()
+        );
+        final var written = new AtomicLong();
+
+        doReturn(countingWriter(written))
+            .when(this.storage).writer(any(BlobInfo.class), any(Storage.BlobWriteOption[].class));
+
+        this.service.store(expectedFileName, expectedResource);
+
+        assertThat(written.get()).isEqualTo(expectedSize);
+        assertThat(expectedResource.hasChecksum()).isTrue();
+        assertThat(expectedResource.checksum()).hasSize(8);
     }
 
     @Test
@@ -93,6 +131,31 @@ class GoogleCloudStorageServiceTest {
         verify(this.storage).get(eq(BUCKET_NAME), eq(expectedResource.name()));
     }
 
+    @Test
+    void givenAValidRange_whenReadsContentOfGetResource_shouldSeekAndLimitTheReader() throws IOException {
+        final var expectedResource = Fixtures.ResourceFixture.resource(MediaType.VIDEO);
+        final var expectedBlob = mockBlob(expectedResource.name(), expectedResource);
+        final var expectedReader = mock(ReadChannel.class);
+        final var expectedPosition = 3L;
+        final var expectedLength = 4L;
+
+        doReturn(expectedBlob)
+            .when(this.storage).get(anyString(), anyString());
+        doReturn(expectedReader)
+            .when(expectedBlob).reader();
+        when(expectedReader.isOpen()).thenReturn(true);
+        when(expectedReader.read(any(ByteBuffer.class))).thenReturn(-1);
+
+        final var actual = this.service.get(expectedResource.name()).orElseThrow();
+
+        try (final var ignored = actual.content().openStream(expectedPosition, expectedLength)) {
+            verify(expectedReader).seek(expectedPosition);
+            verify(expectedReader).limit(expectedPosition + expectedLength);
+        }
+
+        verify(expectedBlob, never()).getContent();
+    }
+
     @Test
     void givenAnInvalidParam_whenCallsGet_shouldBeReturnEmpty() {
         doReturn(null)
@@ -178,11 +241,24 @@ class GoogleCloudStorageServiceTest {
         verify(this.storage, never()).delete();
     }
 
+    private WriteChannel countingWriter(final AtomicLong written) throws IOException {
+        final var writer = mock(WriteChannel.class);
+        when(writer.isOpen()).thenReturn(true);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var remaining = buffer.remaining();
+            buffer.position(buffer.limit());
+            written.addAndGet(remaining);
+            return remaining;
+        });
+        return writer;
+    }
+
     private Blob mockBlob(final String fileName, final Resource resource) {
         final var blob = mock(Blob.class);
         when(blob.getBlobId()).thenReturn(BlobId.of(BUCKET_NAME, fileName));
         when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob.getContent()).thenReturn(resource.content());
+        when(blob.getSize()).thenReturn(resource.size());
         when(blob.getContentType()).thenReturn(resource.contentType());
         when(blob.getName()).thenReturn(resource.name());
         return blob;
@@ -0,0 +1,122 @@
+package org.fullcycle.admin.catalog.services.local;
+
+import org.fullcycle.admin.catalog.domain.Fixtures;
+import org.fullcycle.admin.catalog.domain.resource.Resource;
+import org.fullcycle.admin.catalog.domain.resource.ResourceContent;
+import org.fullcycle.admin.catalog.domain.video.MediaType;
+import org.fullcycle.admin.catalog.infrastructure.services.local.FileSystemStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemStorageServiceTest {
+
+    @TempDir
+    private Path root;
+
+    private FileSystemStorageService service;
+
+    @BeforeEach
+    void setup() {
+        this.service = new FileSystemStorageService(this.root);
+    }
+
+    @Test
+    void givenAValidParams_whenCallsStore_shouldWriteItToDisk() throws IOException {
+        final var resource = Fixtures.ResourceFixture.resource(MediaType.TRAILER);
+        final var expectedFileName = "videoId-123/type-%s".formatted(resource.name());
+
+        this.service.store(expectedFileName, resource);
+
+        final var actualPath = this.root.resolve(expectedFileName);
+
+        assertThat(actualPath).isRegularFile();
+        assertThat(Files.readAllBytes(actualPath)).isEqualTo(resource.content().readAllBytes());
+        assertThat(this.service.get(expectedFileName)).contains(resource);
+    }
+
+    @Test
+    void givenAnInvalidParams_whenCallsStore_shouldBeThrownException() {
+        final var resource = Fixtures.ResourceFixture.resource(MediaType.TRAILER);
+
+        assertThatThrownBy(() -> this.service.store(null, resource))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("fileName cannot be null");
+
+        assertThatThrownBy(() -> this.service.store(resource.name(), null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("resource cannot be null");
+
+        assertThatThrownBy(() -> this.service.store("../escape", resource))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenAStoredResource_whenReadsARange_shouldReturnOnlyTheRequestedBytes() throws IOException {
+        final var content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        final var resource = Resource.with(ResourceContent.of(content), "video/mp4", "video.mp4");
+
+        this.service.store("video", resource);
+
+        final var actual = this.service.get("video").orElseThrow();
+
+        assertThat(actual.size()).isEqualTo(content.length);
+        assertThat(actual.checksum()).isEqualTo(resource.checksum());
+
+        try (final var input = actual.content().openStream(3, 4)) {
+            assertThat(input.readAllBytes()).isEqualTo("3456".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThatThrownBy(() -> actual.content().openStream(8, 4))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenAnInvalidParam_whenCallsGet_shouldBeReturnEmpty() {
+        final var resource = Fixtures.ResourceFixture.resource(MediaType.TRAILER);
+
+        this.service.store(resource.name(), resource);
+
+        assertThat(this.service.get("invalid_name")).isEmpty();
+        assertThat(this.service.get("  ")).isEmpty();
+        assertThat(this.service.get(null)).isEmpty();
+    }
+
+    @Test
+    void givenAValidParam_whenCallsFindAll_shouldBeReturnResourceNameList() {
+        final var trailer = Fixtures.ResourceFixture.resource(MediaType.TRAILER);
+        final var banner = Fixtures.ResourceFixture.resource(MediaType.BANNER);
+
+        this.service.store(trailer.name(), trailer);
+        this.service.store(banner.name(), banner);
+
+        assertThat(this.service.findAll("TRA")).isEqualTo(List.of(MediaType.TRAILER.name()));
+        assertThat(this.service.findAll("foo")).isEmpty();
+        assertThat(this.service.findAll(null)).isEmpty();
+    }
+
+    @Test
+    void givenAValidParam_whenCallsDeleteAll_shouldRemoveFilesFromDisk() {
+        final var trailer = Fixtures.ResourceFixture.resource(MediaType.TRAILER);
+        final var banner = Fixtures.ResourceFixture.resource(MediaType.BANNER);
+
+        this.service.store(trailer.name(), trailer);
+        this.service.store(banner.name(), banner);
+
+        this.service.deleteAll(List.of(trailer.name()));
+
+        assertThat(this.root.resolve(trailer.name())).doesNotExist();
+        assertThat(this.service.get(trailer.name())).isEmpty();
+        assertThat(this.service.get(banner.name())).contains(banner);
+    }
+
+}